@@ -0,0 +1,88 @@
+package org.gbif.common.parsers.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+
+/**
+ * Loads the benchmark corpora from the classpath, i.e. the test resources the jmh profile adds to the build.
+ */
+final class Corpora {
+
+  private Corpora() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * @return all lines of the resource, gzipped if the name ends with .gz, without blank lines and # comments
+   */
+  static List<String> lines(String resource) {
+    InputStream in = Corpora.class.getResourceAsStream(resource);
+    if (in == null) {
+      throw new IllegalArgumentException("Missing corpus " + resource);
+    }
+    try {
+      if (resource.endsWith(".gz")) {
+        in = new GZIPInputStream(in);
+      }
+      BufferedReader reader = new BufferedReader(new InputStreamReader(in, Charsets.UTF_8));
+      try {
+        List<String> lines = new ArrayList<String>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (!line.trim().isEmpty() && !line.startsWith("#")) {
+            lines.add(line);
+          }
+        }
+        return lines;
+      } finally {
+        reader.close();
+      }
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to read corpus " + resource, e);
+    }
+  }
+
+  /**
+   * @param header true to skip the first line
+   *
+   * @return the given column of all lines split by the separator, lines without the column are skipped
+   */
+  static List<String> column(String resource, char separator, int column, boolean header) {
+    List<String> lines = lines(resource);
+    List<String> values = new ArrayList<String>(lines.size());
+    for (String line : lines.subList(header ? 1 : 0, lines.size())) {
+      List<String> parts = Splitter.on(separator).splitToList(line);
+      if (parts.size() > column) {
+        values.add(parts.get(column));
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Turns the keys of a dictionary file into verbatim values as found in the wild: as written, lower case and
+   * padded with whitespace.
+   */
+  static List<String> dictionaryKeys(String resource) {
+    List<String> values = new ArrayList<String>();
+    for (String key : column(resource, '\t', 0, false)) {
+      values.add(key);
+      values.add(key.toLowerCase(Locale.ENGLISH));
+      values.add(" " + key + "  ");
+    }
+    return values;
+  }
+
+  static String[] toArray(List<String> values) {
+    return values.toArray(new String[values.size()]);
+  }
+}
@@ -0,0 +1,20 @@
+package org.gbif.common.parsers.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per thread position in a corpus, so every benchmark invocation parses the next value and threads do not share
+ * a counter.
+ */
+@State(Scope.Thread)
+public class Cursor {
+
+  private int index;
+
+  int next(int length) {
+    int i = index;
+    index = i + 1 == length ? 0 : i + 1;
+    return i;
+  }
+}
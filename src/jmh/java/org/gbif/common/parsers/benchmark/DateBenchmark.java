@@ -0,0 +1,96 @@
+package org.gbif.common.parsers.benchmark;
+
+import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.date.DateParseUtils;
+import org.gbif.common.parsers.date.DateParsers;
+import org.gbif.common.parsers.date.TemporalParser;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Splitter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.bp.temporal.TemporalAccessor;
+
+/**
+ * Throughput of the date parsers. Full dates come from the threeten test files including the bad dates, atomized
+ * dates from the day, month and year columns of real occurrences.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateBenchmark {
+
+  private TemporalParser textDateParser;
+  private TemporalParser numericalDateParser;
+  private String[] dates;
+  private String[] numericalDates;
+  private String[][] dayMonthYears;
+
+  @Setup
+  public void setup() {
+    textDateParser = DateParsers.defaultTemporalParser();
+    numericalDateParser = DateParsers.defaultNumericalDateParser();
+
+    List<String> numerical = new ArrayList<String>();
+    numerical.addAll(Corpora.column("/parse/date/threeten_localdate_tests.txt", ';', 0, true));
+    numerical.addAll(Corpora.column("/parse/date/threeten_localdatetime_tests.txt", ';', 0, true));
+    numerical.addAll(Corpora.column("/parse/date/local_datetime_tz_tests.txt", ';', 0, false));
+    numerical.addAll(Corpora.column("/parse/date/threeten_bad_date_tests.txt", ';', 0, true));
+    numericalDates = Corpora.toArray(numerical);
+
+    List<String> all = new ArrayList<String>(numerical);
+    all.addAll(Corpora.column("/parse/date/textual_month_date_tokenizer_tests.txt", ';', 0, true));
+    dates = Corpora.toArray(all);
+
+    List<String> lines = Corpora.lines("/parse/date/dayMonthYear.txt.gz");
+    dayMonthYears = new String[lines.size()][];
+    Splitter tab = Splitter.on('\t');
+    for (int i = 0; i < lines.size(); i++) {
+      List<String> parts = tab.splitToList(lines.get(i));
+      dayMonthYears[i] = new String[] {parts.get(0), parts.size() > 1 ? parts.get(1) : null,
+        parts.size() > 2 ? parts.get(2) : null};
+    }
+  }
+
+  @Benchmark
+  public ParseResult<TemporalAccessor> textDateParser(Cursor cursor) {
+    return textDateParser.parse(dates[cursor.next(dates.length)]);
+  }
+
+  @Benchmark
+  public ParseResult<TemporalAccessor> textDateParserParts(Cursor cursor) {
+    String[] dmy = dayMonthYears[cursor.next(dayMonthYears.length)];
+    return textDateParser.parse(dmy[2], dmy[1], dmy[0]);
+  }
+
+  @Benchmark
+  public ParseResult<TemporalAccessor> numericalDateParser(Cursor cursor) {
+    return numericalDateParser.parse(numericalDates[cursor.next(numericalDates.length)]);
+  }
+
+  @Benchmark
+  public ParseResult<Date> dateParseUtils(Cursor cursor) {
+    return DateParseUtils.parse(dates[cursor.next(dates.length)]);
+  }
+
+  @Benchmark
+  public ParseResult<Date> dateParseUtilsParts(Cursor cursor) {
+    String[] dmy = dayMonthYears[cursor.next(dayMonthYears.length)];
+    return DateParseUtils.parse(dmy[2], dmy[1], dmy[0]);
+  }
+}
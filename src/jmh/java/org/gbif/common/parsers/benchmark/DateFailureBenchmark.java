@@ -0,0 +1,82 @@
+package org.gbif.common.parsers.benchmark;
+
+import org.gbif.common.parsers.date.DateFormatHint;
+import org.gbif.common.parsers.date.DateTimeParser;
+import org.gbif.common.parsers.date.DateTimeParserBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.DateTimeParseException;
+import org.threeten.bp.format.ResolverStyle;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Cost of a failed date parse: the exception thrown by {@link DateTimeFormatter#parseBest} against the
+ * {@link DateTimeParser} resolving the parsed fields itself. Both parse the bad dates of the threeten test file with
+ * the same pattern, none of which can be parsed. Values shorter than the pattern are left out, the parser would
+ * discard them on their length alone.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DateFailureBenchmark {
+
+  private static final String PATTERN = "uuuu-M-d[ HH:mm:ss]";
+  private static final int MIN_LENGTH = "uuuu-M-d".length();
+  private static final TemporalQuery<?>[] TYPES = new TemporalQuery<?>[]{LocalDateTime.FROM, LocalDate.FROM};
+
+  private DateTimeFormatter formatter;
+  private DateTimeParser parser;
+  private String[] badDates;
+
+  @Setup
+  public void setup() {
+    formatter = DateTimeFormatter.ofPattern(PATTERN).withResolverStyle(ResolverStyle.STRICT);
+    parser = DateTimeParserBuilder.newParserListBuilder()
+      .appendDateTimeParser(PATTERN, DateFormatHint.YMDT, TYPES)
+      .build().get(0);
+    List<String> values = new ArrayList<String>();
+    for (String value : Corpora.column("/parse/date/threeten_bad_date_tests.txt", ';', 0, true)) {
+      if (parser.parse(value) != null) {
+        throw new IllegalStateException("Not a bad date: " + value);
+      }
+      if (value.length() >= MIN_LENGTH) {
+        values.add(value);
+      }
+    }
+    badDates = Corpora.toArray(values);
+  }
+
+  @Benchmark
+  public TemporalAccessor exceptionFailure(Cursor cursor) {
+    try {
+      return formatter.parseBest(badDates[cursor.next(badDates.length)], TYPES);
+    } catch (DateTimeParseException e) {
+      return null;
+    }
+  }
+
+  @Benchmark
+  public TemporalAccessor resolverFailure(Cursor cursor) {
+    return parser.parse(badDates[cursor.next(badDates.length)]);
+  }
+}
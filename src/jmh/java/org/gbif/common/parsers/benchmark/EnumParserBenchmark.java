@@ -0,0 +1,100 @@
+package org.gbif.common.parsers.benchmark;
+
+import org.gbif.common.parsers.core.EnumParser;
+import org.gbif.common.parsers.core.ParseResult;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.collect.ImmutableMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of every enum dictionary parser. Countries and basis of record are parsed from the verbatim values
+ * of real occurrences, the other parsers from the keys of their own dictionary file in several spellings.
+ * Each parser is measured with and without the raw input cache, run with -t to measure contention on the cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParserBenchmark {
+
+  private static final Map<String, String> CORPORA = ImmutableMap.<String, String>builder()
+    .put("BasisOfRecordParser", "/parse/basisofrecord/test_bor.txt")
+    .put("CountryParser", "/parse/countryname/occurrence_countries.txt")
+    .build();
+
+  private static final Map<String, String> DICTIONARIES = ImmutableMap.<String, String>builder()
+    .put("CitesAppendixParser", "/dictionaries/parse/cites.txt")
+    .put("ContinentParser", "/dictionaries/parse/continents.txt")
+    .put("EstablishmentMeansParser", "/dictionaries/parse/establishment_means.txt")
+    .put("HabitatParser", "/dictionaries/parse/habitat.txt")
+    .put("KingdomParser", "/dictionaries/parse/kingdoms.txt")
+    .put("LanguageParser", "/dictionaries/parse/language.txt")
+    .put("LicenseParser", "/dictionaries/parse/license.txt")
+    .put("LifeStageParser", "/dictionaries/parse/life_stage.txt")
+    .put("MaintenanceUpdateFrequencyParser", "/dictionaries/parse/maintenanceUpdateFrequency.txt")
+    .put("MediaTypeParser", "/dictionaries/parse/media_type.txt")
+    .put("NomCodeParser", "/dictionaries/parse/nomCode.txt")
+    .put("NomStatusParser", "/dictionaries/parse/nomStatus.txt")
+    .put("OccurrenceStatusParser", "/dictionaries/parse/occurrence_status.txt")
+    .put("RankParser", "/dictionaries/parse/rank.txt")
+    .put("SexParser", "/dictionaries/parse/sex.txt")
+    .put("TaxStatusParser", "/dictionaries/parse/taxStatus.txt")
+    .put("ThreatStatusParser", "/dictionaries/parse/threat_status.txt")
+    .put("TypeStatusParser", "/dictionaries/parse/typeStatus.txt")
+    .build();
+
+  @Param({"BasisOfRecordParser", "CitesAppendixParser", "ContinentParser", "CountryParser",
+    "EstablishmentMeansParser", "HabitatParser", "KingdomParser", "LanguageParser", "LicenseParser",
+    "LifeStageParser", "MaintenanceUpdateFrequencyParser", "MediaTypeParser", "NomCodeParser", "NomStatusParser",
+    "OccurrenceStatusParser", "RankParser", "SexParser", "TaxStatusParser", "ThreatStatusParser",
+    "TypeStatusParser"})
+  public String parser;
+
+  /**
+   * The size of the raw input cache, zero disables it.
+   */
+  @Param({"0", "10000"})
+  public int cacheSize;
+
+  private EnumParser<?> instance;
+  private String[] values;
+
+  @Setup
+  public void setup() throws Exception {
+    instance = (EnumParser<?>) Class.forName("org.gbif.common.parsers." + parser).getMethod("getInstance")
+      .invoke(null);
+    instance.setCacheSize(cacheSize);
+    values = Corpora.toArray(CORPORA.containsKey(parser)
+      ? Corpora.lines(CORPORA.get(parser))
+      : Corpora.dictionaryKeys(DICTIONARIES.get(parser)));
+  }
+
+  @Benchmark
+  public ParseResult<?> parse(Cursor cursor) {
+    return instance.parse(values[cursor.next(values.length)]);
+  }
+
+  /**
+   * Parses in place through the region API, bypassing the cache.
+   */
+  @Benchmark
+  public ParseResult<?> parseRegion(Cursor cursor) {
+    String value = values[cursor.next(values.length)];
+    return instance.parse(value, 0, value.length());
+  }
+}
@@ -0,0 +1,110 @@
+package org.gbif.common.parsers.benchmark;
+
+import org.gbif.common.parsers.core.OccurrenceParseResult;
+import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.geospatial.CoordinateParseUtils;
+import org.gbif.common.parsers.geospatial.DatumParser;
+import org.gbif.common.parsers.geospatial.DoubleAccuracy;
+import org.gbif.common.parsers.geospatial.LatLng;
+import org.gbif.common.parsers.geospatial.MeterRangeParser;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the coordinate, datum and meter parsers. There are no coordinate or elevation corpora in the test
+ * resources, so a fixed seed generates the usual decimal, decimal comma, degree minute second and unit formats.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeospatialBenchmark {
+
+  private static final int SIZE = 10000;
+  private static final String[] UNITS = {"", "m", " m", " meters", "ft", " feet", "'"};
+
+  private String[] latitudes;
+  private String[] longitudes;
+  private String[] verbatimCoordinates;
+  private String[] meters;
+  private String[] datums;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(42);
+    latitudes = new String[SIZE];
+    longitudes = new String[SIZE];
+    verbatimCoordinates = new String[SIZE];
+    meters = new String[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      double lat = random.nextDouble() * 180 - 90;
+      double lng = random.nextDouble() * 360 - 180;
+      switch (i % 3) {
+        case 0:
+          latitudes[i] = String.valueOf(lat);
+          longitudes[i] = String.valueOf(lng);
+          break;
+        case 1:
+          latitudes[i] = String.format("%.4f", lat).replace('.', ',');
+          longitudes[i] = String.format("%.4f", lng).replace('.', ',');
+          break;
+        default:
+          latitudes[i] = dms(lat, "NS");
+          longitudes[i] = dms(lng, "EW");
+      }
+      verbatimCoordinates[i] = dms(lat, "NS") + " " + dms(lng, "EW");
+      meters[i] = random.nextInt(5000) + (i % 4 == 0 ? "." + random.nextInt(10) : "") + UNITS[i % UNITS.length];
+    }
+    datums = Corpora.toArray(Corpora.lines("/parse/test_datum.txt"));
+  }
+
+  private static String dms(double coordinate, String hemispheres) {
+    double abs = Math.abs(coordinate);
+    int degrees = (int) abs;
+    int minutes = (int) ((abs - degrees) * 60);
+    double seconds = ((abs - degrees) * 60 - minutes) * 60;
+    return String.format("%d°%02d'%05.2f\"%s", degrees, minutes, seconds,
+      hemispheres.charAt(coordinate < 0 ? 1 : 0));
+  }
+
+  @Benchmark
+  public OccurrenceParseResult<LatLng> parseLatLng(Cursor cursor) {
+    int i = cursor.next(SIZE);
+    return CoordinateParseUtils.parseLatLng(latitudes[i], longitudes[i]);
+  }
+
+  @Benchmark
+  public OccurrenceParseResult<LatLng> parseVerbatimCoordinates(Cursor cursor) {
+    return CoordinateParseUtils.parseVerbatimCoordinates(verbatimCoordinates[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public ParseResult<Double> parseMeters(Cursor cursor) {
+    return MeterRangeParser.parseMeters(meters[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public OccurrenceParseResult<DoubleAccuracy> parseElevation(Cursor cursor) {
+    int i = cursor.next(SIZE);
+    return MeterRangeParser.parseElevation(meters[i], meters[SIZE - 1 - i], null);
+  }
+
+  @Benchmark
+  public ParseResult<Integer> parseDatum(Cursor cursor) {
+    return DatumParser.getInstance().parse(datums[cursor.next(datums.length)]);
+  }
+}
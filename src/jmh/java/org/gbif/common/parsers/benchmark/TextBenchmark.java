@@ -0,0 +1,135 @@
+package org.gbif.common.parsers.benchmark;
+
+import org.gbif.common.parsers.MediaParser;
+import org.gbif.common.parsers.NumberParser;
+import org.gbif.common.parsers.UrlParser;
+import org.gbif.common.parsers.core.ASCIIParser;
+import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.utils.ClassificationUtils;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of the text, number, url, media type and classification utilities. ASCII folding runs on the verbatim
+ * country names of real occurrences, there are no corpora for the others in the test resources so their input is
+ * generated with a fixed seed or taken from a list of typical scientific names.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextBenchmark {
+
+  private static final int SIZE = 10000;
+  private static final String[] FORMATS = {"image/jpeg", "JPEG", "jpg", "image/png", "audio/mp3", "video/mp4",
+    "text/html", "application/pdf", "tiff", "unknown format"};
+  private static final String[] HOSTS = {"http://www.gbif.org", "https://api.gbif.org/v1", "www.example.org",
+    "ftp://ftp.example.com", "http://example.org/path with space"};
+  private static final String[] NAMES = {"Abies alba Mill.", "ABIES", "Puma concolor (Linnaeus, 1771)",
+    "Carex cayouettei", "Aster amellus L. var. bessarabicus", "Salix x rubens Schrank",
+    "Quercus robur subsp. robur", "Bacillus subtilis 168", "Achillea millefolium agg.", "Turdus merula L.1758",
+    "? Homo sapiens", "Rosa cv. Peace", "Felis catus Linnaeus,1758", "Lepidoptera", "Drosophila melanogaster"};
+  private static final String[] EXTENSIONS = {".jpg", ".png", ".html", "", ".mp3", ".pdf"};
+
+  private String[] countries;
+  private String[] names;
+  private String[] numbers;
+  private String[] integers;
+  private String[] urls;
+  private URI[] uris;
+  private String[] formats;
+
+  @Setup
+  public void setup() {
+    countries = Corpora.toArray(Corpora.lines("/parse/countryname/occurrence_countries.txt"));
+    Random random = new Random(42);
+    names = new String[SIZE];
+    numbers = new String[SIZE];
+    integers = new String[SIZE];
+    urls = new String[SIZE];
+    formats = new String[SIZE];
+    List<URI> validUris = new ArrayList<URI>();
+    for (int i = 0; i < SIZE; i++) {
+      double value = random.nextGaussian() * 1000;
+      switch (i % 4) {
+        case 0:
+          numbers[i] = String.valueOf(value);
+          break;
+        case 1:
+          numbers[i] = String.format("%.3f", value).replace('.', ',');
+          break;
+        case 2:
+          numbers[i] = " " + (int) value + " ";
+          break;
+        default:
+          numbers[i] = "ca. " + (int) value;
+      }
+      integers[i] = i % 10 == 0 ? "n/a" : String.valueOf(random.nextInt());
+      urls[i] = HOSTS[i % HOSTS.length] + "/media/" + random.nextInt(100000) + EXTENSIONS[i % EXTENSIONS.length];
+      URI uri = UrlParser.parse(urls[i]);
+      if (uri != null) {
+        validUris.add(uri);
+      }
+      formats[i] = FORMATS[random.nextInt(FORMATS.length)];
+      names[i] = NAMES[random.nextInt(NAMES.length)];
+    }
+    uris = validUris.toArray(new URI[validUris.size()]);
+  }
+
+  @Benchmark
+  public ParseResult<String> asciiFolding(Cursor cursor) {
+    return ASCIIParser.getInstance().parse(countries[cursor.next(countries.length)]);
+  }
+
+  @Benchmark
+  public Double parseDouble(Cursor cursor) {
+    return NumberParser.parseDouble(numbers[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public Integer parseInteger(Cursor cursor) {
+    return NumberParser.parseInteger(integers[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public URI parseUrl(Cursor cursor) {
+    return UrlParser.parse(urls[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public String parseMimeType(Cursor cursor) {
+    return MediaParser.getInstance().parseMimeType(formats[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public String parseMimeTypeOfUri(Cursor cursor) {
+    return MediaParser.getInstance().parseMimeType(uris[cursor.next(uris.length)]);
+  }
+
+  @Benchmark
+  public String cleanName(Cursor cursor) {
+    return ClassificationUtils.clean(names[cursor.next(SIZE)]);
+  }
+
+  @Benchmark
+  public String canonicalName(Cursor cursor) {
+    return ClassificationUtils.canonicalName(names[cursor.next(SIZE)]);
+  }
+}
@@ -10,20 +10,18 @@ import java.io.InputStream;
  */
 public class BasisOfRecordParser extends EnumParser<BasisOfRecord> {
 
-  private static BasisOfRecordParser singletonObject = null;
-
   private BasisOfRecordParser(InputStream... file) {
-    super(BasisOfRecord.class, false, file);
+    super(BasisOfRecord.class, false, Optimization.RAW_INPUT, file);
+  }
+
+  private static class LazyHolder {
+    private static final BasisOfRecordParser INSTANCE =
+      new BasisOfRecordParser(BasisOfRecordParser.class.getResourceAsStream("/dictionaries/parse/basisOfRecord.txt"));
   }
 
   public static BasisOfRecordParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (BasisOfRecordParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new BasisOfRecordParser(BasisOfRecordParser.class.getResourceAsStream("/dictionaries/parse/basisOfRecord.txt"));
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -7,21 +7,18 @@ import org.gbif.common.parsers.core.FileBasedDictionaryParser;
  */
 public class BooleanParser extends FileBasedDictionaryParser<Boolean> {
 
-  private static BooleanParser singletonObject = null;
-
   private BooleanParser() {
     super(false);
     // use dict file last
     init(BooleanParser.class.getResourceAsStream("/dictionaries/parse/boolean.txt"));
   }
 
+  private static class LazyHolder {
+    private static final BooleanParser INSTANCE = new BooleanParser();
+  }
+
   public static BooleanParser getInstance() {
-    synchronized (BooleanParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new BooleanParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
   @Override
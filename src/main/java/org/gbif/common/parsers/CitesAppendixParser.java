@@ -5,10 +5,8 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class CitesAppendixParser extends EnumParser<CitesAppendix> {
 
-  private static CitesAppendixParser singletonObject = null;
-
   private CitesAppendixParser() {
-    super(CitesAppendix.class, true);
+    super(CitesAppendix.class, true, Optimization.RAW_INPUT);
     // also make sure we have all official iso countries mapped
     for (CitesAppendix c : CitesAppendix.values()) {
       add(c.name(), c);
@@ -17,13 +15,12 @@ public class CitesAppendixParser extends EnumParser<CitesAppendix> {
     init(CitesAppendixParser.class.getResourceAsStream("/dictionaries/parse/cites.txt"));
   }
 
+  private static class LazyHolder {
+    private static final CitesAppendixParser INSTANCE = new CitesAppendixParser();
+  }
+
   public static CitesAppendixParser getInstance() {
-    synchronized (CitesAppendixParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new CitesAppendixParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -8,10 +8,8 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class ContinentParser extends EnumParser<Continent> {
 
-  private static ContinentParser singletonObject = null;
-
   private ContinentParser() {
-    super(Continent.class, false);
+    super(Continent.class, false, Optimization.RAW_INPUT);
     // make sure we have all continents from the enum
     for (Continent c : Continent.values()) {
       add(c.name(), c);
@@ -21,13 +19,12 @@ public class ContinentParser extends EnumParser<Continent> {
     init(ContinentParser.class.getResourceAsStream("/dictionaries/parse/continents.txt"));
   }
 
+  private static class LazyHolder {
+    private static final ContinentParser INSTANCE = new ContinentParser();
+  }
+
   public static ContinentParser getInstance() {
-    synchronized (ContinentParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new ContinentParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
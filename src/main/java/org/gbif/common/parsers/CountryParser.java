@@ -4,26 +4,21 @@ import org.gbif.api.util.VocabularyUtils;
 import org.gbif.api.vocabulary.Country;
 import org.gbif.common.parsers.core.EnumParser;
 
-import java.util.regex.Pattern;
-
 import com.google.common.base.CharMatcher;
-import com.google.common.base.Strings;
 
 /**
  * Singleton implementation of the dictionary that uses the file /dictionaries/parse/countryName.txt.
  */
 public class CountryParser extends EnumParser<Country> {
 
-  private static CountryParser singletonObject = null;
-
   private static final CharMatcher LETTER_MATCHER = CharMatcher.JAVA_LETTER.or(CharMatcher.WHITESPACE).precomputed();
   private static final CharMatcher WHITESPACE_MATCHER = CharMatcher.WHITESPACE.precomputed();
-  // "off Australia"
-  private static final Pattern REMOVE_OFF_PATTERN = Pattern.compile("off ", Pattern.CASE_INSENSITIVE);
+  // "off Australia", lower case as matched by setting the ASCII case bit
+  private static final String OFF = "off ";
 
 
   private CountryParser() {
-    super(Country.class, false);
+    super(Country.class, false, Optimization.DIRECT_LOOKUP);
     // also make sure we have all official iso countries mapped
     for (Country c : Country.OFFICIAL_COUNTRIES) {
       add(c.name(), c);
@@ -35,17 +30,59 @@ public class CountryParser extends EnumParser<Country> {
     init(CountryParser.class.getResourceAsStream("/dictionaries/parse/countryName.txt"));
   }
 
+  private static final ThreadLocal<StringBuilder> CLEANED = new ThreadLocal<StringBuilder>() {
+    @Override
+    protected StringBuilder initialValue() {
+      return new StringBuilder(64);
+    }
+  };
+
   @Override
-  protected String normalize(String value) {
-    value = handleNotAvailable(value);
-    if (value != null) {
-      String cleanedCountry = LETTER_MATCHER.retainFrom(value);
-      cleanedCountry = REMOVE_OFF_PATTERN.matcher(cleanedCountry).replaceFirst("");
-      cleanedCountry = WHITESPACE_MATCHER.trimAndCollapseFrom(cleanedCountry, ' ');
-      cleanedCountry = Strings.emptyToNull(cleanedCountry);
-      return super.normalize(cleanedCountry);
+  protected boolean normalizeTo(CharSequence value, StringBuilder buffer) {
+    if (value == null || isNotAvailable(value)) {
+      return false;
+    }
+    StringBuilder cleaned = CLEANED.get();
+    cleaned.setLength(0);
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (LETTER_MATCHER.matches(c)) {
+        cleaned.append(c);
+      }
     }
-    return null;
+    removeFirstOff(cleaned);
+    trim(cleaned);
+    // whitespace is dropped by the key normalization, so no need to collapse it
+    return cleaned.length() > 0 && super.normalizeTo(cleaned, buffer);
+  }
+
+  /**
+   * Removes the first "off " ignoring case, e.g. in "off Australia".
+   */
+  private static void removeFirstOff(StringBuilder sb) {
+    for (int i = 0; i + OFF.length() <= sb.length(); i++) {
+      int j = 0;
+      while (j < OFF.length() && (sb.charAt(i + j) | 0x20) == OFF.charAt(j)) {
+        j++;
+      }
+      if (j == OFF.length()) {
+        sb.delete(i, i + OFF.length());
+        return;
+      }
+    }
+  }
+
+  private static void trim(StringBuilder sb) {
+    int end = sb.length();
+    while (end > 0 && WHITESPACE_MATCHER.matches(sb.charAt(end - 1))) {
+      end--;
+    }
+    sb.setLength(end);
+    int start = 0;
+    while (start < end && WHITESPACE_MATCHER.matches(sb.charAt(start))) {
+      start++;
+    }
+    sb.delete(0, start);
   }
 
   @Override
@@ -60,13 +97,12 @@ public class CountryParser extends EnumParser<Country> {
     return c;
   }
 
+  private static class LazyHolder {
+    private static final CountryParser INSTANCE = new CountryParser();
+  }
+
   public static CountryParser getInstance() {
-    synchronized (CountryParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new CountryParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -5,10 +5,8 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class EstablishmentMeansParser extends EnumParser<EstablishmentMeans> {
 
-  private static EstablishmentMeansParser singletonObject = null;
-
   private EstablishmentMeansParser() {
-    super(EstablishmentMeans.class, false);
+    super(EstablishmentMeans.class, false, Optimization.RAW_INPUT);
     // also make sure we have all official iso countries mapped
     for (EstablishmentMeans c : EstablishmentMeans.values()) {
       add(c.name(), c);
@@ -17,13 +15,12 @@ public class EstablishmentMeansParser extends EnumParser<EstablishmentMeans> {
     init(EstablishmentMeansParser.class.getResourceAsStream("/dictionaries/parse/establishment_means.txt"));
   }
 
+  private static class LazyHolder {
+    private static final EstablishmentMeansParser INSTANCE = new EstablishmentMeansParser();
+  }
+
   public static EstablishmentMeansParser getInstance() {
-    synchronized (EstablishmentMeansParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new EstablishmentMeansParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -8,32 +8,39 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class HabitatParser extends EnumParser<Habitat> {
 
-  private static HabitatParser singletonObject = null;
-
   private HabitatParser() {
-    super(Habitat.class, false, HabitatParser.class.getResourceAsStream("/dictionaries/parse/habitat.txt"));
+    super(Habitat.class, false, Optimization.DIRECT_LOOKUP, HabitatParser.class.getResourceAsStream("/dictionaries/parse/habitat.txt"));
+  }
+
+  private static class LazyHolder {
+    private static final HabitatParser INSTANCE = new HabitatParser();
   }
 
   public static HabitatParser getInstance() {
-    synchronized (HabitatParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new HabitatParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
   /**
-   * Strip of any s at the end often found in english plurals
+   * Gives the same key as {@link #normalizeTo(CharSequence, StringBuilder)}.
    */
   @Override
   protected String normalize(String value) {
-    String x = super.normalize(value);
-    if (x != null && x.length() > 1) {
-      if (x.endsWith("S")) {
-        return x.substring(0, x.length()-1);
-      }
+    return super.normalize(value);
+  }
+
+  /**
+   * Strip of any s at the end often found in english plurals
+   */
+  @Override
+  protected boolean normalizeTo(CharSequence value, StringBuilder buffer) {
+    int start = buffer.length();
+    if (!super.normalizeTo(value, buffer)) {
+      return false;
+    }
+    int end = buffer.length();
+    if (end - start > 1 && buffer.charAt(end - 1) == 'S') {
+      buffer.setLength(end - 1);
     }
-    return x;
+    return true;
   }
 }
@@ -4,10 +4,9 @@ import org.gbif.api.vocabulary.Kingdom;
 import org.gbif.common.parsers.core.EnumParser;
 
 public class KingdomParser extends EnumParser<Kingdom> {
-    private static KingdomParser singletonObject = null;
 
     private KingdomParser() {
-        super(Kingdom.class, false);
+        super(Kingdom.class, false, Optimization.RAW_INPUT);
         // make sure we have all continents from the enum
         for (Kingdom k : Kingdom.values()) {
             add(k.name(), k);
@@ -16,12 +15,11 @@ public class KingdomParser extends EnumParser<Kingdom> {
         init(KingdomParser.class.getResourceAsStream("/dictionaries/parse/kingdoms.txt"));
     }
 
+    private static class LazyHolder {
+        private static final KingdomParser INSTANCE = new KingdomParser();
+    }
+
     public static KingdomParser getInstance() {
-        synchronized (KingdomParser.class) {
-            if (singletonObject == null) {
-                singletonObject = new KingdomParser();
-            }
-        }
-        return singletonObject;
+        return LazyHolder.INSTANCE;
     }
 }
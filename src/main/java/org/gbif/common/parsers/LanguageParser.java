@@ -23,7 +23,6 @@ import org.apache.commons.lang3.StringUtils;
  */
 public class LanguageParser extends EnumParser<Language> {
 
-  private static LanguageParser singletonObject = null;
   private static final Pattern LOCALE = Pattern.compile("^[a-zA-Z]{2,3}_[a-zA-Z]");
   private static final List<Pattern> REMOVE_FROM_NAME_PATTERNS = ImmutableList.of(
       // remove brackets
@@ -37,6 +36,10 @@ public class LanguageParser extends EnumParser<Language> {
 
   private LanguageParser() {
     super(Language.class, false, LanguageParser.class.getResourceAsStream("/dictionaries/parse/language.txt"));
+    if (isLoadedFromSnapshot()) {
+      // avoid iterating all locales and reading the ISO files, their entries are part of the snapshot
+      return;
+    }
 
     // make sure we have all enum values mapped
     for (Language r : Language.values()) {
@@ -168,12 +171,11 @@ public class LanguageParser extends EnumParser<Language> {
     return null;
   }
 
+  private static class LazyHolder {
+    private static final LanguageParser INSTANCE = new LanguageParser();
+  }
+
   public static LanguageParser getInstance() {
-    synchronized (LanguageParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LanguageParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 }
@@ -27,7 +27,6 @@ public class LicenseParser extends EnumParser<License> {
   private static final String LICENSE_FILEPATH = "/dictionaries/parse/license.txt";
   //allows us to remove the protocol part for http:// and https://
   private static final Pattern REMOVE_HTTP_PATTERN = Pattern.compile("^https?:\\/\\/", Pattern.CASE_INSENSITIVE);
-  private static LicenseParser singletonObject = null;
 
   private LicenseParser() {
     super(License.class, true);
@@ -49,13 +48,12 @@ public class LicenseParser extends EnumParser<License> {
     return super.normalize(REMOVE_HTTP_PATTERN.matcher(value).replaceAll(""));
   }
 
+  private static class LazyHolder {
+    private static final LicenseParser INSTANCE = new LicenseParser();
+  }
+
   public static LicenseParser getInstance() {
-    synchronized (ContinentParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LicenseParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
   /**
@@ -74,14 +72,14 @@ public class LicenseParser extends EnumParser<License> {
     }
 
     if (uri != null) {
-      ParseResult<License> result = singletonObject.parse(uri.toString());
+      ParseResult<License> result = parse(uri.toString());
       if (result.isSuccessful()) {
         return result.getPayload();
       }
     }
 
     if (!Strings.isNullOrEmpty(title)) {
-      ParseResult<License> result = singletonObject.parse(title);
+      ParseResult<License> result = parse(title);
       if (result.isSuccessful()) {
         return result.getPayload();
       }
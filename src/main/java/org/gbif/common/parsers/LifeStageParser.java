@@ -8,10 +8,8 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class LifeStageParser extends EnumParser<LifeStage> {
 
-  private static LifeStageParser singletonObject = null;
-
   private LifeStageParser() {
-    super(LifeStage.class, false);
+    super(LifeStage.class, false, Optimization.RAW_INPUT);
     // make sure we have all life_stage from the enum
     for (LifeStage c : LifeStage.values()) {
       add(c.name(), c);
@@ -20,13 +18,12 @@ public class LifeStageParser extends EnumParser<LifeStage> {
     init(LifeStageParser.class.getResourceAsStream("/dictionaries/parse/life_stage.txt"));
   }
 
+  private static class LazyHolder {
+    private static final LifeStageParser INSTANCE = new LifeStageParser();
+  }
+
   public static LifeStageParser getInstance() {
-    synchronized (LifeStageParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new LifeStageParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
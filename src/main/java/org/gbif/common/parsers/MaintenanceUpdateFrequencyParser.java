@@ -8,10 +8,8 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class MaintenanceUpdateFrequencyParser extends EnumParser<MaintenanceUpdateFrequency> {
 
-  private static MaintenanceUpdateFrequencyParser singletonObject = null;
-
   private MaintenanceUpdateFrequencyParser() {
-    super(MaintenanceUpdateFrequency.class, false);
+    super(MaintenanceUpdateFrequency.class, false, Optimization.RAW_INPUT);
     // make sure we have all values from the enum
     for (MaintenanceUpdateFrequency m : MaintenanceUpdateFrequency.values()) {
       add(m.name(), m);
@@ -21,12 +19,11 @@ public class MaintenanceUpdateFrequencyParser extends EnumParser<MaintenanceUpda
       MaintenanceUpdateFrequencyParser.class.getResourceAsStream("/dictionaries/parse/maintenanceUpdateFrequency.txt"));
   }
 
+  private static class LazyHolder {
+    private static final MaintenanceUpdateFrequencyParser INSTANCE = new MaintenanceUpdateFrequencyParser();
+  }
+
   public static MaintenanceUpdateFrequencyParser getInstance() {
-    synchronized (MaintenanceUpdateFrequencyParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new MaintenanceUpdateFrequencyParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 }
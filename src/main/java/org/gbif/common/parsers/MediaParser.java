@@ -25,15 +25,13 @@ public class MediaParser {
   private static final Set<String> HTML_MIME_TYPES = ImmutableSet
     .of("text/x-coldfusion", "text/x-php", "text/asp", "text/aspdotnet", "text/x-cgi", "text/x-jsp", "text/x-perl",
       HTML_TYPE, MIME_TYPES.OCTET_STREAM);
-  private static MediaParser instance = null;
+
+  private static class LazyHolder {
+    private static final MediaParser INSTANCE = new MediaParser();
+  }
 
   public static MediaParser getInstance() {
-    synchronized (MediaParser.class) {
-      if (instance == null) {
-        instance = new MediaParser();
-      }
-    }
-    return instance;
+    return LazyHolder.INSTANCE;
   }
 
   public MediaObject detectType(MediaObject mo) {
@@ -9,10 +9,8 @@ import org.gbif.dwc.terms.DcTerm;
  */
 public class MediaTypeParser extends EnumParser<MediaType> {
 
-  private static MediaTypeParser singletonObject = null;
-
   private MediaTypeParser() {
-    super(MediaType.class, false);
+    super(MediaType.class, false, Optimization.RAW_INPUT);
     // make sure we have media_type from the enum
     for (MediaType c : MediaType.values()) {
       add(c.name(), c);
@@ -23,13 +21,12 @@ public class MediaTypeParser extends EnumParser<MediaType> {
     init(MediaTypeParser.class.getResourceAsStream("/dictionaries/parse/media_type.txt"));
   }
 
+  private static class LazyHolder {
+    private static final MediaTypeParser INSTANCE = new MediaTypeParser();
+  }
+
   public static MediaTypeParser getInstance() {
-    synchronized (MediaTypeParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new MediaTypeParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -10,10 +10,8 @@ import java.io.InputStream;
  */
 public class NomCodeParser extends EnumParser<NomenclaturalCode> {
 
-    private static NomCodeParser singletonObject = null;
-
     private NomCodeParser(InputStream... file) {
-        super(NomenclaturalCode.class, false, file);
+        super(NomenclaturalCode.class, false, Optimization.RAW_INPUT, file);
         // also make sure we have all enum knowledge mapped
         for (NomenclaturalCode c : NomenclaturalCode.values()) {
             add(c.getAcronym(), c);
@@ -21,14 +19,14 @@ public class NomCodeParser extends EnumParser<NomenclaturalCode> {
         }
     }
 
+    private static class LazyHolder {
+        private static final NomCodeParser INSTANCE =
+            new NomCodeParser(NomCodeParser.class.getResourceAsStream("/dictionaries/parse/nomCode.txt"));
+    }
+
     public static NomCodeParser getInstance()
         throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-        synchronized (NomCodeParser.class) {
-            if (singletonObject == null) {
-                singletonObject = new NomCodeParser(NomCodeParser.class.getResourceAsStream("/dictionaries/parse/nomCode.txt"));
-            }
-        }
-        return singletonObject;
+        return LazyHolder.INSTANCE;
     }
 
 
@@ -24,10 +24,9 @@ public class NomStatusParser extends EnumParser<NomenclaturalStatus> {
         .put("nom rej", NomenclaturalStatus.REJECTED)
         .put("unavailable", NomenclaturalStatus.INVALID)
         .build();
-  private static NomStatusParser singletonObject = null;
 
   private NomStatusParser(InputStream... file) {
-    super(NomenclaturalStatus.class, false, file);
+    super(NomenclaturalStatus.class, false, Optimization.SINGLE_PASS, file);
     // also make sure we have all enum knowledge mapped
     for (NomenclaturalStatus ns : NomenclaturalStatus.values()) {
       add(ns.getLatinLabel(), ns);
@@ -36,30 +35,27 @@ public class NomStatusParser extends EnumParser<NomenclaturalStatus> {
   }
 
     @Override
-    public ParseResult<NomenclaturalStatus> parse(String input) {
-        ParseResult<NomenclaturalStatus> result = super.parse(input);
-        if (!result.isSuccessful() && !Strings.isNullOrEmpty(input)) {
-            String normed = CLEAN_PREFIX.matcher(input).replaceFirst(" ").trim().toLowerCase();
-            if (!Strings.isNullOrEmpty(normed)) {
-                // try generic parsing of status prefixes only
-                for (Map.Entry<String, NomenclaturalStatus> entry : PREFIXES.entrySet()) {
-                    if (normed.startsWith(entry.getKey())) {
-                        return ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, entry.getValue());
-                    }
+    protected ParseResult<NomenclaturalStatus> parseFallback(String input, ParseResult<NomenclaturalStatus> miss) {
+        String normed = CLEAN_PREFIX.matcher(input).replaceFirst(" ").trim().toLowerCase();
+        if (!Strings.isNullOrEmpty(normed)) {
+            // try generic parsing of status prefixes only
+            for (Map.Entry<String, NomenclaturalStatus> entry : PREFIXES.entrySet()) {
+                if (normed.startsWith(entry.getKey())) {
+                    return ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, entry.getValue());
                 }
             }
         }
-        return result;
+        return miss;
     }
 
+  private static class LazyHolder {
+    private static final NomStatusParser INSTANCE =
+      new NomStatusParser(NomStatusParser.class.getResourceAsStream("/dictionaries/parse/nomStatus.txt"));
+  }
+
     public static NomStatusParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (NomStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new NomStatusParser(NomStatusParser.class.getResourceAsStream("/dictionaries/parse/nomStatus.txt"));
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 
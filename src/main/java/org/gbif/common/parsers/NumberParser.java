@@ -10,9 +10,23 @@ import com.google.common.base.Strings;
 /**
  * Utils class to parse numbers trying various locales so that dots and comma based formats are both supported.
  * All methods swallow exceptions and return null instead.
+ *
+ * Regions of a character sequence can be parsed without a substring, plain decimal numbers are parsed in place and
+ * only other formats fall back to the String based methods.
  */
 public class NumberParser {
 
+  // doubles up to 2^53 and powers of ten up to 10^22 are exact, so a single division rounds correctly
+  private static final long MAX_EXACT_MANTISSA = 1L << 53;
+  private static final double[] POWERS_OF_TEN = new double[23];
+
+  static {
+    POWERS_OF_TEN[0] = 1;
+    for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+    }
+  }
+
   private NumberParser() {
 
   }
@@ -52,4 +66,74 @@ public class NumberParser {
     }
     return null;
   }
+
+  /**
+   * Parses the region of the input between the indices from, inclusive, and to, exclusive, like
+   * {@link #parseDouble(String)} does for the substring.
+   */
+  public static Double parseDouble(CharSequence x, final int from, final int to) {
+    if (x == null) return null;
+    int start = from;
+    int end = to;
+    while (start < end && x.charAt(start) <= ' ') start++;
+    while (end > start && x.charAt(end - 1) <= ' ') end--;
+    if (start == end) return null;
+
+    int i = start;
+    boolean negative = x.charAt(i) == '-';
+    if (negative || x.charAt(i) == '+') i++;
+    long mantissa = 0;
+    int digits = 0;
+    int decimals = -1;
+    for (; i < end; i++) {
+      char c = x.charAt(i);
+      if (c >= '0' && c <= '9') {
+        mantissa = mantissa * 10 + (c - '0');
+        digits++;
+        if (decimals >= 0) decimals++;
+        if (mantissa >= MAX_EXACT_MANTISSA) break;
+      } else if (c == '.' && decimals < 0) {
+        decimals = 0;
+      } else {
+        break;
+      }
+    }
+    if (i == end && digits > 0 && decimals < POWERS_OF_TEN.length) {
+      double value = decimals > 0 ? mantissa / POWERS_OF_TEN[decimals] : mantissa;
+      return negative ? -value : value;
+    }
+    return parseDouble(x.subSequence(from, to).toString());
+  }
+
+  /**
+   * Parses the region of the input between the indices from, inclusive, and to, exclusive, like
+   * {@link #parseInteger(String)} does for the substring.
+   */
+  public static Integer parseInteger(CharSequence x, final int from, final int to) {
+    if (x == null) return null;
+    int start = from;
+    int end = to;
+    while (start < end && x.charAt(start) <= ' ') start++;
+    while (end > start && x.charAt(end - 1) <= ' ') end--;
+    if (start == end) return null;
+
+    // a plus sign is left to the String based parsing as it only accepts it without surrounding whitespace
+    int i = start;
+    boolean negative = x.charAt(i) == '-';
+    if (negative) i++;
+    // accumulate negatively as the negative range is larger
+    long value = 0;
+    for (; i < end; i++) {
+      char c = x.charAt(i);
+      if (c < '0' || c > '9' || value < Integer.MIN_VALUE) break;
+      value = value * 10 - (c - '0');
+    }
+    if (i == end && i > start + (negative ? 1 : 0)) {
+      long result = negative ? value : -value;
+      if (result >= Integer.MIN_VALUE && result <= Integer.MAX_VALUE) {
+        return (int) result;
+      }
+    }
+    return parseInteger(x.subSequence(from, to).toString());
+  }
 }
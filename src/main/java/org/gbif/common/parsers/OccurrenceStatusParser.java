@@ -5,10 +5,8 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class OccurrenceStatusParser extends EnumParser<OccurrenceStatus> {
 
-  private static OccurrenceStatusParser singletonObject = null;
-
   private OccurrenceStatusParser() {
-    super(OccurrenceStatus.class, false);
+    super(OccurrenceStatus.class, false, Optimization.RAW_INPUT);
     // make sure we have all occurrence_status enum mapped
     for (OccurrenceStatus c : OccurrenceStatus.values()) {
       add(c.name(), c);
@@ -17,13 +15,12 @@ public class OccurrenceStatusParser extends EnumParser<OccurrenceStatus> {
     init(OccurrenceStatusParser.class.getResourceAsStream("/dictionaries/parse/occurrence_status.txt"));
   }
 
+  private static class LazyHolder {
+    private static final OccurrenceStatusParser INSTANCE = new OccurrenceStatusParser();
+  }
+
   public static OccurrenceStatusParser getInstance() {
-    synchronized (OccurrenceStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new OccurrenceStatusParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -0,0 +1,175 @@
+package org.gbif.common.parsers;
+
+import org.gbif.common.parsers.core.ASCIIParser;
+import org.gbif.common.parsers.core.FileBasedDictionaryParser;
+import org.gbif.common.parsers.core.Metrics;
+import org.gbif.common.parsers.core.ParserMonitor;
+import org.gbif.common.parsers.date.DateParsers;
+import org.gbif.common.parsers.geospatial.DatumParser;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import com.google.common.collect.ImmutableList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Entry point to initialize all parser singletons up front and to manage their dictionaries.
+ * Building the dictionaries takes a while, so services might want to do this at start up instead of on the first
+ * record they interpret.
+ */
+public final class Parsers {
+
+  private static final Logger LOG = LoggerFactory.getLogger(Parsers.class);
+
+  /**
+   * All parser classes providing a static getInstance() method.
+   */
+  static final List<Class<?>> SINGLETONS = ImmutableList.<Class<?>>of(
+    ASCIIParser.class,
+    BasisOfRecordParser.class,
+    BooleanParser.class,
+    CitesAppendixParser.class,
+    ContinentParser.class,
+    CountryParser.class,
+    DatumParser.class,
+    EstablishmentMeansParser.class,
+    HabitatParser.class,
+    KingdomParser.class,
+    LanguageParser.class,
+    LicenseParser.class,
+    LifeStageParser.class,
+    MaintenanceUpdateFrequencyParser.class,
+    MediaParser.class,
+    MediaTypeParser.class,
+    NomCodeParser.class,
+    NomStatusParser.class,
+    OccurrenceStatusParser.class,
+    RankParser.class,
+    SexParser.class,
+    TaxStatusParser.class,
+    ThreatStatusParser.class,
+    TypeStatusParser.class,
+    TypifiedNameParser.class
+  );
+
+  private Parsers() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Initializes all parser singletons and the date formatters in parallel and waits until all are done.
+   *
+   * @param executor to run the initialization tasks on, one per parser
+   *
+   * @throws IllegalStateException if a parser failed to initialize
+   * @throws InterruptedException if interrupted while waiting for the parsers
+   */
+  public static void warmUp(Executor executor) throws InterruptedException {
+    final long start = System.currentTimeMillis();
+    final CountDownLatch latch = new CountDownLatch(SINGLETONS.size() + 1);
+    final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+
+    for (final Class<?> parserClass : SINGLETONS) {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            parserClass.getMethod("getInstance").invoke(null);
+          } catch (Throwable e) {
+            failure.compareAndSet(null, e);
+          } finally {
+            latch.countDown();
+          }
+        }
+      });
+    }
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          DateParsers.defaultTemporalParser().parse("2016-01-01");
+        } catch (Throwable e) {
+          failure.compareAndSet(null, e);
+        } finally {
+          latch.countDown();
+        }
+      }
+    });
+
+    latch.await();
+    if (failure.get() != null) {
+      throw new IllegalStateException("Failed to initialize parsers", failure.get());
+    }
+    LOG.info("Initialized {} parsers in {} ms", SINGLETONS.size(), System.currentTimeMillis() - start);
+  }
+
+  /**
+   * Registers an MBean for every parser singleton and the default date parsers, see {@link ParserMonitor}.
+   * Parsers already registered are left untouched, so calling this repeatedly is safe.
+   *
+   * @param collectMetrics true to set a process wide {@link org.gbif.common.parsers.core.CollectingMetricsSink}
+   * unless one is set already, so the MBeans report parse counts
+   *
+   * @return the number of newly registered parsers
+   */
+  public static int registerMBeans(boolean collectMetrics) {
+    if (collectMetrics && !ParserMonitor.collectMetrics()) {
+      LOG.warn("Another metrics sink is set, parse counts of the parser MBeans are unavailable");
+    }
+    int registered = 0;
+    for (Object parser : instances()) {
+      if (ParserMonitor.register(parser)) {
+        registered++;
+      }
+    }
+    LOG.info("Registered {} parser MBeans", registered);
+    return registered;
+  }
+
+  /**
+   * Removes the MBeans registered by {@link #registerMBeans(boolean)}.
+   */
+  public static void unregisterMBeans() {
+    for (Object parser : instances()) {
+      ParserMonitor.unregister(Metrics.name(parser.getClass()));
+    }
+  }
+
+  private static List<Object> instances() {
+    ImmutableList.Builder<Object> instances = ImmutableList.builder();
+    for (Class<?> parserClass : SINGLETONS) {
+      try {
+        instances.add(parserClass.getMethod("getInstance").invoke(null));
+      } catch (Exception e) {
+        throw new IllegalStateException("Failed to get instance of " + parserClass.getSimpleName(), e);
+      }
+    }
+    instances.add(DateParsers.defaultTemporalParser());
+    instances.add(DateParsers.defaultNumericalDateParser());
+    return instances.build();
+  }
+
+  /**
+   * Makes all dictionary parsers watch their override file in the given directory.
+   *
+   * @see FileBasedDictionaryParser#watch(File, long, TimeUnit)
+   */
+  public static void watchDictionaries(File directory, long interval, TimeUnit unit) {
+    for (Class<?> parserClass : SINGLETONS) {
+      if (FileBasedDictionaryParser.class.isAssignableFrom(parserClass)) {
+        try {
+          ((FileBasedDictionaryParser<?>) parserClass.getMethod("getInstance").invoke(null))
+            .watch(directory, interval, unit);
+        } catch (Exception e) {
+          throw new IllegalStateException("Failed to watch dictionary of " + parserClass.getSimpleName(), e);
+        }
+      }
+    }
+  }
+}
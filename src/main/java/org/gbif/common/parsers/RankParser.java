@@ -10,10 +10,8 @@ import java.io.InputStream;
  */
 public class RankParser extends EnumParser<Rank> {
 
-  private static RankParser singletonObject = null;
-
   private RankParser(InputStream... file) {
-    super(Rank.class, false, file);
+    super(Rank.class, false, Optimization.RAW_INPUT, file);
     // also make sure we have all enum values mapped
     for (Rank r : Rank.values()) {
       add(r.name(), r);
@@ -21,14 +19,14 @@ public class RankParser extends EnumParser<Rank> {
     }
   }
 
+  private static class LazyHolder {
+    private static final RankParser INSTANCE =
+      new RankParser(RankParser.class.getResourceAsStream("/dictionaries/parse/rank.txt"));
+  }
+
   public static RankParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (RankParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new RankParser(RankParser.class.getResourceAsStream("/dictionaries/parse/rank.txt"));
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 
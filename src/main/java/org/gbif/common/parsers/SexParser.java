@@ -8,10 +8,8 @@ import org.gbif.common.parsers.core.EnumParser;
  */
 public class SexParser extends EnumParser<Sex> {
 
-  private static SexParser singletonObject = null;
-
   private SexParser() {
-    super(Sex.class, false);
+    super(Sex.class, false, Optimization.RAW_INPUT);
     // also make sure we have all enum values mapped
     for (Sex c : Sex.values()) {
       add(c.name(), c);
@@ -20,13 +18,12 @@ public class SexParser extends EnumParser<Sex> {
     init(SexParser.class.getResourceAsStream("/dictionaries/parse/sex.txt"));
   }
 
+  private static class LazyHolder {
+    private static final SexParser INSTANCE = new SexParser();
+  }
+
   public static SexParser getInstance() {
-    synchronized (SexParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new SexParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
@@ -10,20 +10,18 @@ import java.io.InputStream;
  */
 public class TaxStatusParser extends EnumParser<TaxonomicStatus> {
 
-  private static TaxStatusParser singletonObject = null;
-
   private TaxStatusParser(InputStream... file) {
-    super(TaxonomicStatus.class, false, file);
+    super(TaxonomicStatus.class, false, Optimization.RAW_INPUT, file);
+  }
+
+  private static class LazyHolder {
+    private static final TaxStatusParser INSTANCE =
+      new TaxStatusParser(TaxStatusParser.class.getResourceAsStream("/dictionaries/parse/taxStatus.txt"));
   }
 
   public static TaxStatusParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (TaxStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new TaxStatusParser(TaxStatusParser.class.getResourceAsStream("/dictionaries/parse/taxStatus.txt"));
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 
@@ -5,10 +5,8 @@ import org.gbif.common.parsers.core.EnumParser;
 
 public class ThreatStatusParser extends EnumParser<ThreatStatus> {
 
-  private static ThreatStatusParser singletonObject = null;
-
   private ThreatStatusParser() {
-    super(ThreatStatus.class, false);
+    super(ThreatStatus.class, false, Optimization.RAW_INPUT);
     // also make sure we have all enum values mapped
     for (ThreatStatus c : ThreatStatus.values()) {
       add(c.name(), c);
@@ -18,13 +16,12 @@ public class ThreatStatusParser extends EnumParser<ThreatStatus> {
     init(ThreatStatusParser.class.getResourceAsStream("/dictionaries/parse/threat_status.txt"));
   }
 
+  private static class LazyHolder {
+    private static final ThreatStatusParser INSTANCE = new ThreatStatusParser();
+  }
+
   public static ThreatStatusParser getInstance() {
-    synchronized (ThreatStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new ThreatStatusParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 }
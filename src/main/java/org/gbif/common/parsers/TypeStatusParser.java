@@ -14,7 +14,6 @@ import com.google.common.base.Strings;
  */
 public class TypeStatusParser extends EnumParser<TypeStatus> {
 
-  private static TypeStatusParser singletonObject = null;
   private static final CharMatcher NON_LETTERS = CharMatcher.JAVA_LETTER.negate();
   private static final Pattern NAME_SEPARATOR = Pattern.compile("^(.+) OF ");
 
@@ -40,14 +39,13 @@ public class TypeStatusParser extends EnumParser<TypeStatus> {
     return NON_LETTERS.removeFrom(value);
   }
 
+  private static class LazyHolder {
+    private static final TypeStatusParser INSTANCE = new TypeStatusParser();
+  }
+
   public static TypeStatusParser getInstance()
     throws ClassCastException, AbstractMethodError, ArithmeticException, ArrayIndexOutOfBoundsException {
-    synchronized (TypeStatusParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new TypeStatusParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 
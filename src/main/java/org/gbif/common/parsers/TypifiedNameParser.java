@@ -3,6 +3,7 @@ package org.gbif.common.parsers;
 import org.gbif.api.exception.UnparsableException;
 import org.gbif.api.model.checklistbank.ParsedName;
 import org.gbif.api.service.checklistbank.NameParser;
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.Parsable;
 import org.gbif.common.parsers.core.ParseResult;
 import org.gbif.nameparser.GBIFNameParser;
@@ -22,11 +23,11 @@ import org.slf4j.LoggerFactory;
  */
 public class TypifiedNameParser implements Parsable<String> {
   protected final Logger log = LoggerFactory.getLogger(getClass());
-  private static TypifiedNameParser singletonObject = null;
 
   private static final Range<Integer> REASONABLE_NAME_SIZE_RANGE = Range.closed(4, 40);
   private static final NameParser NAME_PARSER = new GBIFNameParser();
   private static final Pattern NAME_SEPARATOR = Pattern.compile("\\sOF\\W*\\s+\\W*(.+)\\W*\\s*$", Pattern.CASE_INSENSITIVE);
+  private static final String METRIC_NAME = Metrics.name(TypifiedNameParser.class);
   private static final Pattern CLEAN_WHITESPACE = Pattern.compile("\\s+");
 
   private TypifiedNameParser() {
@@ -34,6 +35,11 @@ public class TypifiedNameParser implements Parsable<String> {
 
   @Override
   public ParseResult<String> parse(String input) {
+    final long start = Metrics.start();
+    return Metrics.record(METRIC_NAME, input, parseName(input), start);
+  }
+
+  private ParseResult<String> parseName(String input) {
     if (!Strings.isNullOrEmpty(input)) {
       Matcher m = NAME_SEPARATOR.matcher(input);
       if (m.find()) {
@@ -57,13 +63,12 @@ public class TypifiedNameParser implements Parsable<String> {
     return ParseResult.fail();
   }
 
+  private static class LazyHolder {
+    private static final TypifiedNameParser INSTANCE = new TypifiedNameParser();
+  }
+
   public static TypifiedNameParser getInstance() {
-    synchronized (TypifiedNameParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new TypifiedNameParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
 
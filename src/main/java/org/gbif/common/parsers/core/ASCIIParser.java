@@ -33,33 +33,85 @@ import com.google.common.base.Strings;
  * See: <a href="http://en.wikipedia.org/wiki/Latin_characters_in_Unicode">http://en.wikipedia.org/wiki/Latin_characters_in_Unicode</a>
  *
  * For example, '&agrave;' will be replaced by 'a'.
+ *
+ * The mappings are compiled once into a lookup table of 256 character pages, only pages containing mapped
+ * characters are allocated. Values consisting of ASCII characters only are returned as they are.
  */
 public final class ASCIIParser implements Parsable<String> {
 
-  private static ASCIIParser singletonObject = null;
+  private static final String METRIC_NAME = Metrics.name(ASCIIParser.class);
+  private static final int PAGE_BITS = 8;
+  private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+  // replacement per character, null for pages or characters that are kept as they are
+  private static final String[][] PAGES = buildPages();
 
   private ASCIIParser() {
   }
 
-  public static ASCIIParser getInstance() {
-    synchronized (ASCIIParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new ASCIIParser();
+  private static String[][] buildPages() {
+    String[][] pages = new String[1 << (16 - PAGE_BITS)][];
+    StringBuilder sb = new StringBuilder(4);
+    for (int i = '\u0080'; i <= Character.MAX_VALUE; i++) {
+      char c = (char) i;
+      sb.setLength(0);
+      foldBySwitch(c, sb);
+      if (sb.length() != 1 || sb.charAt(0) != c) {
+        String[] page = pages[i >>> PAGE_BITS];
+        if (page == null) {
+          page = new String[1 << PAGE_BITS];
+          pages[i >>> PAGE_BITS] = page;
+        }
+        page[i & PAGE_MASK] = sb.toString().intern();
       }
     }
-    return singletonObject;
+    return pages;
+  }
+
+  private static class LazyHolder {
+    private static final ASCIIParser INSTANCE = new ASCIIParser();
+  }
+
+  public static ASCIIParser getInstance() {
+    return LazyHolder.INSTANCE;
   }
 
   @Override
   public ParseResult<String> parse(String input) {
+    final long start = Metrics.start();
+    return Metrics.record(METRIC_NAME, input, fold(input), start);
+  }
+
+  private static ParseResult<String> fold(String input) {
     if (Strings.isNullOrEmpty(input)) {
       return ParseResult.fail();
-    } else {
-      StringBuilder sb = new StringBuilder();
-      for (char c : input.toCharArray()) {
-        foldToASCII(c, sb);
-      }
-      return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, sb.toString());
+    }
+    final int length = input.length();
+    int i = 0;
+    while (i < length && input.charAt(i) < '\u0080') {
+      i++;
+    }
+    if (i == length) {
+      // plain ASCII, nothing to fold
+      return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, input);
+    }
+    StringBuilder sb = new StringBuilder(length + 8);
+    sb.append(input, 0, i);
+    for (; i < length; i++) {
+      foldToASCII(input.charAt(i), sb);
+    }
+    return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, sb.toString());
+  }
+
+  /**
+   * Appends the ASCII folded value to the buffer.
+   *
+   * @param value the value to fold
+   * @param sb    String builder to append to
+   */
+  public static void foldTo(CharSequence value, StringBuilder sb) {
+    final int length = value.length();
+    for (int i = 0; i < length; i++) {
+      foldToASCII(value.charAt(i), sb);
     }
   }
 
@@ -69,7 +121,33 @@ public final class ASCIIParser implements Parsable<String> {
    * @param c   The character to fold
    * @param sb  String builder to append to
    */
-  private static final void foldToASCII(final char c, StringBuilder sb) {
+  static void foldToASCII(final char c, StringBuilder sb) {
+    if (c < '\u0080') {
+      sb.append(c);
+    } else {
+      String folded = folded(c);
+      if (folded == null) {
+        sb.append(c);
+      } else {
+        sb.append(folded);
+      }
+    }
+  }
+
+  /**
+   * @param c a character above ASCII
+   *
+   * @return the replacement of the character or null if it is kept as it is
+   */
+  static String folded(final char c) {
+    String[] page = PAGES[c >>> PAGE_BITS];
+    return page == null ? null : page[c & PAGE_MASK];
+  }
+
+  /**
+   * The mappings the lookup table is compiled from.
+   */
+  private static void foldBySwitch(final char c, StringBuilder sb) {
       // Quick test: if it's not in range then just keep current character
       if (c < '\u0080') {
         sb.append(c);
@@ -0,0 +1,59 @@
+package org.gbif.common.parsers.core;
+
+import java.util.Arrays;
+
+import com.google.common.base.Charsets;
+
+/**
+ * Reusable buffer holding a normalized dictionary key as ASCII bytes.
+ * It is filled by {@link KeyNormalizer#appendUtf8(byte[], int, int, AsciiKeyBuffer)} straight from UTF-8 encoded
+ * bytes and can be looked up in the dictionaries as a {@link CharSequence}, so no String needs to be decoded.
+ *
+ * Instances are not thread safe.
+ */
+public final class AsciiKeyBuffer implements CharSequence {
+
+  private byte[] bytes;
+  private int length;
+
+  public AsciiKeyBuffer(int capacity) {
+    bytes = new byte[Math.max(capacity, 16)];
+  }
+
+  /**
+   * Empties the buffer for the next key.
+   */
+  public void clear() {
+    length = 0;
+  }
+
+  void append(char c) {
+    if (length == bytes.length) {
+      bytes = Arrays.copyOf(bytes, length * 2);
+    }
+    bytes[length++] = (byte) c;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (index >= length) {
+      throw new IndexOutOfBoundsException("Index " + index + " exceeds length " + length);
+    }
+    return (char) bytes[index];
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return toString().substring(start, end);
+  }
+
+  @Override
+  public String toString() {
+    return new String(bytes, 0, length, Charsets.US_ASCII);
+  }
+}
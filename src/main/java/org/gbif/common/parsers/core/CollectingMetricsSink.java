@@ -0,0 +1,53 @@
+package org.gbif.common.parsers.core;
+
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+/**
+ * Sink keeping {@link ParserStats} per parser in memory, using striped counters so parsing threads rarely contend.
+ */
+public class CollectingMetricsSink implements MetricsSink {
+
+  private final ConcurrentMap<String, ParserStats> stats = new ConcurrentHashMap<String, ParserStats>();
+
+  @Override
+  public void record(String parser, ParseResult<?> result, long nanos) {
+    ParserStats s = stats.get(parser);
+    if (s == null) {
+      ParserStats created = new ParserStats(parser);
+      s = stats.putIfAbsent(parser, created);
+      if (s == null) {
+        s = created;
+      }
+    }
+    s.record(result, nanos);
+  }
+
+  /**
+   * @return the stats of the parser or null if it was not called yet
+   */
+  @Nullable
+  public ParserStats getStats(String parser) {
+    return stats.get(parser);
+  }
+
+  /**
+   * @return the stats of all parsers called so far, sorted by parser name
+   */
+  public SortedMap<String, ParserStats> getAllStats() {
+    return new TreeMap<String, ParserStats>(stats);
+  }
+
+  /**
+   * Resets the stats of all parsers.
+   */
+  public void reset() {
+    for (Map.Entry<String, ParserStats> entry : stats.entrySet()) {
+      entry.getValue().reset();
+    }
+  }
+}
@@ -0,0 +1,206 @@
+package org.gbif.common.parsers.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Dictionary encoding of a column of raw values, so each distinct value is only parsed once.
+ * Terms like basisOfRecord, country or sex rarely have more than a few dozen distinct verbatim values even in
+ * datasets with millions of records, so parsing the distinct values and expanding the results by id is much
+ * cheaper than parsing every row.
+ *
+ * The distinct values are collected in a flat open addressing table with linear probing, rows are only kept as the
+ * int id of their value. Null is encoded as a distinct value of its own.
+ *
+ * <pre>
+ * ColumnDictionary column = ColumnDictionary.encode(values);
+ * List&lt;ParseResult&lt;Country&gt;&gt; results = column.parse(CountryParser.getInstance());
+ * </pre>
+ */
+public final class ColumnDictionary {
+
+  private static final int NO_VALUE = -1;
+
+  private final int[] ids;
+  private final String[] distinct;
+
+  private ColumnDictionary(int[] ids, String[] distinct) {
+    this.ids = ids;
+    this.distinct = distinct;
+  }
+
+  /**
+   * Encodes the column by assigning ids to its distinct values in order of their first appearance.
+   */
+  public static ColumnDictionary encode(String[] column) {
+    return encode(Arrays.asList(column));
+  }
+
+  /**
+   * Encodes the column by assigning ids to its distinct values in order of their first appearance.
+   */
+  public static ColumnDictionary encode(List<? extends CharSequence> column) {
+    final int size = column.size();
+    int[] ids = new int[size];
+    String[] distinct = new String[16];
+    int count = 0;
+    int nullId = NO_VALUE;
+
+    // slots hold the id of the distinct value plus one, so zero marks a free slot
+    int[] slots = new int[64];
+    int[] hashes = new int[64];
+    int mask = slots.length - 1;
+
+    for (int i = 0; i < size; i++) {
+      CharSequence value = column.get(i);
+      if (value == null) {
+        if (nullId == NO_VALUE) {
+          if (count == distinct.length) {
+            distinct = Arrays.copyOf(distinct, count * 2);
+          }
+          nullId = count++;
+        }
+        ids[i] = nullId;
+        continue;
+      }
+
+      int h = Hashes.hash(value);
+      int slot = Hashes.spread(h) & mask;
+      int id = NO_VALUE;
+      while (slots[slot] != 0) {
+        int candidate = slots[slot] - 1;
+        if (hashes[slot] == h && distinct[candidate].contentEquals(value)) {
+          id = candidate;
+          break;
+        }
+        slot = (slot + 1) & mask;
+      }
+
+      if (id == NO_VALUE) {
+        if (count == distinct.length) {
+          distinct = Arrays.copyOf(distinct, count * 2);
+        }
+        id = count++;
+        distinct[id] = value.toString();
+        slots[slot] = id + 1;
+        hashes[slot] = h;
+        // keep the load factor at or below 0.5
+        if (count * 2 > slots.length) {
+          int[] oldSlots = slots;
+          int[] oldHashes = hashes;
+          slots = new int[oldSlots.length * 2];
+          hashes = new int[oldSlots.length * 2];
+          mask = slots.length - 1;
+          for (int s = 0; s < oldSlots.length; s++) {
+            if (oldSlots[s] != 0) {
+              int n = Hashes.spread(oldHashes[s]) & mask;
+              while (slots[n] != 0) {
+                n = (n + 1) & mask;
+              }
+              slots[n] = oldSlots[s];
+              hashes[n] = oldHashes[s];
+            }
+          }
+        }
+      }
+      ids[i] = id;
+    }
+    return new ColumnDictionary(ids, Arrays.copyOf(distinct, count));
+  }
+
+  /**
+   * @return the number of rows in the column
+   */
+  public int size() {
+    return ids.length;
+  }
+
+  /**
+   * @return the number of distinct values in the column, including null
+   */
+  public int distinctCount() {
+    return distinct.length;
+  }
+
+  /**
+   * @return the id of the value in the given row
+   */
+  public int id(int row) {
+    return ids[row];
+  }
+
+  /**
+   * @return the distinct value with the given id
+   */
+  @Nullable
+  public String value(int id) {
+    return distinct[id];
+  }
+
+  /**
+   * Parses every distinct value once.
+   *
+   * @return a read only list with the parse result of every row, sharing the result instances of equal values
+   */
+  public <T> List<ParseResult<T>> parse(Parsable<T> parser) {
+    final Object[] results = new Object[distinct.length];
+    for (int id = 0; id < distinct.length; id++) {
+      results[id] = parser.parse(distinct[id]);
+    }
+    return new Expanded<T>(results, ids);
+  }
+
+  /**
+   * Parses every distinct value once into enum ordinals and expands them to all rows.
+   *
+   * @see EnumParser#parseOrdinals(List, int[], byte[])
+   */
+  public int parseOrdinals(EnumParser<?> parser, int[] ordinals, byte[] confidences) {
+    Preconditions.checkArgument(ordinals.length >= ids.length, "Ordinal array is shorter than the column");
+    Preconditions.checkArgument(confidences.length >= ids.length, "Confidence array is shorter than the column");
+
+    int[] distinctOrdinals = new int[distinct.length];
+    byte[] distinctConfidences = new byte[distinct.length];
+    parser.parseOrdinals(distinct, distinctOrdinals, distinctConfidences);
+
+    int matched = 0;
+    for (int i = 0; i < ids.length; i++) {
+      int id = ids[i];
+      ordinals[i] = distinctOrdinals[id];
+      confidences[i] = distinctConfidences[id];
+      if (distinctOrdinals[id] != EnumParser.NO_MATCH) {
+        matched++;
+      }
+    }
+    return matched;
+  }
+
+  /**
+   * Read only view of the distinct results expanded by row.
+   */
+  private static class Expanded<T> extends AbstractList<ParseResult<T>> implements RandomAccess {
+    private final Object[] results;
+    private final int[] ids;
+
+    Expanded(Object[] results, int[] ids) {
+      this.results = results;
+      this.ids = ids;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ParseResult<T> get(int index) {
+      return (ParseResult<T>) results[ids[index]];
+    }
+
+    @Override
+    public int size() {
+      return ids.length;
+    }
+  }
+}
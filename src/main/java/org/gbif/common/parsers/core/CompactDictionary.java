@@ -0,0 +1,251 @@
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+
+/**
+ * Immutable lookup table mapping normalized string keys to values.
+ * Keys are kept in a flat open addressing array with linear probing, the values are kept as short indices into an
+ * array of the distinct values. For enumerations the index is the ordinal of the enum value.
+ *
+ * Keys can be looked up from any {@link CharSequence} so callers can probe the table from a reusable buffer
+ * without creating an intermediate String.
+ * Entries with a null value are dropped as they do not resolve to anything.
+ *
+ * A single immutable success result is prebuilt for every value and shared by all lookups.
+ */
+final class CompactDictionary<V> {
+
+  /**
+   * Returned by {@link #find(CharSequence)} if the key is unknown.
+   */
+  static final int NOT_FOUND = -1;
+
+  private static final int MAX_VALUES = 1 << 16;
+
+  private final String[] keys;
+  private final short[] valueIds;
+  private final Object[] values;
+  private final ParseResult<?>[] results;
+  private final int mask;
+  private final int size;
+
+  private CompactDictionary(String[] keys, short[] valueIds, Object[] values, int size) {
+    this.keys = keys;
+    this.valueIds = valueIds;
+    this.values = values;
+    results = new ParseResult<?>[values.length];
+    for (int i = 0; i < values.length; i++) {
+      results[i] = ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, values[i]);
+    }
+    this.mask = keys.length - 1;
+    this.size = size;
+  }
+
+  /**
+   * Builds a new table from the given entries.
+   *
+   * @throws IllegalArgumentException if there are more than 65536 distinct values
+   */
+  static <V> CompactDictionary<V> of(Map<String, V> entries) {
+    Map<Object, Integer> ids = new HashMap<Object, Integer>();
+    Object[] values = distinctValues(entries, ids);
+
+    int size = 0;
+    for (V value : entries.values()) {
+      if (value != null) {
+        size++;
+      }
+    }
+    // keep the load factor at or below 0.5 so probe sequences stay short
+    int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+    String[] keys = new String[capacity];
+    short[] valueIds = new short[capacity];
+    int mask = capacity - 1;
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      if (entry.getValue() == null) {
+        continue;
+      }
+      int slot = Hashes.spread(entry.getKey().hashCode()) & mask;
+      while (keys[slot] != null) {
+        slot = (slot + 1) & mask;
+      }
+      keys[slot] = entry.getKey();
+      valueIds[slot] = (short) ids.get(entry.getValue()).intValue();
+    }
+    return new CompactDictionary<V>(keys, valueIds, values, size);
+  }
+
+  /**
+   * Enum values are indexed by their ordinal, any other values in order of appearance with equal values sharing
+   * a single index.
+   *
+   * @param ids populated with the index of each distinct value
+   */
+  private static Object[] distinctValues(Map<String, ?> entries, Map<Object, Integer> ids) {
+    Class<?> enumClass = null;
+    for (Object value : entries.values()) {
+      if (value != null) {
+        if (value instanceof Enum && (enumClass == null || enumClass == ((Enum<?>) value).getDeclaringClass())) {
+          enumClass = ((Enum<?>) value).getDeclaringClass();
+        } else {
+          enumClass = null;
+          break;
+        }
+      }
+    }
+    if (enumClass != null) {
+      Object[] constants = enumClass.getEnumConstants();
+      for (Object constant : constants) {
+        ids.put(constant, ((Enum<?>) constant).ordinal());
+      }
+      return constants;
+    }
+
+    List<Object> values = new ArrayList<Object>();
+    for (Object value : entries.values()) {
+      if (value != null && !ids.containsKey(value)) {
+        ids.put(value, values.size());
+        values.add(value);
+      }
+    }
+    if (values.size() > MAX_VALUES) {
+      throw new IllegalArgumentException("Dictionary has more than " + MAX_VALUES + " distinct values");
+    }
+    return values.toArray();
+  }
+
+  /**
+   * @return the index of the value mapped to the key or {@link #NOT_FOUND}
+   */
+  int find(@Nullable CharSequence key) {
+    if (key == null) {
+      return NOT_FOUND;
+    }
+    int h = Hashes.hash(key);
+    int slot = Hashes.spread(h) & mask;
+    String candidate;
+    while ((candidate = keys[slot]) != null) {
+      if (candidate.hashCode() == h && candidate.contentEquals(key)) {
+        return valueIds[slot] & 0xFFFF;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return NOT_FOUND;
+  }
+
+  /**
+   * @return the value mapped to the key or null
+   */
+  @Nullable
+  V get(@Nullable CharSequence key) {
+    int id = find(key);
+    return id == NOT_FOUND ? null : value(id);
+  }
+
+  /**
+   * @param id a value index as returned by {@link #find(CharSequence)}
+   */
+  @SuppressWarnings("unchecked")
+  V value(int id) {
+    return (V) values[id];
+  }
+
+  /**
+   * @param id a value index as returned by {@link #find(CharSequence)}
+   *
+   * @return the shared definite success result for the value
+   */
+  @SuppressWarnings("unchecked")
+  ParseResult<V> result(int id) {
+    return (ParseResult<V>) results[id];
+  }
+
+  /**
+   * @return the shared definite success result for the key or the shared failure
+   */
+  ParseResult<V> lookup(@Nullable CharSequence key) {
+    int id = find(key);
+    return id == NOT_FOUND ? ParseResult.<V>fail() : result(id);
+  }
+
+  /**
+   * @return the number of distinct value indices, i.e. the upper bound of {@link #find(CharSequence)}
+   */
+  int valueCount() {
+    return values.length;
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @return hex encoded hash of all entries, independent of the order they were added in
+   */
+  String contentHash() {
+    SortedMap<String, ?> sorted = new TreeMap<String, Object>(toMap());
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    for (Map.Entry<String, ?> entry : sorted.entrySet()) {
+      hasher.putString(entry.getKey(), Charsets.UTF_8).putChar('\t')
+        .putString(String.valueOf(entry.getValue()), Charsets.UTF_8).putChar('\n');
+    }
+    return hasher.hash().toString();
+  }
+
+  /**
+   * Estimates the heap retained by the table, assuming compressed references.
+   * The values themselves are not included as they are usually shared constants like enum values.
+   */
+  long estimatedBytes() {
+    long bytes = 32 + array(4, keys.length) + array(2, valueIds.length) + array(4, values.length)
+      + array(4, results.length) + 16L * results.length;
+    for (String key : keys) {
+      if (key != null) {
+        // the String and its char array
+        bytes += 24 + array(2, key.length());
+      }
+    }
+    return bytes;
+  }
+
+  private static long array(int elementBytes, int length) {
+    // 16 byte header, padded to 8 bytes
+    return (16L + (long) elementBytes * length + 7) & ~7L;
+  }
+
+  /**
+   * @return all keys of the table
+   */
+  List<String> keys() {
+    List<String> result = new ArrayList<String>(size);
+    for (String key : keys) {
+      if (key != null) {
+        result.add(key);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return a new mutable map with all entries of the table
+   */
+  Map<String, V> toMap() {
+    Map<String, V> map = new HashMap<String, V>(size * 4 / 3 + 1);
+    for (int i = 0; i < keys.length; i++) {
+      if (keys[i] != null) {
+        map.put(keys[i], value(valueIds[i] & 0xFFFF));
+      }
+    }
+    return map;
+  }
+}
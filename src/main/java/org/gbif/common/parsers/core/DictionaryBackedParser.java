@@ -1,10 +1,20 @@
 package org.gbif.common.parsers.core;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
 
 import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.RemovalListener;
+import com.google.common.cache.RemovalNotification;
 import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,17 +27,55 @@ import org.slf4j.LoggerFactory;
  * dictionary web service for example, to achieve the same,
  * but allow the abstraction of the dictionary management to a
  * better project (separation of concerns)
+ *
+ * Parse results can optionally be cached by their raw input, see {@link #setCacheSize(int)}. Caching is disabled
+ * by default, the size of the cache can also be configured with the system property
+ * gbif.parsers.cache.SimpleClassName.
+ *
+ * Inputs missing from the dictionary can optionally be matched to a key one or two edits away, see
+ * {@link #setFuzzyMatching(boolean)}. This can also be enabled with the system property
+ * gbif.parsers.fuzzy.SimpleClassName.
+ *
+ * Dataset specific entries can be layered on top of the shared dictionary with {@link #overlay(String, Map)}.
+ * The 1000 most recently used overlays are kept by their dataset key, see {@link #forDataset(String)}.
+ *
+ * The most frequent inputs failing to parse can optionally be tracked in constant memory, see
+ * {@link #setFailureTracking(int)}. This can also be enabled with the system property
+ * gbif.parsers.failures.SimpleClassName giving the number of inputs to track.
  */
-public class DictionaryBackedParser<V> implements Parsable<V> {
+public class DictionaryBackedParser<V> implements RegionParsable<V> {
+  private static final String CACHE_PROPERTY_PREFIX = "gbif.parsers.cache.";
+  private static final int MAX_OVERLAYS = 1000;
+  private static final String FUZZY_PROPERTY_PREFIX = "gbif.parsers.fuzzy.";
+  private static final String FAILURES_PROPERTY_PREFIX = "gbif.parsers.failures.";
   protected final Logger log = LoggerFactory.getLogger(getClass());
-  private final Map<String, V> dictionary = new HashMap<String, V>();
+  // mutable entries while the parser is being populated, replaced by the compact table on first use
+  private Map<String, V> dictionary = new HashMap<String, V>();
+  private volatile CompactDictionary<V> table;
+  private volatile ParseResultCache<V> cache;
+  private volatile Cache<String, DictionaryOverlay<V>> overlays;
+  private volatile boolean fuzzyMatching;
+  private volatile FuzzyIndex<V> fuzzyIndex;
+  private volatile HeavyHitters failures;
   private boolean caseSensitive = false;
+  // once populated from a precompiled snapshot all further additions are ignored
+  private boolean loadedFromSnapshot = false;
+  // keys of the terms spanning several words with a space at each word break, for the DictionaryScanner
+  private final Set<String> multiWordKeys = new HashSet<String>();
+  // name of this parser in the metrics
+  final String metricName;
+  // time spent reading the source entries and building the lookup table
+  private volatile long initNanos;
 
   /**
    * @param caseSensitive If the dictionary should be case sensitive (only applicable to String keys)
    */
   public DictionaryBackedParser(boolean caseSensitive) {
     this.caseSensitive = caseSensitive;
+    metricName = Metrics.name(getClass());
+    fuzzyMatching = Boolean.getBoolean(FUZZY_PROPERTY_PREFIX + getClass().getSimpleName());
+    setCacheSize(Integer.getInteger(CACHE_PROPERTY_PREFIX + getClass().getSimpleName(), 0));
+    setFailureTracking(Integer.getInteger(FAILURES_PROPERTY_PREFIX + getClass().getSimpleName(), 0));
   }
 
   /**
@@ -35,26 +83,349 @@ public class DictionaryBackedParser<V> implements Parsable<V> {
    */
   @SuppressWarnings("unchecked")
   public void init(Iterator<KeyValue<String, V>> source) {
+    if (loadedFromSnapshot) {
+      return;
+    }
+    final long start = System.nanoTime();
     while (source.hasNext()) {
       KeyValue<String, V> kvp = source.next();
       add(kvp.getKey(), kvp.getValue());
     }
+    initNanos += System.nanoTime() - start;
   }
 
   final protected void add(String key, V value) {
-    if (!StringUtils.isBlank(key)) {
+    if (!loadedFromSnapshot && !StringUtils.isBlank(key)) {
       String normedKey = normalize(key);
       if (!Strings.isNullOrEmpty(normedKey)) {
+        Map<String, V> dictionary = mutableEntries();
         V existingValue = dictionary.get(normedKey);
         if (existingValue == null) {
           dictionary.put(normedKey, value);
         } else if (!existingValue.equals(value)) {
           log.warn("Ignoring mapping {}→{} as {} is already mapped to {}", key, value, key, existingValue);
         }
+        addMultiWordKey(key);
       }
     }
   }
 
+  /**
+   * Remembers the word breaks of the term if it spans several words.
+   */
+  final void addMultiWordKey(String term) {
+    String key = DictionaryScanner.multiWordKey(term);
+    if (key != null) {
+      synchronized (this) {
+        multiWordKeys.add(key);
+      }
+    }
+  }
+
+  /**
+   * @return the keys of the terms spanning several words with a space at each word break, e.g. PAPUA NEW GUINEA
+   */
+  final synchronized Set<String> multiWordKeys() {
+    return new HashSet<String>(multiWordKeys);
+  }
+
+  /**
+   * Replaces the dictionary content with already normalized entries and ignores any later additions.
+   *
+   * @param normalizedEntries entries as produced by {@link #normalize(String)}
+   * @param multiWordKeys the keys of the terms spanning several words, see {@link #multiWordKeys()}
+   */
+  final synchronized void initFromSnapshot(Map<String, V> normalizedEntries, Set<String> multiWordKeys) {
+    final long start = System.nanoTime();
+    table = CompactDictionary.of(normalizedEntries);
+    this.multiWordKeys.clear();
+    this.multiWordKeys.addAll(multiWordKeys);
+    initNanos += System.nanoTime() - start;
+    dictionary = null;
+    loadedFromSnapshot = true;
+  }
+
+  /**
+   * @return the mutable entries, converting the compact table back if it was already built
+   */
+  private synchronized Map<String, V> mutableEntries() {
+    if (dictionary == null) {
+      dictionary = table.toMap();
+      table = null;
+    }
+    return dictionary;
+  }
+
+  /**
+   * @return the immutable lookup table, built from the added entries on first use
+   */
+  final CompactDictionary<V> lookupTable() {
+    CompactDictionary<V> t = table;
+    if (t == null) {
+      synchronized (this) {
+        t = table;
+        if (t == null) {
+          final long start = System.nanoTime();
+          t = CompactDictionary.of(dictionary);
+          dictionary = null;
+          table = t;
+          initNanos += System.nanoTime() - start;
+        }
+      }
+    }
+    return t;
+  }
+
+  /**
+   * Atomically replaces the lookup table. Parses in flight finish with the previous table, later ones use the new
+   * table. The raw input cache is replaced as well so no results of the previous table are served anymore.
+   */
+  final void publish(CompactDictionary<V> newTable) {
+    synchronized (this) {
+      table = newTable;
+      dictionary = null;
+    }
+    ParseResultCache<V> c = cache;
+    if (c != null) {
+      cache = new ParseResultCache<V>(c.getMaximumSize());
+    }
+  }
+
+  /**
+   * @return the time spent reading the dictionary source and building the lookup table in nanoseconds
+   */
+  final long getInitNanos() {
+    return initNanos;
+  }
+
+  /**
+   * @return true if the dictionary was populated from a precompiled snapshot instead of its source files
+   */
+  protected boolean isLoadedFromSnapshot() {
+    return loadedFromSnapshot;
+  }
+
+  /**
+   * @return read only view of the normalized dictionary entries
+   */
+  Map<String, V> entries() {
+    return Collections.unmodifiableMap(lookupTable().toMap());
+  }
+
+  /**
+   * Enables the raw input cache unless configured otherwise by the system property
+   * gbif.parsers.cache.SimpleClassName. Meant to be called by the constructor of parsers whose input is heavily
+   * skewed towards a few values.
+   *
+   * @param defaultSize the maximum number of cached results if not configured otherwise
+   */
+  protected void enableCache(int defaultSize) {
+    setCacheSize(Integer.getInteger(CACHE_PROPERTY_PREFIX + getClass().getSimpleName(), defaultSize));
+  }
+
+  /**
+   * Replaces the raw input cache with a new empty one.
+   *
+   * @param maximumSize the maximum number of cached results, zero disables caching
+   */
+  public void setCacheSize(int maximumSize) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("Cache size must not be negative");
+    }
+    cache = maximumSize == 0 ? null : new ParseResultCache<V>(maximumSize);
+  }
+
+  /**
+   * @return the maximum number of cached results, zero if caching is disabled
+   */
+  public int getCacheSize() {
+    ParseResultCache<V> c = cache;
+    return c == null ? 0 : c.getMaximumSize();
+  }
+
+  /**
+   * @return the hit and miss counts of the raw input cache since it was configured
+   */
+  public CacheStats getCacheStats() {
+    ParseResultCache<V> c = cache;
+    return c == null ? new CacheStats(0, 0, 0, 0, 0, 0) : c.stats();
+  }
+
+  /**
+   * @return the current raw input cache, replaced whenever it has to be emptied, or null if caching is disabled
+   */
+  @Nullable
+  final ParseResultCache<V> currentCache() {
+    return cache;
+  }
+
+  /**
+   * Enables or disables matching of misspelled input for dictionary misses.
+   * Fuzzy matches are PROBABLE for one edit and POSSIBLE for two edits, the budget is limited by the length of the
+   * normalized input. The index is built on the first miss and costs no time on dictionary hits.
+   */
+  public void setFuzzyMatching(boolean fuzzyMatching) {
+    this.fuzzyMatching = fuzzyMatching;
+    // cached failures might now be fuzzy matches
+    ParseResultCache<V> c = cache;
+    if (c != null) {
+      cache = new ParseResultCache<V>(c.getMaximumSize());
+    }
+  }
+
+  public boolean isFuzzyMatching() {
+    return fuzzyMatching;
+  }
+
+  /**
+   * Starts tracking the most frequent inputs failing to parse, replacing any previous tracking.
+   * Inputs are counted in a lock free sketch of constant size, so tracking can stay enabled in production.
+   *
+   * @param capacity the number of failing inputs to track, zero disables tracking
+   */
+  public void setFailureTracking(int capacity) {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("Failure tracking capacity must not be negative");
+    }
+    failures = capacity == 0 ? null : new HeavyHitters(capacity);
+  }
+
+  /**
+   * @return the number of failing inputs tracked, zero if tracking is disabled
+   */
+  public int getFailureTracking() {
+    HeavyHitters f = failures;
+    return f == null ? 0 : f.getCapacity();
+  }
+
+  /**
+   * @param k the maximum number of inputs to return
+   *
+   * @return the most frequent inputs failing to parse with their approximate counts, empty if tracking is disabled
+   */
+  public List<HeavyHitters.Entry> getTopFailures(int k) {
+    HeavyHitters f = failures;
+    return f == null ? Collections.<HeavyHitters.Entry>emptyList() : f.top(k);
+  }
+
+  /**
+   * Forgets all failing inputs tracked so far.
+   */
+  public void clearFailures() {
+    HeavyHitters f = failures;
+    if (f != null) {
+      f.clear();
+    }
+  }
+
+  /**
+   * @return the tracker of the failing inputs or null if tracking is disabled
+   */
+  @Nullable
+  final HeavyHitters failureTracker() {
+    return failures;
+  }
+
+  /**
+   * Counts the verbatim input of a failed parse if failure tracking is enabled.
+   */
+  final void trackFailure(@Nullable CharSequence input) {
+    HeavyHitters f = failures;
+    if (f != null && input != null) {
+      f.add(input.toString());
+    }
+  }
+
+  /**
+   * Applies the fuzzy matching to a dictionary miss if enabled.
+   *
+   * @param normed the normalized input
+   * @param miss the failed result of the exact lookup
+   */
+  final ParseResult<V> fuzzyLookup(@Nullable CharSequence normed, ParseResult<V> miss) {
+    if (!fuzzyMatching || normed == null) {
+      return miss;
+    }
+    CompactDictionary<V> t = lookupTable();
+    FuzzyIndex<V> index = fuzzyIndex;
+    if (index == null || !index.isFor(t)) {
+      synchronized (this) {
+        index = fuzzyIndex;
+        if (index == null || !index.isFor(t)) {
+          index = FuzzyIndex.of(t);
+          fuzzyIndex = index;
+        }
+      }
+    }
+    return index.lookup(normed);
+  }
+
+  /**
+   * Creates a dataset specific overlay and keeps it for later {@link #forDataset(String)} calls, replacing any
+   * previous overlay of the dataset. The least recently used overlays are evicted once more than 1000 are kept.
+   *
+   * @param datasetKey the dataset the entries apply to
+   * @param entries the dataset specific entries consulted before the shared dictionary, normalized like all keys
+   *
+   * @return the new overlay
+   */
+  public DictionaryOverlay<V> overlay(String datasetKey, Map<String, V> entries) {
+    DictionaryOverlay<V> overlay = new DictionaryOverlay<V>(datasetKey, this, entries);
+    overlays().put(datasetKey, overlay);
+    return overlay;
+  }
+
+  /**
+   * Gets the overlay of a dataset. Overlays are not persisted: once more than 1000 are kept the least recently used
+   * one is evicted, which is logged, and its dataset is parsed by this parser alone until the overlay is created
+   * again with {@link #overlay(String, Map)}.
+   *
+   * @return the overlay of the dataset or this parser if the dataset has none
+   */
+  public Parsable<V> forDataset(@Nullable String datasetKey) {
+    Cache<String, DictionaryOverlay<V>> o = overlays;
+    if (o == null || datasetKey == null) {
+      return this;
+    }
+    DictionaryOverlay<V> overlay = o.getIfPresent(datasetKey);
+    return overlay == null ? this : overlay;
+  }
+
+  /**
+   * Discards the overlay of the dataset if one exists.
+   */
+  public void removeOverlay(String datasetKey) {
+    Cache<String, DictionaryOverlay<V>> o = overlays;
+    if (o != null) {
+      o.invalidate(datasetKey);
+    }
+  }
+
+  private Cache<String, DictionaryOverlay<V>> overlays() {
+    Cache<String, DictionaryOverlay<V>> o = overlays;
+    if (o == null) {
+      synchronized (this) {
+        o = overlays;
+        if (o == null) {
+          o = CacheBuilder.newBuilder()
+            .maximumSize(MAX_OVERLAYS)
+            .removalListener(new RemovalListener<String, DictionaryOverlay<V>>() {
+              @Override
+              public void onRemoval(RemovalNotification<String, DictionaryOverlay<V>> notification) {
+                if (notification.wasEvicted()) {
+                  log.warn("Evicted the overlay of dataset {} from {}, its dataset specific entries are not used "
+                           + "anymore", notification.getKey(), getClass().getSimpleName());
+                }
+              }
+            })
+            .build();
+          overlays = o;
+        }
+      }
+    }
+    return o;
+  }
+
   /**
    * Normalisation of a value used both by adding to the internal dictionary and parsing values.
    * The default does trim and uppercase the value for Strings, but leaves other types unaltered.
@@ -87,12 +458,70 @@ public class DictionaryBackedParser<V> implements Parsable<V> {
    */
   @Override
   public ParseResult<V> parse(String input) {
-    String normed = normalize(input);
-    V value = dictionary.get(normed);
-    if (value == null) {
-      return ParseResult.fail();
+    return parse(input, null, Metrics.start());
+  }
+
+  /**
+   * Same as {@link #parse(String)} for input the caller already normalized, e.g. to probe an overlay first.
+   *
+   * @param normed the normalized input, or null to normalize the input on a cache miss
+   * @param start the token returned by {@link Metrics#start()}
+   */
+  final ParseResult<V> parse(@Nullable String input, @Nullable String normed, long start) {
+    ParseResultCache<V> c = cache;
+    ParseResult<V> result;
+    if (c == null || input == null) {
+      result = parseUncached(input, normed);
     } else {
-      return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, value);
+      result = c.get(input);
+      if (result == null) {
+        result = parseUncached(input, normed);
+        c.put(input, result);
+      }
+    }
+    if (!result.isSuccessful()) {
+      trackFailure(input);
     }
+    return Metrics.record(metricName, input, result, start);
+  }
+
+  /**
+   * Parses the region from a substring, as the String based {@link #normalize(String)} is needed.
+   * Subclasses with a character based normalization override this to parse the region in place.
+   */
+  @Override
+  public ParseResult<V> parse(CharSequence input, int start, int end) {
+    return parse(input == null ? null : input.subSequence(start, end).toString());
+  }
+
+  /**
+   * Normalizes the input and looks it up in the dictionary, bypassing the raw input cache.
+   */
+  protected ParseResult<V> parseUncached(String input) {
+    return lookup(normalize(input));
+  }
+
+  /**
+   * Parses input the dictionary does not contain, e.g. values following a pattern. Called for String input only,
+   * the result is cached like dictionary hits. The default returns the given miss.
+   *
+   * @param input the input, never null
+   * @param miss the failed result of the dictionary and fuzzy lookups
+   */
+  protected ParseResult<V> parseFallback(String input, ParseResult<V> miss) {
+    return miss;
+  }
+
+  /**
+   * Looks up normalized input in the dictionary, then fuzzily if enabled.
+   */
+  final ParseResult<V> lookup(@Nullable String normed) {
+    ParseResult<V> result = lookupTable().lookup(normed);
+    return result.isSuccessful() ? result : fuzzyLookup(normed, result);
+  }
+
+  private ParseResult<V> parseUncached(@Nullable String input, @Nullable String normed) {
+    ParseResult<V> result = normed == null ? parseUncached(input) : lookup(normed);
+    return result.isSuccessful() || input == null ? result : parseFallback(input, result);
   }
 }
@@ -0,0 +1,59 @@
+package org.gbif.common.parsers.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Strings;
+
+/**
+ * Dataset specific view of a {@link DictionaryBackedParser}.
+ * A small dictionary of dataset specific entries is consulted first, all other input is parsed by the shared
+ * parser, so an overlay only costs memory for its own entries. Instances are immutable and thread safe.
+ */
+public final class DictionaryOverlay<V> implements Parsable<V> {
+
+  private final String datasetKey;
+  private final DictionaryBackedParser<V> base;
+  private final CompactDictionary<V> entries;
+
+  DictionaryOverlay(String datasetKey, DictionaryBackedParser<V> base, Map<String, V> entries) {
+    this.datasetKey = datasetKey;
+    this.base = base;
+    Map<String, V> normalized = new HashMap<String, V>();
+    for (Map.Entry<String, V> entry : entries.entrySet()) {
+      String key = entry.getKey() == null ? null : base.normalize(entry.getKey());
+      if (!Strings.isNullOrEmpty(key) && entry.getValue() != null) {
+        normalized.put(key, entry.getValue());
+      }
+    }
+    this.entries = CompactDictionary.of(normalized);
+  }
+
+  public String getDatasetKey() {
+    return datasetKey;
+  }
+
+  /**
+   * @return the number of dataset specific entries
+   */
+  public int size() {
+    return entries.size();
+  }
+
+  /**
+   * Normalizes the input once to look it up in the dataset specific entries, then in the shared dictionary.
+   */
+  @Override
+  public ParseResult<V> parse(String input) {
+    if (entries.size() == 0 || input == null) {
+      return base.parse(input);
+    }
+    final long start = Metrics.start();
+    String normed = base.normalize(input);
+    ParseResult<V> result = entries.lookup(normed);
+    if (result.isSuccessful()) {
+      return Metrics.record(base.metricName, input, result, start);
+    }
+    return base.parse(input, normed, start);
+  }
+}
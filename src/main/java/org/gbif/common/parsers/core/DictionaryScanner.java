@@ -0,0 +1,378 @@
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Objects;
+
+/**
+ * Finds the terms of a dictionary within free text, e.g. countries in a locality or type statuses in a citation.
+ * An Aho-Corasick automaton is built from the normalized dictionary keys, so text is scanned in a single pass
+ * regardless of the number of terms.
+ *
+ * Keys and text are compared by their ASCII folded, uppercased letters, digits and underscores. Any run of other
+ * characters like whitespace or punctuation is a word break, which only matches a word break of the original
+ * dictionary term, e.g. "united  states" matches the term "United States" but "to go" does not match "Togo".
+ * A match must start and end at a word boundary of the original text, so PAN is not found in "Japan". Keys shorter
+ * than the minimum key length are ignored, as short codes like "IN" or "DE" would match ordinary words.
+ *
+ * The scanner is immutable and thread safe. It does not see dictionary changes made after it was built.
+ */
+public final class DictionaryScanner<V> {
+
+  // maps the word characters to the first 37 symbols of the automaton, -1 for all others
+  private static final byte[] SYMBOLS = new byte[128];
+  // the symbol of a word break
+  private static final byte BREAK = 37;
+
+  static {
+    Arrays.fill(SYMBOLS, (byte) -1);
+    for (char c = 'A'; c <= 'Z'; c++) {
+      SYMBOLS[c] = (byte) (c - 'A');
+      SYMBOLS[Character.toLowerCase(c)] = (byte) (c - 'A');
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      SYMBOLS[c] = (byte) (26 + c - '0');
+    }
+    SYMBOLS['_'] = 36;
+  }
+
+  private final CompactDictionary<V> table;
+  private final int size;
+  // per path through the trie, several paths lead to the same key if it spans several words
+  private final String[] keys;
+  private final int[] keyLengths;
+  private final int[] valueIds;
+  // per state with the root being state 0, the children of a state form a linked list as the alphabet is tiny
+  private final int[] firstChild;
+  private final int[] nextSibling;
+  private final byte[] symbol;
+  private final int[] fail;
+  private final int[] output;
+  private final int[] outputLink;
+
+  /**
+   * A dictionary term found in the text.
+   */
+  public static final class Match<V> {
+    private final int start;
+    private final int end;
+    private final String key;
+    private final V value;
+
+    Match(int start, int end, String key, V value) {
+      this.start = start;
+      this.end = end;
+      this.key = key;
+      this.value = value;
+    }
+
+    /**
+     * @return the offset of the first character of the term in the text
+     */
+    public int getStart() {
+      return start;
+    }
+
+    /**
+     * @return the offset after the last character of the term in the text
+     */
+    public int getEnd() {
+      return end;
+    }
+
+    /**
+     * @return the normalized dictionary key that matched
+     */
+    public String getKey() {
+      return key;
+    }
+
+    public V getValue() {
+      return value;
+    }
+
+    @Override
+    public String toString() {
+      return Objects.toStringHelper(this)
+        .add("start", start)
+        .add("end", end)
+        .add("key", key)
+        .add("value", value)
+        .toString();
+    }
+  }
+
+  private static final Comparator<Match<?>> BY_POSITION = new Comparator<Match<?>>() {
+    @Override
+    public int compare(Match<?> m1, Match<?> m2) {
+      if (m1.start != m2.start) {
+        return m1.start < m2.start ? -1 : 1;
+      }
+      // longer matches first
+      return m1.end == m2.end ? 0 : (m1.end > m2.end ? -1 : 1);
+    }
+  };
+
+  /**
+   * Builds a scanner from the current dictionary of the parser.
+   *
+   * @param parser the parser providing the dictionary
+   * @param minKeyLength the minimum number of letters and digits of a key to be searched for
+   */
+  public static <V> DictionaryScanner<V> of(DictionaryBackedParser<V> parser, int minKeyLength) {
+    return new DictionaryScanner<V>(parser.lookupTable(), parser.multiWordKeys(), minKeyLength);
+  }
+
+  /**
+   * @return the key of a term spanning several words with a space at each word break, e.g. PAPUA NEW GUINEA for
+   * "Papua New-Guinea", or null if the term is a single word
+   */
+  @Nullable
+  static String multiWordKey(String term) {
+    StringBuilder key = new StringBuilder(term.length());
+    StringBuilder folded = new StringBuilder(4);
+    boolean words = false;
+    boolean pendingBreak = false;
+    for (int i = 0; i < term.length(); i++) {
+      char c = term.charAt(i);
+      folded.setLength(0);
+      if (c < 128) {
+        folded.append(c);
+      } else {
+        ASCIIParser.foldToASCII(c, folded);
+      }
+      boolean symbols = false;
+      for (int j = 0; j < folded.length(); j++) {
+        char f = folded.charAt(j);
+        if (f < 128 && SYMBOLS[f] >= 0) {
+          if (pendingBreak) {
+            key.append(' ');
+            words = true;
+            pendingBreak = false;
+          }
+          key.append(Character.toUpperCase(f));
+          symbols = true;
+        }
+      }
+      if (!symbols && key.length() > 0 && isBreak(c)) {
+        pendingBreak = true;
+      }
+    }
+    return words ? key.toString() : null;
+  }
+
+  private DictionaryScanner(CompactDictionary<V> table, Set<String> multiWordKeys, int minKeyLength) {
+    this.table = table;
+    int size = 0;
+    // the symbols of each path through the trie with spaces for word breaks and the key they lead to
+    List<String> usable = new ArrayList<String>();
+    List<String> originals = new ArrayList<String>();
+    int capacity = 1;
+    for (String key : table.keys()) {
+      String symbols = KeyNormalizer.WORD.normalize(key);
+      if (symbols.length() >= Math.max(minKeyLength, 1)) {
+        usable.add(symbols);
+        originals.add(key);
+        capacity += symbols.length();
+        size++;
+        // keys normalized without dropping the word breaks, e.g. by a case insensitive parser
+        String words = multiWordKey(key);
+        if (words != null) {
+          usable.add(words);
+          originals.add(key);
+          capacity += words.length();
+        }
+      }
+    }
+    this.size = size;
+    for (String words : multiWordKeys) {
+      String key = words.replace(" ", "");
+      // keys changed by the normalization of the parser beyond dropping the word breaks can't be matched
+      if (key.length() >= Math.max(minKeyLength, 1) && table.find(key) >= 0) {
+        usable.add(words);
+        originals.add(key);
+        capacity += words.length();
+      }
+    }
+
+    keys = new String[usable.size()];
+    keyLengths = new int[usable.size()];
+    valueIds = new int[usable.size()];
+    int[] firstChild = new int[capacity];
+    int[] nextSibling = new int[capacity];
+    byte[] symbol = new byte[capacity];
+    int[] output = new int[capacity];
+    Arrays.fill(firstChild, -1);
+    Arrays.fill(nextSibling, -1);
+    Arrays.fill(output, -1);
+
+    // build the trie
+    int states = 1;
+    for (int k = 0; k < keys.length; k++) {
+      String key = usable.get(k);
+      keys[k] = originals.get(k);
+      keyLengths[k] = key.length();
+      valueIds[k] = table.find(originals.get(k));
+      int state = 0;
+      for (int i = 0; i < key.length(); i++) {
+        byte s = key.charAt(i) == ' ' ? BREAK : SYMBOLS[key.charAt(i)];
+        int child = child(firstChild, nextSibling, symbol, state, s);
+        if (child < 0) {
+          child = states++;
+          symbol[child] = s;
+          nextSibling[child] = firstChild[state];
+          firstChild[state] = child;
+        }
+        state = child;
+      }
+      // keys normalizing to the same symbols keep the first
+      if (output[state] < 0) {
+        output[state] = k;
+      }
+    }
+
+    // breadth first computation of the failure and output links
+    int[] fail = new int[states];
+    int[] outputLink = new int[states];
+    int[] queue = new int[states];
+    int head = 0;
+    int tail = 0;
+    outputLink[0] = -1;
+    for (int c = firstChild[0]; c >= 0; c = nextSibling[c]) {
+      fail[c] = 0;
+      outputLink[c] = -1;
+      queue[tail++] = c;
+    }
+    while (head < tail) {
+      int state = queue[head++];
+      for (int c = firstChild[state]; c >= 0; c = nextSibling[c]) {
+        int f = fail[state];
+        int next;
+        while ((next = child(firstChild, nextSibling, symbol, f, symbol[c])) < 0 && f != 0) {
+          f = fail[f];
+        }
+        fail[c] = next >= 0 && next != c ? next : 0;
+        outputLink[c] = output[fail[c]] >= 0 ? fail[c] : outputLink[fail[c]];
+        queue[tail++] = c;
+      }
+    }
+
+    this.firstChild = Arrays.copyOf(firstChild, states);
+    this.nextSibling = Arrays.copyOf(nextSibling, states);
+    this.symbol = Arrays.copyOf(symbol, states);
+    this.output = Arrays.copyOf(output, states);
+    this.fail = fail;
+    this.outputLink = outputLink;
+  }
+
+  private static int child(int[] firstChild, int[] nextSibling, byte[] symbol, int state, byte s) {
+    for (int c = firstChild[state]; c >= 0; c = nextSibling[c]) {
+      if (symbol[c] == s) {
+        return c;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * @return the number of dictionary keys searched for
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Finds all dictionary terms in the text, including overlapping ones.
+   *
+   * @return the matches ordered by their start offset, longer matches first
+   */
+  public List<Match<V>> scan(CharSequence text) {
+    if (text == null || text.length() == 0 || keys.length == 0) {
+      return Collections.emptyList();
+    }
+    List<Match<V>> matches = new ArrayList<Match<V>>();
+    // original offset of each symbol fed into the automaton
+    int[] offsets = new int[text.length() + 8];
+    int symbols = 0;
+    StringBuilder folded = new StringBuilder(4);
+    int state = 0;
+    // offset of the first character of a word break not fed into the automaton yet, -1 if there is none
+    int pendingBreak = -1;
+
+    for (int i = 0; i < text.length(); i++) {
+      char c = text.charAt(i);
+      folded.setLength(0);
+      if (c < 128) {
+        folded.append(c);
+      } else {
+        ASCIIParser.foldToASCII(c, folded);
+      }
+      boolean fed = false;
+      for (int j = 0; j < folded.length(); j++) {
+        char f = folded.charAt(j);
+        if (f < 128 && SYMBOLS[f] >= 0) {
+          if (pendingBreak >= 0) {
+            offsets = record(offsets, symbols++, pendingBreak);
+            state = step(state, BREAK, pendingBreak, text, offsets, symbols, matches);
+            pendingBreak = -1;
+          }
+          offsets = record(offsets, symbols++, i);
+          state = step(state, SYMBOLS[f], i, text, offsets, symbols, matches);
+          fed = true;
+        }
+      }
+      if (!fed && symbols > 0 && pendingBreak < 0 && isBreak(c)) {
+        pendingBreak = i;
+      }
+    }
+    Collections.sort(matches, BY_POSITION);
+    return matches;
+  }
+
+  private static int[] record(int[] offsets, int index, int offset) {
+    if (index == offsets.length) {
+      offsets = Arrays.copyOf(offsets, offsets.length * 2);
+    }
+    offsets[index] = offset;
+    return offsets;
+  }
+
+  /**
+   * Advances the automaton by one symbol and collects the keys ending at it.
+   */
+  private int step(int state, byte s, int offset, CharSequence text, int[] offsets, int symbols,
+    List<Match<V>> matches) {
+    int next;
+    while ((next = child(firstChild, nextSibling, symbol, state, s)) < 0 && state != 0) {
+      state = fail[state];
+    }
+    state = next < 0 ? 0 : next;
+
+    for (int o = output[state] >= 0 ? state : outputLink[state]; o > 0; o = outputLink[o]) {
+      int k = output[o];
+      int start = offsets[symbols - keyLengths[k]];
+      int end = offset + 1;
+      if (isBoundary(text, start - 1) && isBoundary(text, end)) {
+        matches.add(new Match<V>(start, end, keys[k], table.value(valueIds[k])));
+      }
+    }
+    return state;
+  }
+
+  /**
+   * @return true for characters separating words, false for letters, digits and combining marks without a symbol
+   */
+  private static boolean isBreak(char c) {
+    return !Character.isLetterOrDigit(c) && Character.getType(c) != Character.NON_SPACING_MARK;
+  }
+
+  private static boolean isBoundary(CharSequence text, int index) {
+    return index < 0 || index >= text.length() || !Character.isLetterOrDigit(text.charAt(index));
+  }
+}
@@ -0,0 +1,219 @@
+package org.gbif.common.parsers.core;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Charsets;
+import com.google.common.hash.Funnels;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.common.io.ByteStreams;
+
+/**
+ * Binary snapshot of an enum backed dictionary holding the already normalized keys and the ordinals of their values.
+ * Snapshots are written at build time by the {@link DictionarySnapshotCompiler} and allow {@link EnumParser}
+ * instances to skip reading, splitting and normalizing the tab files of /dictionaries/parse.
+ *
+ * A snapshot is bound to the format version, the {@link KeyNormalizer#VERSION}, the constants of the enumeration it
+ * was written for and the content of its source resources: the dictionary files it was built from and the class file
+ * of the parser, which holds any custom normalization and entries added in code. The sources are hashed again when
+ * the snapshot is read, so a snapshot left behind by a build that skipped the snapshot compilation, e.g. in an IDE,
+ * is considered out of date and ignored.
+ */
+final class DictionarySnapshot {
+
+  /**
+   * Folder on the classpath holding the snapshots, one file per parser class.
+   */
+  static final String SNAPSHOT_FOLDER = "/dictionaries/snapshot/";
+  static final String SNAPSHOT_SUFFIX = ".bin";
+
+  /**
+   * System property which, if set to true, makes all parsers ignore the snapshots and read the text files instead.
+   */
+  static final String DISABLE_PROPERTY = "gbif.parsers.snapshots.disabled";
+
+  private static final int MAGIC = 0x47505344; // GPSD
+  private static final int FORMAT_VERSION = 3;
+  private static final short NULL_ORDINAL = -1;
+
+  private DictionarySnapshot() {
+  }
+
+  /**
+   * The normalized entries of a snapshot and the keys of its terms spanning several words.
+   */
+  static final class Contents<T> {
+    private final Map<String, T> entries;
+    private final Set<String> multiWordKeys;
+
+    Contents(Map<String, T> entries, Set<String> multiWordKeys) {
+      this.entries = entries;
+      this.multiWordKeys = multiWordKeys;
+    }
+
+    Map<String, T> getEntries() {
+      return entries;
+    }
+
+    /**
+     * @see DictionaryBackedParser#multiWordKeys()
+     */
+    Set<String> getMultiWordKeys() {
+      return multiWordKeys;
+    }
+  }
+
+  /**
+   * @return the classpath resource of the snapshot for the given parser class
+   */
+  static String resourceName(Class<?> parserClass) {
+    return SNAPSHOT_FOLDER + parserClass.getName() + SNAPSHOT_SUFFIX;
+  }
+
+  static boolean isDisabled() {
+    return Boolean.getBoolean(DISABLE_PROPERTY);
+  }
+
+  /**
+   * Writes the normalized dictionary entries as a binary snapshot. The stream is not closed.
+   *
+   * @param parserClass the parser the entries were read by, its class file is always one of the sources
+   * @param resources the classpath resources the entries were read from, resolved against the parser class
+   */
+  static <T extends Enum<T>> void write(Class<T> clazz, Class<?> parserClass, Iterable<String> resources,
+                                        Contents<T> contents, OutputStream out) throws IOException {
+    Set<String> sources = new LinkedHashSet<String>();
+    sources.add(classFile(parserClass));
+    for (String resource : resources) {
+      sources.add(resource);
+    }
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeInt(FORMAT_VERSION);
+    data.writeUTF(clazz.getName());
+    data.writeLong(signature(clazz));
+    data.writeInt(KeyNormalizer.VERSION);
+    data.writeInt(sources.size());
+    for (String source : sources) {
+      Long hash = resourceHash(parserClass, source);
+      if (hash == null) {
+        throw new IOException("Missing dictionary source " + source + " of " + parserClass.getName());
+      }
+      data.writeUTF(source);
+      data.writeLong(hash);
+    }
+    data.writeInt(contents.entries.size());
+    for (Map.Entry<String, T> entry : contents.entries.entrySet()) {
+      data.writeUTF(entry.getKey());
+      data.writeShort(entry.getValue() == null ? NULL_ORDINAL : entry.getValue().ordinal());
+    }
+    data.writeInt(contents.multiWordKeys.size());
+    for (String key : contents.multiWordKeys) {
+      data.writeUTF(key);
+    }
+    data.flush();
+  }
+
+  /**
+   * Reads a snapshot written by {@link #write(Class, Class, Iterable, Contents, OutputStream)}. The stream is
+   * closed.
+   *
+   * @param parserClass the parser reading the snapshot, its sources are resolved against it
+   *
+   * @return the snapshot contents or null if the snapshot is missing, corrupt or out of date
+   */
+  @Nullable
+  static <T extends Enum<T>> Contents<T> read(Class<T> clazz, Class<?> parserClass, @Nullable InputStream in) {
+    if (in == null) {
+      return null;
+    }
+    try {
+      DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+      if (data.readInt() != MAGIC || data.readInt() != FORMAT_VERSION || !clazz.getName().equals(data.readUTF())
+          || data.readLong() != signature(clazz) || data.readInt() != KeyNormalizer.VERSION) {
+        return null;
+      }
+      int sources = data.readInt();
+      for (int i = 0; i < sources; i++) {
+        String source = data.readUTF();
+        Long hash = resourceHash(parserClass, source);
+        if (hash == null || hash != data.readLong()) {
+          return null;
+        }
+      }
+      T[] values = clazz.getEnumConstants();
+      int size = data.readInt();
+      Map<String, T> entries = new HashMap<String, T>(size * 4 / 3 + 1);
+      for (int i = 0; i < size; i++) {
+        String key = data.readUTF();
+        short ordinal = data.readShort();
+        if (ordinal < NULL_ORDINAL || ordinal >= values.length) {
+          return null;
+        }
+        entries.put(key, ordinal == NULL_ORDINAL ? null : values[ordinal]);
+      }
+      int multiWords = data.readInt();
+      Set<String> multiWordKeys = new HashSet<String>(multiWords * 4 / 3 + 1);
+      for (int i = 0; i < multiWords; i++) {
+        multiWordKeys.add(data.readUTF());
+      }
+      return new Contents<T>(entries, multiWordKeys);
+
+    } catch (IOException e) {
+      return null;
+    } finally {
+      try {
+        in.close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+
+  /**
+   * A hash over the enum constants in ordinal order. Renaming, adding, removing or reordering constants changes it.
+   */
+  static long signature(Class<? extends Enum<?>> clazz) {
+    Hasher hasher = Hashing.murmur3_128().newHasher();
+    for (Enum<?> e : clazz.getEnumConstants()) {
+      hasher.putInt(e.ordinal()).putString(e.name(), Charsets.UTF_8);
+    }
+    return hasher.hash().asLong();
+  }
+
+  /**
+   * @return the classpath resource of the class file of the class
+   */
+  private static String classFile(Class<?> clazz) {
+    return "/" + clazz.getName().replace('.', '/') + ".class";
+  }
+
+  /**
+   * @return a hash over the content of the resource or null if it does not exist
+   */
+  @Nullable
+  private static Long resourceHash(Class<?> parserClass, String resource) throws IOException {
+    InputStream in = parserClass.getResourceAsStream(resource);
+    if (in == null) {
+      return null;
+    }
+    try {
+      Hasher hasher = Hashing.murmur3_128().newHasher();
+      ByteStreams.copy(in, Funnels.asOutputStream(hasher));
+      return hasher.hash().asLong();
+    } finally {
+      in.close();
+    }
+  }
+}
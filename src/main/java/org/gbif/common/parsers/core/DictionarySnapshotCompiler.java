@@ -0,0 +1,65 @@
+package org.gbif.common.parsers.core;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Build time tool writing the binary dictionary snapshots of {@link EnumParser} singletons.
+ * The parsers are built from their text files and their normalized entries are written to the output folder,
+ * one file per parser class as expected by {@link DictionarySnapshot#resourceName(Class)}.
+ *
+ * Usage: DictionarySnapshotCompiler outputFolder parserClass[=resource,...]...
+ * Each parser class must provide a static getInstance() method returning an {@link EnumParser}. The optional
+ * comma separated classpath resources are the dictionary files the parser reads, their content is recorded in the
+ * snapshot so it is ignored once they change.
+ */
+public final class DictionarySnapshotCompiler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(DictionarySnapshotCompiler.class);
+
+  private DictionarySnapshotCompiler() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 2) {
+      throw new IllegalArgumentException("Usage: DictionarySnapshotCompiler outputFolder parserClass[=resource,...]...");
+    }
+    // never build the parsers from snapshots of a previous build
+    System.setProperty(DictionarySnapshot.DISABLE_PROPERTY, "true");
+
+    File folder = new File(args[0]);
+    if (!folder.isDirectory() && !folder.mkdirs()) {
+      throw new IOException("Cannot create snapshot folder " + folder.getAbsolutePath());
+    }
+    for (int i = 1; i < args.length; i++) {
+      int split = args[i].indexOf('=');
+      Class<?> parserClass = Class.forName(split < 0 ? args[i] : args[i].substring(0, split));
+      List<String> resources = split < 0 ? Collections.<String>emptyList()
+        : Arrays.asList(args[i].substring(split + 1).split(","));
+      EnumParser<?> parser = (EnumParser<?>) parserClass.getMethod("getInstance").invoke(null);
+      File snapshot = new File(folder, parserClass.getName() + DictionarySnapshot.SNAPSHOT_SUFFIX);
+      write(parser, resources, snapshot);
+      LOG.info("Wrote {} dictionary entries of {} to {}", parser.entries().size(), parserClass.getSimpleName(), snapshot);
+    }
+  }
+
+  private static <T extends Enum<T>> void write(EnumParser<T> parser, List<String> resources, File snapshot)
+    throws IOException {
+    OutputStream out = new FileOutputStream(snapshot);
+    try {
+      DictionarySnapshot.write(parser.getEnumClass(), parser.getClass(), resources,
+        new DictionarySnapshot.Contents<T>(parser.entries(), parser.multiWordKeys()), out);
+    } finally {
+      out.close();
+    }
+  }
+}
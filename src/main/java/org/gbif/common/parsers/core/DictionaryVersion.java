@@ -0,0 +1,97 @@
+package org.gbif.common.parsers.core;
+
+import java.io.File;
+import java.util.Date;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Objects;
+
+/**
+ * Describes the dictionary currently used by a {@link FileBasedDictionaryParser}.
+ * The hash only depends on the normalized entries, so nodes of a cluster running the same dictionary report the
+ * same hash.
+ */
+public final class DictionaryVersion {
+
+  private final String hash;
+  private final int size;
+  private final int sizeDelta;
+  private final int skipped;
+  private final long reloadMillis;
+  private final Date loaded;
+  private final File overrideFile;
+
+  DictionaryVersion(String hash, int size, int sizeDelta, int skipped, long reloadMillis,
+                    @Nullable File overrideFile) {
+    this.hash = hash;
+    this.size = size;
+    this.sizeDelta = sizeDelta;
+    this.skipped = skipped;
+    this.reloadMillis = reloadMillis;
+    this.loaded = new Date();
+    this.overrideFile = overrideFile;
+  }
+
+  /**
+   * @return hex encoded hash of all normalized dictionary entries
+   */
+  public String getHash() {
+    return hash;
+  }
+
+  /**
+   * @return the number of dictionary entries
+   */
+  public int getSize() {
+    return size;
+  }
+
+  /**
+   * @return the change in the number of entries compared to the previous version
+   */
+  public int getSizeDelta() {
+    return sizeDelta;
+  }
+
+  /**
+   * @return the number of override lines skipped because their value does not resolve, which should be 0
+   */
+  public int getSkipped() {
+    return skipped;
+  }
+
+  /**
+   * @return the time it took to read the override file and build the dictionary in milliseconds
+   */
+  public long getReloadMillis() {
+    return reloadMillis;
+  }
+
+  /**
+   * @return when this version was published
+   */
+  public Date getLoaded() {
+    return new Date(loaded.getTime());
+  }
+
+  /**
+   * @return the override file layered on top of the built in dictionary, null for the built in dictionary only
+   */
+  @Nullable
+  public File getOverrideFile() {
+    return overrideFile;
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+      .add("hash", hash)
+      .add("size", size)
+      .add("sizeDelta", sizeDelta)
+      .add("skipped", skipped)
+      .add("reloadMillis", reloadMillis)
+      .add("loaded", loaded)
+      .add("overrideFile", overrideFile)
+      .toString();
+  }
+}
@@ -4,21 +4,89 @@ import com.google.common.collect.Sets;
 import org.gbif.api.util.VocabularyUtils;
 
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.HashSet;
-import java.util.regex.Pattern;
+import java.util.List;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
 
-import com.google.common.base.Strings;
 
 /**
  * Generic parser for enumerations making use of our vocabulary util to lookup an enum value from a string.
  * Also adds stronger normalization removing any non-ASCII-alphanumeric characters. It is still ok to use hyphens or
  * underscores in the enumeration values.
+ *
+ * If a binary snapshot compiled by the {@link DictionarySnapshotCompiler} exists for the concrete parser class
+ * the dictionary is loaded from it and all entries added later on by the constructors are ignored.
+ * Snapshots that are missing or out of date fall back to building the dictionary from its source files.
+ *
+ * Subclasses opt in to faster parse paths by passing an {@link Optimization} to the constructor, which declares
+ * how far they customize parsing. With {@link Optimization#SINGLE_PASS} and above the input is normalized with
+ * {@link #normalizeTo(CharSequence, StringBuilder)} into a reusable per thread buffer and looked up without creating
+ * intermediate strings. Subclasses which don't declare an optimization are parsed through {@link #normalize(String)}.
+ *
+ * Whole columns can be parsed into primitive arrays of enum ordinals with
+ * {@link #parseOrdinals(List, int[], byte[])}, which avoids creating a result object per value.
+ * UTF-8 encoded values can be parsed from file buffers with {@link #parseUtf8(byte[], int, int)} without decoding
+ * them into Strings, regions of character buffers with {@link #parse(CharSequence, int, int)} without substrings.
  */
 public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T> {
 
+  /**
+   * Marks values without a match in the ordinal and confidence arrays filled by
+   * {@link #parseOrdinals(List, int[], byte[])}.
+   */
+  public static final int NO_MATCH = -1;
+
+  /**
+   * The parse paths a subclass allows, each one implying the previous ones. A subclass must not declare more than
+   * its overrides allow, e.g. a parser overriding {@link #normalize(String)} but not
+   * {@link #normalizeTo(CharSequence, StringBuilder)} must use {@link #NONE}.
+   */
+  protected enum Optimization {
+    /**
+     * Every value is parsed as a String through {@link #parse(String)} and {@link #normalize(String)}.
+     */
+    NONE,
+    /**
+     * {@link #normalizeTo(CharSequence, StringBuilder)} gives the same keys as {@link #normalize(String)}, so
+     * values are normalized into a reusable buffer.
+     */
+    SINGLE_PASS,
+    /**
+     * In addition, neither {@link #parse(String)} nor {@link #parseFallback(String, ParseResult)} are customized, so
+     * batches look up the dictionary directly.
+     */
+    DIRECT_LOOKUP,
+    /**
+     * In addition, neither {@link #normalizeTo(CharSequence, StringBuilder)} nor {@link #isNotAvailable(CharSequence)}
+     * are customized, so regions and UTF-8 bytes are normalized without creating a String.
+     */
+    RAW_INPUT
+  }
+
   private final Class<T> clazz;
-  private final Pattern NORMALIZER;
-  private final ASCIIParser ascii = ASCIIParser.getInstance();
+  private final KeyNormalizer normalizer;
+  private final boolean singlePass;
+  private final boolean directLookup;
+  private final boolean rawLookup;
+
+  private static final ThreadLocal<StringBuilder> KEY_BUFFER = new ThreadLocal<StringBuilder>() {
+    @Override
+    protected StringBuilder initialValue() {
+      return new StringBuilder(64);
+    }
+  };
+
+  private static final ThreadLocal<AsciiKeyBuffer> BYTE_KEY_BUFFER = new ThreadLocal<AsciiKeyBuffer>() {
+    @Override
+    protected AsciiKeyBuffer initialValue() {
+      return new AsciiKeyBuffer(64);
+    }
+  };
 
   // These become null, as after removing non-letters "N/A" might mean something like "Namibia".
   private final HashSet<String> notAvailable = Sets.newHashSet(
@@ -27,15 +95,33 @@ public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T>
           "UNK.", "Unk.", "unk.", "UNK", "Unk", "unk" // Unknown
   );
 
+  /**
+   * Creates a parser which uses all parse paths if it is not subclassed, and only {@link Optimization#NONE}
+   * otherwise.
+   */
   protected EnumParser(Class<T> clazz, boolean allowDigits, final InputStream... inputs) {
+    this(clazz, allowDigits, null, inputs);
+  }
+
+  /**
+   * @param optimization the parse paths the subclass allows, see {@link Optimization}
+   */
+  protected EnumParser(Class<T> clazz, boolean allowDigits, @Nullable Optimization optimization,
+                       final InputStream... inputs) {
     super(false);
 
-    if (allowDigits) {
-      NORMALIZER = Pattern.compile("\\W+");
-    } else {
-      NORMALIZER = Pattern.compile("[^a-zA-Z]+");
+    if (optimization == null) {
+      // the base class itself can't have customized anything
+      optimization = getClass() == EnumParser.class ? Optimization.RAW_INPUT : Optimization.NONE;
     }
+    // digits also keep the underscore as the \W+ pattern used before did
+    normalizer = allowDigits ? KeyNormalizer.WORD : KeyNormalizer.LETTERS;
+    singlePass = optimization.compareTo(Optimization.SINGLE_PASS) >= 0;
+    directLookup = optimization.compareTo(Optimization.DIRECT_LOOKUP) >= 0;
+    rawLookup = optimization == Optimization.RAW_INPUT;
     this.clazz = clazz;
+    // prefer the precompiled snapshot, the stream based init below will close the unused inputs
+    loadSnapshot();
     // init dicts
     addEnumValues();
 
@@ -46,6 +132,22 @@ public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T>
     }
   }
 
+  private void loadSnapshot() {
+    if (!DictionarySnapshot.isDisabled()) {
+      DictionarySnapshot.Contents<T> contents = DictionarySnapshot.read(clazz, getClass(),
+        getClass().getResourceAsStream(DictionarySnapshot.resourceName(getClass())));
+      if (contents != null) {
+        initFromSnapshot(contents.getEntries(), contents.getMultiWordKeys());
+        log.debug("Loaded {} dictionary entries for {} from snapshot", contents.getEntries().size(),
+          getClass().getSimpleName());
+      }
+    }
+  }
+
+  Class<T> getEnumClass() {
+    return clazz;
+  }
+
   private void addEnumValues() {
     T[] values = clazz.getEnumConstants();
     if (values != null) {
@@ -55,13 +157,225 @@ public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T>
     }
   }
 
+  @Override
+  protected ParseResult<T> parseUncached(String input) {
+    if (!singlePass) {
+      return super.parseUncached(input);
+    }
+    StringBuilder key = KEY_BUFFER.get();
+    key.setLength(0);
+    if (!normalizeTo(input, key)) {
+      return ParseResult.fail();
+    }
+    ParseResult<T> result = lookupTable().lookup(key);
+    return result.isSuccessful() ? result : fuzzyLookup(key, result);
+  }
+
+  /**
+   * Parses a region of the input in place if the parser allows {@link Optimization#RAW_INPUT}.
+   * The cache of the parser is bypassed.
+   */
+  @Override
+  public ParseResult<T> parse(CharSequence input, int start, int end) {
+    if (!rawLookup || input == null) {
+      return super.parse(input, start, end);
+    }
+    final long started = Metrics.start();
+    ParseResult<T> result;
+    if (start == end || isNotAvailable(input, start, end)) {
+      result = ParseResult.fail();
+    } else {
+      StringBuilder key = KEY_BUFFER.get();
+      key.setLength(0);
+      normalizer.appendTo(input, start, end, key);
+      result = lookupTable().lookup(key);
+      if (!result.isSuccessful()) {
+        result = fuzzyLookup(key, result);
+      }
+    }
+    if (!result.isSuccessful()) {
+      trackFailure(input.subSequence(start, end));
+    }
+    return Metrics.record(metricName, input, start, end, result, started);
+  }
+
+  private boolean isNotAvailable(CharSequence input, int start, int end) {
+    for (String na : notAvailable) {
+      if (na.length() == end - start) {
+        int i = 0;
+        while (i < na.length() && input.charAt(start + i) == na.charAt(i)) {
+          i++;
+        }
+        if (i == na.length()) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Parses a UTF-8 encoded value, e.g. a field in the buffer of a text file.
+   * If the parser allows {@link Optimization#RAW_INPUT}, the bytes are normalized straight into a reusable
+   * ASCII key without decoding them into a String. The cache of the parser is bypassed.
+   *
+   * @param utf8 the bytes holding the value
+   * @param offset of the first byte of the value
+   * @param length the number of bytes of the value
+   */
+  public ParseResult<T> parseUtf8(byte[] utf8, int offset, int length) {
+    if (!rawLookup) {
+      return parse(new String(utf8, offset, length, Charsets.UTF_8));
+    }
+    final long start = Metrics.start();
+    ParseResult<T> result;
+    if (length == 0 || isNotAvailable(utf8, offset, length)) {
+      result = ParseResult.fail();
+    } else {
+      AsciiKeyBuffer key = BYTE_KEY_BUFFER.get();
+      key.clear();
+      normalizer.appendUtf8(utf8, offset, length, key);
+      result = lookupTable().lookup(key);
+      if (!result.isSuccessful()) {
+        result = fuzzyLookup(key, result);
+      }
+    }
+    if (!result.isSuccessful() && getFailureTracking() > 0) {
+      trackFailure(new String(utf8, offset, length, Charsets.UTF_8));
+    }
+    return Metrics.record(metricName, result, start);
+  }
+
+  /**
+   * Parses the remaining UTF-8 encoded bytes of the buffer without changing its position.
+   * Buffers without a backing array are copied first.
+   *
+   * @see #parseUtf8(byte[], int, int)
+   */
+  public ParseResult<T> parseUtf8(ByteBuffer utf8) {
+    if (utf8.hasArray()) {
+      return parseUtf8(utf8.array(), utf8.arrayOffset() + utf8.position(), utf8.remaining());
+    }
+    byte[] copy = new byte[utf8.remaining()];
+    utf8.duplicate().get(copy);
+    return parseUtf8(copy, 0, copy.length);
+  }
+
+  private boolean isNotAvailable(byte[] utf8, int offset, int length) {
+    for (String na : notAvailable) {
+      if (na.length() == length) {
+        int i = 0;
+        while (i < length && utf8[offset + i] == na.charAt(i)) {
+          i++;
+        }
+        if (i == length) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Parses a column of values into the ordinals of the matching enum values.
+   *
+   * @see #parseOrdinals(List, int[], byte[])
+   */
+  public int parseOrdinals(String[] values, int[] ordinals, byte[] confidences) {
+    return parseOrdinals(Arrays.asList(values), ordinals, confidences);
+  }
+
+  /**
+   * Parses a column of values into the ordinals of the matching enum values.
+   * The ordinal of the i-th value is written to ordinals[i] and the ordinal of its {@link ParseResult.CONFIDENCE}
+   * to confidences[i], values without a match get {@link #NO_MATCH} in both arrays.
+   *
+   * If the parser allows {@link Optimization#DIRECT_LOOKUP}, the values are normalized into a reusable buffer and
+   * looked up directly in the dictionary, bypassing the cache and without creating any objects for matching values.
+   *
+   * @param values the raw values, null entries don't match
+   * @param ordinals to fill with the enum ordinals, at least as long as the values
+   * @param confidences to fill with the confidence ordinals, at least as long as the values
+   *
+   * @return the number of values with a match
+   *
+   * @throws IllegalArgumentException if one of the arrays is shorter than the values
+   */
+  public int parseOrdinals(List<? extends CharSequence> values, int[] ordinals, byte[] confidences) {
+    final int size = values.size();
+    Preconditions.checkArgument(ordinals.length >= size, "Ordinal array is shorter than the values");
+    Preconditions.checkArgument(confidences.length >= size, "Confidence array is shorter than the values");
+
+    int matched = 0;
+    if (directLookup) {
+      CompactDictionary<T> table = lookupTable();
+      StringBuilder key = KEY_BUFFER.get();
+      for (int i = 0; i < size; i++) {
+        key.setLength(0);
+        int id = normalizeTo(values.get(i), key) ? table.find(key) : CompactDictionary.NOT_FOUND;
+        if (id != CompactDictionary.NOT_FOUND) {
+          ordinals[i] = table.value(id).ordinal();
+          confidences[i] = (byte) ParseResult.CONFIDENCE.DEFINITE.ordinal();
+          matched++;
+        } else if (key.length() > 0 && isFuzzyMatching()) {
+          matched += fill(fuzzyLookup(key, ParseResult.<T>fail()), i, ordinals, confidences);
+        } else {
+          ordinals[i] = NO_MATCH;
+          confidences[i] = NO_MATCH;
+        }
+        if (ordinals[i] == NO_MATCH) {
+          trackFailure(values.get(i));
+        }
+      }
+    } else {
+      for (int i = 0; i < size; i++) {
+        CharSequence value = values.get(i);
+        matched += fill(parse(value == null ? null : value.toString()), i, ordinals, confidences);
+      }
+    }
+    return matched;
+  }
+
+  /**
+   * @return 1 if the result is a match, 0 otherwise
+   */
+  private static int fill(ParseResult<? extends Enum<?>> result, int i, int[] ordinals, byte[] confidences) {
+    if (result.isSuccessful() && result.getPayload() != null) {
+      ordinals[i] = result.getPayload().ordinal();
+      confidences[i] = result.getConfidence() == null ? NO_MATCH : (byte) result.getConfidence().ordinal();
+      return 1;
+    }
+    ordinals[i] = NO_MATCH;
+    confidences[i] = NO_MATCH;
+    return 0;
+  }
+
   @Override
   protected String normalize(String value) {
-    if (Strings.isNullOrEmpty(handleNotAvailable(value))) return null;
+    if (value == null) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(value.length());
+    return normalizeTo(value, sb) ? sb.toString() : null;
+  }
 
-    // convert to ascii
-    ParseResult<String> asci = ascii.parse(value);
-    return NORMALIZER.matcher(asci.getPayload()).replaceAll("").toUpperCase();
+  /**
+   * Appends the normalized value to the buffer, folding it to ASCII, removing all non ASCII alphanumerical
+   * characters and uppercasing it in a single pass.
+   * Subclasses overriding this method should override {@link #normalize(String)} only if it stays consistent,
+   * and must not declare {@link Optimization#RAW_INPUT}.
+   *
+   * @param value the value to be normalised
+   * @param buffer to append the normalised value to
+   *
+   * @return false if the value is null, empty or not available, true if the normalised value was appended
+   */
+  protected boolean normalizeTo(@Nullable CharSequence value, StringBuilder buffer) {
+    if (value == null || value.length() == 0 || isNotAvailable(value)) {
+      return false;
+    }
+    normalizer.appendTo(value, buffer);
+    return true;
   }
 
   /**
@@ -72,6 +386,21 @@ public class EnumParser<T extends Enum<T>> extends FileBasedDictionaryParser<T>
     return notAvailable.contains(value) ? null : value;
   }
 
+  /**
+   * Same as {@link #handleNotAvailable(String)}, but without creating a String for other character sequences.
+   */
+  protected boolean isNotAvailable(CharSequence value) {
+    if (value instanceof String) {
+      return notAvailable.contains(value);
+    }
+    for (String na : notAvailable) {
+      if (na.contentEquals(value)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   @Override
   protected T fromDictFile(String value) {
     try {
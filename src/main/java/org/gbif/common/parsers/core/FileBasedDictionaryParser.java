@@ -1,22 +1,53 @@
 package org.gbif.common.parsers.core;
 
 import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Pattern;
 
 import org.apache.commons.lang3.StringUtils;
 
 import com.google.common.base.Charsets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 
 /**
  * A very simple Dictionary backed by a tab delimited file.
+ *
+ * The built in dictionary can be amended at runtime by an override file named SimpleClassName.txt, e.g.
+ * CountryParser.txt, in the same tab delimited format with # marking comments. Its entries are layered on top
+ * of the built in entries, lines with the value {@link #REMOVAL_MARKER} remove a mapping. Lines with any other value
+ * that does not resolve are logged and skipped, their number is reported by {@link DictionaryVersion#getSkipped()}.
+ * See {@link #watch(File, long, TimeUnit)} and {@link #reload(File)}.
  */
 public abstract class FileBasedDictionaryParser<T> extends DictionaryBackedParser<T> {
 
+  /**
+   * The value removing the mapping of a key in an override file.
+   */
+  public static final String REMOVAL_MARKER = "-";
+
+  private static final String OVERRIDE_SUFFIX = ".txt";
+  private static final String OVERRIDE_COMMENT_MARKER = "#";
+
+  // one daemon thread polls the override files of all watching parsers and rebuilds their dictionaries
+  private static final ScheduledExecutorService WATCHER = Executors.newSingleThreadScheduledExecutor(
+    new ThreadFactoryBuilder().setNameFormat("dictionary-watcher-%d").setDaemon(true).build());
+
+  // the built in dictionary the overrides are layered on, guarded by this
+  private CompactDictionary<T> base;
+  private ScheduledFuture<?> watchTask;
+  private volatile DictionaryVersion version;
+
   public FileBasedDictionaryParser(boolean caseSensitive) {
     super(caseSensitive);
   }
@@ -32,9 +63,139 @@ public abstract class FileBasedDictionaryParser<T> extends DictionaryBackedParse
    * @param commentMarker marker identifying a commented line (e.g. #) or null to read all lines
    */
   protected void init(InputStream input, String commentMarker) {
+    if (isLoadedFromSnapshot()) {
+      // the snapshot already contains the file entries
+      closeQuietly(input);
+      return;
+    }
     init(new Source(input, commentMarker));
   }
 
+  private static void closeQuietly(InputStream input) {
+    if (input != null) {
+      try {
+        input.close();
+      } catch (IOException ignored) {
+      }
+    }
+  }
+
+  /**
+   * @return the override file of this parser within the given directory
+   */
+  public File overrideFile(File directory) {
+    return new File(directory, getClass().getSimpleName() + OVERRIDE_SUFFIX);
+  }
+
+  /**
+   * Polls the override file of this parser in the given directory and reloads the dictionary whenever the file
+   * is created, modified or deleted. Replaces any previous watch.
+   *
+   * @param directory the directory holding the override files
+   * @param interval the polling interval
+   */
+  public synchronized void watch(File directory, long interval, TimeUnit unit) {
+    stopWatching();
+    final File file = overrideFile(directory);
+    watchTask = WATCHER.scheduleWithFixedDelay(new Runnable() {
+      private long lastModified = 0;
+      private long length = 0;
+
+      @Override
+      public void run() {
+        long modified = file.lastModified();
+        long len = file.length();
+        if (modified != lastModified || len != length) {
+          lastModified = modified;
+          length = len;
+          try {
+            reload(file);
+          } catch (Exception e) {
+            log.warn("Failed to reload dictionary override {}", file, e);
+          }
+        }
+      }
+    }, 0, interval, unit);
+  }
+
+  /**
+   * Stops polling the override file, the current dictionary stays in use.
+   */
+  public synchronized void stopWatching() {
+    if (watchTask != null) {
+      watchTask.cancel(false);
+      watchTask = null;
+    }
+  }
+
+  /**
+   * Builds a new dictionary from the built in entries and the override file and publishes it atomically.
+   * Parsing is never blocked, calls in flight finish with the previous dictionary.
+   *
+   * @param overrideFile the override file, if it does not exist the built in dictionary is restored
+   *
+   * @return the version of the new dictionary
+   */
+  public synchronized DictionaryVersion reload(File overrideFile) throws IOException {
+    long start = System.nanoTime();
+    if (base == null) {
+      base = lookupTable();
+    }
+    Map<String, T> entries = base.toMap();
+    int skipped = 0;
+    if (overrideFile.exists()) {
+      Source source = new Source(new FileInputStream(overrideFile), OVERRIDE_COMMENT_MARKER);
+      try {
+        while (source.hasNext()) {
+          String[] atoms = source.nextAtoms();
+          String key = atoms[0] == null ? null : normalize(atoms[0]);
+          if (StringUtils.isEmpty(key)) {
+            continue;
+          }
+          if (REMOVAL_MARKER.equals(atoms[1])) {
+            entries.remove(key);
+            continue;
+          }
+          T value = atoms[1] == null ? null : fromDictFile(atoms[1]);
+          if (value == null) {
+            // e.g. a typo, which must not remove the built in mapping
+            log.warn("Skipped override of {} with unknown value {} in {}", atoms[0], atoms[1], overrideFile);
+            skipped++;
+          } else {
+            entries.put(key, value);
+            addMultiWordKey(atoms[0]);
+          }
+        }
+      } finally {
+        source.close();
+      }
+    }
+    CompactDictionary<T> table = CompactDictionary.of(entries);
+    int previousSize = lookupTable().size();
+    publish(table);
+    version = new DictionaryVersion(table.contentHash(), table.size(), table.size() - previousSize,
+      skipped, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), overrideFile.exists() ? overrideFile : null);
+    log.info("Reloaded dictionary of {}: {}", getClass().getSimpleName(), version);
+    return version;
+  }
+
+  /**
+   * @return the version of the dictionary currently in use
+   */
+  public DictionaryVersion getDictionaryVersion() {
+    DictionaryVersion v = version;
+    if (v == null) {
+      synchronized (this) {
+        if (version == null) {
+          CompactDictionary<T> table = lookupTable();
+          version = new DictionaryVersion(table.contentHash(), table.size(), 0, 0, 0, null);
+        }
+        v = version;
+      }
+    }
+    return v;
+  }
+
   /**
    * Returns the value read from the dictionary as an instance of <T>
    *
@@ -109,13 +270,21 @@ public abstract class FileBasedDictionaryParser<T> extends DictionaryBackedParse
 
     @Override
     public KeyValue<String, T> next() {
+      String[] atoms = nextAtoms();
+      return new KeyValue<String, T>(atoms[0], fromDictFile(atoms[1]));
+    }
+
+    /**
+     * @return the trimmed key and the raw value of the next line, either can be null
+     */
+    String[] nextAtoms() {
       if (!hasNext()) {
         throw new NoSuchElementException();
       }
 
       String[] atoms = tab.split(line);
       line = null;
-      return new KeyValue<String, T>(StringUtils.trimToNull(atoms[0]), fromDictFile(StringUtils.trimToNull(atoms[1])));
+      return new String[] {StringUtils.trimToNull(atoms[0]), StringUtils.trimToNull(atoms[1])};
     }
 
     @Override
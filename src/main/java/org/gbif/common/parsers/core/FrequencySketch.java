@@ -0,0 +1,82 @@
+package org.gbif.common.parsers.core;
+
+/**
+ * Count-min sketch estimating how often keys were seen recently, used as the TinyLFU admission filter of the
+ * {@link ParseResultCache}. The 4 bit counters are packed 16 to a long, they saturate at 15 and are all halved once
+ * the sample size is reached, so old popularity fades away. Each row indexes its counters by its own seeded hash of
+ * the key, so keys colliding in one row rarely share the counters of the other rows.
+ *
+ * Updates are not synchronized. Concurrent increments may get lost which only makes the estimate a little lower,
+ * an acceptable trade off for an admission heuristic.
+ */
+final class FrequencySketch {
+
+  private static final int DEPTH = 4;
+  private static final int MAX_COUNT = 15;
+  private static final int[] SEEDS = {0x97cb3127, 0xb9f5e3cd, 0x7b8d1c35, 0x2a6ce5a7};
+  // clears the bit each counter receives from its neighbour when a long is shifted right by one
+  private static final long HALF_MASK = 0x7777777777777777L;
+
+  private final long[] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  /**
+   * @param maximumSize the number of entries of the cache to estimate frequencies for
+   */
+  FrequencySketch(int maximumSize) {
+    int width = Integer.highestOneBit(Math.max(maximumSize, 16) * 2 - 1);
+    // width is a power of two of at least 16, so every row fills whole longs
+    table = new long[width * DEPTH / 16];
+    mask = width - 1;
+    sampleSize = 10 * Math.max(maximumSize, 16);
+  }
+
+  /**
+   * Records an occurrence of the key.
+   */
+  void increment(String key) {
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      int counter = counterOf(key, i);
+      int shift = (counter & 15) << 2;
+      if (((table[counter >>> 4] >>> shift) & MAX_COUNT) < MAX_COUNT) {
+        table[counter >>> 4] += 1L << shift;
+        added = true;
+      }
+    }
+    if (added && ++additions >= sampleSize) {
+      reset();
+    }
+  }
+
+  /**
+   * @return the estimated number of recent occurrences of the key, at most 15
+   */
+  int frequency(String key) {
+    int frequency = MAX_COUNT;
+    for (int i = 0; i < DEPTH; i++) {
+      int counter = counterOf(key, i);
+      frequency = Math.min(frequency, (int) (table[counter >>> 4] >>> ((counter & 15) << 2)) & MAX_COUNT);
+    }
+    return frequency;
+  }
+
+  /**
+   * Halves all counters.
+   */
+  private void reset() {
+    additions = 0;
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (table[i] >>> 1) & HALF_MASK;
+    }
+  }
+
+  /**
+   * @return the index of the counter of the row, counting over all rows
+   */
+  private int counterOf(String key, int row) {
+    return row * (mask + 1) + (Hashes.murmur3(key, SEEDS[row]) & mask);
+  }
+}
@@ -0,0 +1,287 @@
+package org.gbif.common.parsers.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Typo tolerant lookup of normalized keys following the SymSpell approach: all variants of a key prefix with up to
+ * two characters deleted are indexed, a query generates the same deletions of its own prefix and the keys sharing
+ * a variant are verified with the optimal string alignment distance (Levenshtein plus transpositions).
+ *
+ * The edit budget depends on the length of both query and key: keys shorter than 4 characters are never matched,
+ * a single edit is tolerated from 4 characters and two edits from 8 characters on.
+ * Matches with one edit are PROBABLE, with two edits POSSIBLE. If the closest keys map to different values the
+ * match is ambiguous and fails.
+ *
+ * Deletion variants are only kept as hashes in a sorted array, hash collisions merely add candidates which are
+ * rejected by the distance check.
+ */
+final class FuzzyIndex<V> {
+
+  static final int MIN_LENGTH = 4;
+  static final int MIN_LENGTH_TWO_EDITS = 8;
+  static final int MAX_LENGTH = 64;
+  // only deletions within the prefix are indexed, keeping the index small for long keys
+  private static final int PREFIX_LENGTH = 7;
+
+  private final CompactDictionary<V> table;
+  private final String[] keys;
+  private final int[] valueIds;
+  // sorted deletion hashes and the index of their key, both ordered by hash
+  private final int[] hashes;
+  private final int[] keyIndices;
+
+  private FuzzyIndex(CompactDictionary<V> table, String[] keys, int[] valueIds, int[] hashes, int[] keyIndices) {
+    this.table = table;
+    this.keys = keys;
+    this.valueIds = valueIds;
+    this.hashes = hashes;
+    this.keyIndices = keyIndices;
+  }
+
+  /**
+   * Builds the index over all keys of the table long enough for fuzzy matching.
+   */
+  static <V> FuzzyIndex<V> of(CompactDictionary<V> table) {
+    List<String> all = table.keys();
+    String[] keys = new String[all.size()];
+    int[] valueIds = new int[all.size()];
+    LongList pairs = new LongList();
+    int n = 0;
+    for (String key : all) {
+      int maxDistance = maxDistance(key.length());
+      if (maxDistance > 0) {
+        keys[n] = key;
+        valueIds[n] = table.find(key);
+        final long keyIndex = n++;
+        char[] prefix = prefix(key);
+        addDeletes(prefix, prefix.length, 0, maxDistance, pairs, keyIndex);
+      }
+    }
+
+    long[] sorted = pairs.toSortedUniqueArray();
+    int[] hashes = new int[sorted.length];
+    int[] keyIndices = new int[sorted.length];
+    for (int i = 0; i < sorted.length; i++) {
+      hashes[i] = (int) (sorted[i] >> 32);
+      keyIndices[i] = (int) sorted[i];
+    }
+    return new FuzzyIndex<V>(table, Arrays.copyOf(keys, n), Arrays.copyOf(valueIds, n), hashes, keyIndices);
+  }
+
+  /**
+   * @return true if the index was built for the given table
+   */
+  boolean isFor(CompactDictionary<V> t) {
+    return table == t;
+  }
+
+  /**
+   * @param query a normalized key which is not part of the dictionary
+   *
+   * @return a PROBABLE or POSSIBLE success for the closest key or the shared failure
+   */
+  ParseResult<V> lookup(CharSequence query) {
+    int maxDistance = maxDistance(query.length());
+    if (maxDistance == 0 || query.length() > MAX_LENGTH) {
+      return ParseResult.fail();
+    }
+
+    char[] q = new char[query.length()];
+    for (int i = 0; i < q.length; i++) {
+      q[i] = query.charAt(i);
+    }
+    Match match = new Match();
+    char[] prefix = Arrays.copyOf(q, Math.min(q.length, PREFIX_LENGTH));
+    collect(prefix, prefix.length, 0, maxDistance, q, maxDistance, match);
+
+    if (match.valueId < 0 || match.ambiguous) {
+      return ParseResult.fail();
+    }
+    return ParseResult.success(match.distance == 1 ? ParseResult.CONFIDENCE.PROBABLE : ParseResult.CONFIDENCE.POSSIBLE,
+      table.value(match.valueId));
+  }
+
+  /**
+   * Visits all deletion variants of the query prefix and verifies the keys indexed under them.
+   */
+  private void collect(char[] buf, int len, int start, int deletes, char[] query, int maxDistance, Match match) {
+    int h = hash(buf, len);
+    int i = Arrays.binarySearch(hashes, h);
+    if (i >= 0) {
+      // rewind to the first entry of the hash
+      while (i > 0 && hashes[i - 1] == h) {
+        i--;
+      }
+      for (; i < hashes.length && hashes[i] == h; i++) {
+        verify(keyIndices[i], query, maxDistance, match);
+      }
+    }
+    if (deletes > 0 && len > 1) {
+      for (int pos = start; pos < len; pos++) {
+        char[] next = delete(buf, len, pos);
+        collect(next, len - 1, pos, deletes - 1, query, maxDistance, match);
+      }
+    }
+  }
+
+  private void verify(int keyIndex, char[] query, int maxDistance, Match match) {
+    if (!match.visit(keyIndex)) {
+      // keys sharing several deletion variants with the query are only checked once
+      return;
+    }
+    String key = keys[keyIndex];
+    int budget = Math.min(maxDistance, maxDistance(key.length()));
+    int d = distance(query, key, Math.min(budget, match.distance));
+    if (d <= budget && d > 0) {
+      if (d < match.distance) {
+        match.distance = d;
+        match.valueId = valueIds[keyIndex];
+        match.ambiguous = false;
+      } else if (d == match.distance && valueIds[keyIndex] != match.valueId) {
+        match.ambiguous = true;
+      }
+    }
+  }
+
+  private static void addDeletes(char[] buf, int len, int start, int deletes, LongList pairs, long keyIndex) {
+    pairs.add(((long) hash(buf, len) << 32) | keyIndex);
+    if (deletes > 0 && len > 1) {
+      for (int pos = start; pos < len; pos++) {
+        addDeletes(delete(buf, len, pos), len - 1, pos, deletes - 1, pairs, keyIndex);
+      }
+    }
+  }
+
+  private static char[] delete(char[] buf, int len, int pos) {
+    char[] next = new char[len - 1];
+    System.arraycopy(buf, 0, next, 0, pos);
+    System.arraycopy(buf, pos + 1, next, pos, len - pos - 1);
+    return next;
+  }
+
+  private static char[] prefix(String key) {
+    return key.substring(0, Math.min(key.length(), PREFIX_LENGTH)).toCharArray();
+  }
+
+  static int maxDistance(int length) {
+    if (length >= MIN_LENGTH_TWO_EDITS) {
+      return 2;
+    }
+    return length >= MIN_LENGTH ? 1 : 0;
+  }
+
+  private static int hash(char[] buf, int len) {
+    int h = len;
+    for (int i = 0; i < len; i++) {
+      h = 31 * h + buf[i];
+    }
+    return Hashes.spread(h);
+  }
+
+  /**
+   * Optimal string alignment distance, giving up once it exceeds the limit.
+   *
+   * @return the distance or limit + 1 if it is larger than the limit
+   */
+  static int distance(char[] a, String b, int limit) {
+    int n = a.length;
+    int m = b.length();
+    if (Math.abs(n - m) > limit) {
+      return limit + 1;
+    }
+    int[] prevPrev = new int[m + 1];
+    int[] prev = new int[m + 1];
+    int[] cur = new int[m + 1];
+    for (int j = 0; j <= m; j++) {
+      prev[j] = j;
+    }
+    for (int i = 1; i <= n; i++) {
+      cur[0] = i;
+      int rowMin = cur[0];
+      for (int j = 1; j <= m; j++) {
+        int cost = a[i - 1] == b.charAt(j - 1) ? 0 : 1;
+        int d = Math.min(Math.min(prev[j] + 1, cur[j - 1] + 1), prev[j - 1] + cost);
+        if (i > 1 && j > 1 && a[i - 1] == b.charAt(j - 2) && a[i - 2] == b.charAt(j - 1)) {
+          d = Math.min(d, prevPrev[j - 2] + 1);
+        }
+        cur[j] = d;
+        rowMin = Math.min(rowMin, d);
+      }
+      if (rowMin > limit) {
+        return limit + 1;
+      }
+      int[] tmp = prevPrev;
+      prevPrev = prev;
+      prev = cur;
+      cur = tmp;
+    }
+    return Math.min(prev[m], limit + 1);
+  }
+
+  /**
+   * The closest match found so far.
+   */
+  private static class Match {
+    private int distance = Integer.MAX_VALUE;
+    private int valueId = -1;
+    private boolean ambiguous;
+    // open addressing set of the verified key indices, stored plus one so zero marks a free slot
+    private int[] visited = new int[64];
+    private int visitedCount;
+
+    /**
+     * @return true if the key was not visited before
+     */
+    boolean visit(int keyIndex) {
+      if (visitedCount * 2 >= visited.length) {
+        int[] old = visited;
+        visited = new int[old.length * 2];
+        visitedCount = 0;
+        for (int v : old) {
+          if (v != 0) {
+            visit(v - 1);
+          }
+        }
+      }
+      int mask = visited.length - 1;
+      int slot = Hashes.spread(keyIndex) & mask;
+      while (visited[slot] != 0) {
+        if (visited[slot] == keyIndex + 1) {
+          return false;
+        }
+        slot = (slot + 1) & mask;
+      }
+      visited[slot] = keyIndex + 1;
+      visitedCount++;
+      return true;
+    }
+  }
+
+  /**
+   * Growable array of primitive longs.
+   */
+  private static class LongList {
+    private long[] values = new long[1024];
+    private int size;
+
+    void add(long value) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = value;
+    }
+
+    long[] toSortedUniqueArray() {
+      long[] sorted = Arrays.copyOf(values, size);
+      Arrays.sort(sorted);
+      int n = 0;
+      for (int i = 0; i < sorted.length; i++) {
+        if (n == 0 || sorted[i] != sorted[n - 1]) {
+          sorted[n++] = sorted[i];
+        }
+      }
+      return Arrays.copyOf(sorted, n);
+    }
+  }
+}
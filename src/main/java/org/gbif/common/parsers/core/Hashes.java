@@ -0,0 +1,49 @@
+package org.gbif.common.parsers.core;
+
+/**
+ * Hash functions shared by the hash tables and sketches of this package.
+ */
+final class Hashes {
+
+  private Hashes() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Same as {@link String#hashCode()}, so Strings reuse their cached hash and other character sequences hash alike.
+   */
+  static int hash(CharSequence value) {
+    if (value instanceof String) {
+      return value.hashCode();
+    }
+    int h = 0;
+    for (int i = 0; i < value.length(); i++) {
+      h = 31 * h + value.charAt(i);
+    }
+    return h;
+  }
+
+  /**
+   * Spreads the bits of a hash as tables only use the lower bits to select a slot.
+   */
+  static int spread(int h) {
+    h *= 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * Murmur3 hash of the chars of the value, different seeds giving independent hashes of the same value.
+   */
+  static int murmur3(CharSequence value, int seed) {
+    int h = seed;
+    for (int i = 0; i < value.length(); i++) {
+      int k = value.charAt(i) * 0xcc9e2d51;
+      k = Integer.rotateLeft(k, 15) * 0x1b873593;
+      h = Integer.rotateLeft(h ^ k, 13) * 5 + 0xe6546b64;
+    }
+    h ^= value.length();
+    h = (h ^ (h >>> 16)) * 0x85ebca6b;
+    h = (h ^ (h >>> 13)) * 0xc2b2ae35;
+    return h ^ (h >>> 16);
+  }
+}
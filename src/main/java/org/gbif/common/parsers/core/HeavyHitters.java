@@ -0,0 +1,295 @@
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+/**
+ * Lock free tracking of the most frequent values of an unbounded stream in constant memory, e.g. the inputs a
+ * dictionary parser fails to parse.
+ *
+ * Occurrences are counted in a count-min sketch, each row indexed by its own seeded hash of the value. The sketch
+ * never underestimates a count and overestimates it by at most e * total / width with a probability of 98%.
+ * A table of at least twice as many slots as the capacity holds the candidates with the highest estimates in the style of
+ * Space-Saving: a value takes a free slot of its probe window or replaces the candidate with the lowest estimate
+ * in the window once its own estimate is higher. Slots are claimed by compare and set.
+ *
+ * Each slot remembers the estimate of its candidate, refreshed only once the estimate grew by a sixteenth, so
+ * frequent values already tracked cost a few reads of their window and rarely a write. Races between threads may
+ * drop a candidate or track it twice now and then, which is acceptable for the approximate counts reported.
+ */
+public final class HeavyHitters {
+
+  /**
+   * Values longer than this are truncated before they are counted.
+   */
+  public static final int MAX_LENGTH = 128;
+
+  private static final int DEPTH = 4;
+  private static final int PROBES = 8;
+  private static final int[] SEEDS = {0x97cb3127, 0xb9f5e3cd, 0x7b8d1c35, 0x2a6ce5a7};
+
+  private final int capacity;
+  private final AtomicLongArray counts;
+  private final int width;
+  private final StripedCounter total = new StripedCounter();
+  // the candidates and the estimates they had when last refreshed
+  private final AtomicReferenceArray<String> slots;
+  private final AtomicLongArray slotCounts;
+
+  /**
+   * A frequent value with its estimated count.
+   */
+  public static final class Entry {
+    private final String value;
+    private final long count;
+    private final long error;
+
+    Entry(String value, long count, long error) {
+      this.value = value;
+      this.count = count;
+      this.error = error;
+    }
+
+    public String getValue() {
+      return value;
+    }
+
+    /**
+     * @return the estimated count, never lower than the real count
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * @return the maximum the estimated count likely exceeds the real count by
+     */
+    public long getError() {
+      return error;
+    }
+
+    @Override
+    public String toString() {
+      return Objects.toStringHelper(this)
+        .add("value", value)
+        .add("count", count)
+        .add("error", error)
+        .toString();
+    }
+  }
+
+  /**
+   * The counts at some point in time, to report the values counted most often since.
+   */
+  public static final class Snapshot {
+    private final HeavyHitters origin;
+    private final long[] counts;
+    private final long total;
+
+    private Snapshot(HeavyHitters origin, long[] counts, long total) {
+      this.origin = origin;
+      this.counts = counts;
+      this.total = total;
+    }
+  }
+
+  private static final Comparator<Entry> BY_COUNT = new Comparator<Entry>() {
+    @Override
+    public int compare(Entry e1, Entry e2) {
+      return e1.count == e2.count ? e1.value.compareTo(e2.value) : (e1.count > e2.count ? -1 : 1);
+    }
+  };
+
+  /**
+   * @param capacity the number of frequent values to track
+   */
+  public HeavyHitters(int capacity) {
+    Preconditions.checkArgument(capacity > 0, "Capacity must be positive");
+    this.capacity = capacity;
+    width = Integer.highestOneBit(Math.max(capacity, 16) * 16);
+    counts = new AtomicLongArray(width * DEPTH);
+    // a power of two of at least twice the capacity and the probe window
+    int size = Integer.highestOneBit(Math.max(capacity * 2, PROBES) * 2 - 1);
+    slots = new AtomicReferenceArray<String>(size);
+    slotCounts = new AtomicLongArray(size);
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  /**
+   * Counts an occurrence of the value.
+   */
+  public void add(String value) {
+    if (value.length() > MAX_LENGTH) {
+      value = value.substring(0, MAX_LENGTH);
+    }
+    total.increment();
+    long estimate = Long.MAX_VALUE;
+    int slotHash = 0;
+    for (int row = 0; row < DEPTH; row++) {
+      int h = Hashes.murmur3(value, SEEDS[row]);
+      estimate = Math.min(estimate, counts.incrementAndGet(indexOf(h, row)));
+      if (row == 0) {
+        slotHash = Hashes.spread(h);
+      }
+    }
+    offer(value, estimate, slotHash);
+  }
+
+  /**
+   * @return the estimated number of occurrences of the value
+   */
+  public long estimate(String value) {
+    if (value.length() > MAX_LENGTH) {
+      value = value.substring(0, MAX_LENGTH);
+    }
+    return estimate(value, null);
+  }
+
+  private long estimate(String value, @Nullable Snapshot since) {
+    long estimate = Long.MAX_VALUE;
+    for (int row = 0; row < DEPTH; row++) {
+      int i = indexOf(value, row);
+      estimate = Math.min(estimate, counts.get(i) - (since == null ? 0 : since.counts[i]));
+    }
+    return estimate;
+  }
+
+  /**
+   * @return the number of values counted so far
+   */
+  public long getTotal() {
+    return total.sum();
+  }
+
+  /**
+   * @param k the maximum number of values to return, at most the capacity are returned
+   *
+   * @return the most frequent values ordered by their estimated count
+   */
+  public List<Entry> top(int k) {
+    return top(k, null);
+  }
+
+  /**
+   * Copies the counts, which takes half a kilobyte per value of the capacity.
+   *
+   * @return the current counts to pass to {@link #top(int, Snapshot)} later on
+   */
+  public Snapshot snapshot() {
+    long[] copy = new long[counts.length()];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = counts.get(i);
+    }
+    return new Snapshot(this, copy, total.sum());
+  }
+
+  /**
+   * Counts the occurrences since the snapshot only. The candidates are still the values counted most often overall,
+   * so a value that only became frequent after the snapshot may be missing until it catches up.
+   *
+   * @param k the maximum number of values to return, at most the capacity are returned
+   * @param since the counts to subtract, ignored unless taken from this instance
+   *
+   * @return the most frequent values since the snapshot ordered by their estimated count, without values not seen
+   * since
+   */
+  public List<Entry> top(int k, @Nullable Snapshot since) {
+    if (since != null && since.origin != this) {
+      since = null;
+    }
+    Set<String> values = new HashSet<String>();
+    for (int i = 0; i < slots.length(); i++) {
+      String value = slots.get(i);
+      if (value != null) {
+        values.add(value);
+      }
+    }
+    k = Math.min(k, capacity);
+    long counted = total.sum() - (since == null ? 0 : since.total);
+    long error = (long) Math.ceil(Math.E * counted / width);
+    List<Entry> entries = new ArrayList<Entry>(values.size());
+    for (String value : values) {
+      long count = estimate(value, since);
+      if (count > 0) {
+        entries.add(new Entry(value, count, Math.min(count, error)));
+      }
+    }
+    Collections.sort(entries, BY_COUNT);
+    return entries.size() > k ? new ArrayList<Entry>(entries.subList(0, k)) : entries;
+  }
+
+  /**
+   * Forgets all values and counts. Values added concurrently may survive.
+   */
+  public void clear() {
+    for (int i = 0; i < counts.length(); i++) {
+      counts.set(i, 0);
+    }
+    for (int i = 0; i < slots.length(); i++) {
+      slots.set(i, null);
+      slotCounts.set(i, 0);
+    }
+    total.reset();
+  }
+
+  /**
+   * Refreshes the estimate of a tracked value, claims a free slot of the probe window or replaces the candidate of
+   * the window with the lowest estimate if the value was counted more often.
+   */
+  private void offer(String value, long estimate, int hash) {
+    int mask = slots.length() - 1;
+    int lowest = -1;
+    long lowestCount = estimate;
+    int free = -1;
+    for (int p = 0; p < PROBES; p++) {
+      int i = (hash + p) & mask;
+      String candidate = slots.get(i);
+      if (candidate == null) {
+        if (free < 0) {
+          free = i;
+        }
+      } else if (candidate.equals(value)) {
+        long count = slotCounts.get(i);
+        if (estimate - count >= Math.max(1, count >>> 4)) {
+          slotCounts.lazySet(i, estimate);
+        }
+        return;
+      } else {
+        long count = slotCounts.get(i);
+        if (count < lowestCount) {
+          lowest = i;
+          lowestCount = count;
+        }
+      }
+    }
+    if (free >= 0 && slots.compareAndSet(free, null, value)) {
+      slotCounts.set(free, estimate);
+    } else if (lowest >= 0) {
+      String victim = slots.get(lowest);
+      if (victim != null && slots.compareAndSet(lowest, victim, value)) {
+        slotCounts.set(lowest, estimate);
+      }
+    }
+  }
+
+  private int indexOf(String value, int row) {
+    return indexOf(Hashes.murmur3(value, SEEDS[row]), row);
+  }
+
+  private int indexOf(int hash, int row) {
+    return row * width + (hash & (width - 1));
+  }
+}
@@ -0,0 +1,163 @@
+package org.gbif.common.parsers.core;
+
+import javax.annotation.Nullable;
+
+/**
+ * Normalizes dictionary keys in a single pass: folds characters to ASCII using the {@link ASCIIParser} mappings,
+ * drops all characters that are not accepted and uppercases the remaining ASCII letters.
+ * The result is appended to a caller provided buffer so lookups can be done without creating a String.
+ * UTF-8 encoded bytes can be normalized directly into an {@link AsciiKeyBuffer} without decoding them first.
+ */
+public final class KeyNormalizer {
+
+  /**
+   * Version of the normalization, to be increased whenever a change gives different keys for the same value.
+   * Dictionary snapshots written with another version are out of date.
+   */
+  public static final int VERSION = 1;
+
+  /**
+   * Keeps ASCII letters only.
+   */
+  public static final KeyNormalizer LETTERS = new KeyNormalizer(false, false);
+
+  /**
+   * Keeps ASCII letters and digits.
+   */
+  public static final KeyNormalizer ALPHANUMERIC = new KeyNormalizer(true, false);
+
+  /**
+   * Keeps ASCII letters, digits and the underscore, i.e. the word characters of a regular expression.
+   */
+  public static final KeyNormalizer WORD = new KeyNormalizer(true, true);
+
+  private final boolean[] accepted = new boolean[128];
+
+  private KeyNormalizer(boolean digits, boolean underscore) {
+    for (char c = 'A'; c <= 'Z'; c++) {
+      accepted[c] = true;
+      accepted[Character.toLowerCase(c)] = true;
+    }
+    if (digits) {
+      for (char c = '0'; c <= '9'; c++) {
+        accepted[c] = true;
+      }
+    }
+    accepted['_'] = underscore;
+  }
+
+  /**
+   * Appends the normalized value to the buffer.
+   *
+   * @param value the value to normalize
+   * @param buffer to append the normalized characters to
+   */
+  public void appendTo(CharSequence value, StringBuilder buffer) {
+    appendTo(value, 0, value.length(), buffer);
+  }
+
+  /**
+   * Appends the normalized region of the value to the buffer.
+   *
+   * @param value containing the region to normalize
+   * @param start index of the first character, inclusive
+   * @param end index after the last character, exclusive
+   * @param buffer to append the normalized characters to
+   */
+  public void appendTo(CharSequence value, int start, int end, StringBuilder buffer) {
+    for (int i = start; i < end; i++) {
+      char c = value.charAt(i);
+      if (c < 128) {
+        if (accepted[c]) {
+          buffer.append(toUpper(c));
+        }
+      } else {
+        // unmapped characters are not ASCII and therefore dropped
+        String folded = ASCIIParser.folded(c);
+        if (folded != null) {
+          for (int j = 0; j < folded.length(); j++) {
+            char f = folded.charAt(j);
+            if (f < 128 && accepted[f]) {
+              buffer.append(toUpper(f));
+            }
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Appends the normalized value of UTF-8 encoded bytes to the key, producing the same key as
+   * {@link #appendTo(CharSequence, StringBuilder)} does for the decoded String.
+   * Malformed bytes and characters outside the basic multilingual plane are dropped as they have no ASCII
+   * equivalent.
+   *
+   * @param utf8 the bytes holding the value
+   * @param offset of the first byte of the value
+   * @param length the number of bytes of the value
+   * @param key to append the normalized characters to
+   */
+  public void appendUtf8(byte[] utf8, int offset, int length, AsciiKeyBuffer key) {
+    final int end = offset + length;
+    int i = offset;
+    while (i < end) {
+      int b = utf8[i] & 0xFF;
+      if (b < 0x80) {
+        if (accepted[b]) {
+          key.append(toUpper((char) b));
+        }
+        i++;
+      } else if (b >= 0xC2 && b < 0xE0 && i + 1 < end && isContinuation(utf8[i + 1])) {
+        appendFolded((char) (((b & 0x1F) << 6) | (utf8[i + 1] & 0x3F)), key);
+        i += 2;
+      } else if (b >= 0xE0 && b < 0xF0 && i + 2 < end && isContinuation(utf8[i + 1])
+                 && isContinuation(utf8[i + 2])) {
+        char c = (char) (((b & 0x0F) << 12) | ((utf8[i + 1] & 0x3F) << 6) | (utf8[i + 2] & 0x3F));
+        // overlong encodings and surrogates are malformed
+        if (c >= '\u0800' && (c < '\uD800' || c > '\uDFFF')) {
+          appendFolded(c, key);
+        }
+        i += 3;
+      } else if (b >= 0xF0 && b < 0xF5 && i + 3 < end && isContinuation(utf8[i + 1])
+                 && isContinuation(utf8[i + 2]) && isContinuation(utf8[i + 3])) {
+        // supplementary characters have no ASCII equivalent
+        i += 4;
+      } else {
+        i++;
+      }
+    }
+  }
+
+  private void appendFolded(char c, AsciiKeyBuffer key) {
+    String folded = ASCIIParser.folded(c);
+    if (folded != null) {
+      for (int j = 0; j < folded.length(); j++) {
+        char f = folded.charAt(j);
+        if (f < 128 && accepted[f]) {
+          key.append(toUpper(f));
+        }
+      }
+    }
+  }
+
+  private static boolean isContinuation(byte b) {
+    return (b & 0xC0) == 0x80;
+  }
+
+  /**
+   * @return the normalized value or null if the value was null
+   */
+  @Nullable
+  public String normalize(@Nullable CharSequence value) {
+    if (value == null) {
+      return null;
+    }
+    StringBuilder sb = new StringBuilder(value.length());
+    appendTo(value, sb);
+    return sb.toString();
+  }
+
+  private static char toUpper(char c) {
+    return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+  }
+}
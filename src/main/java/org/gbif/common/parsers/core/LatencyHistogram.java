@@ -0,0 +1,119 @@
+package org.gbif.common.parsers.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+
+/**
+ * Lock free histogram of latencies in nanoseconds with log-linear buckets in the spirit of HdrHistogram.
+ * Values below 16 are counted exactly, larger values in 16 buckets per power of two, so any recorded value is
+ * reported with a relative error below 6.25%.
+ */
+public final class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 4;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+  private final StripedCounter count = new StripedCounter();
+  private final StripedCounter sum = new StripedCounter();
+
+  void record(long nanos) {
+    if (nanos < 0) {
+      return;
+    }
+    counts.incrementAndGet(bucket(nanos));
+    count.increment();
+    sum.add(nanos);
+  }
+
+  static int bucket(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    int exponent = 63 - Long.numberOfLeadingZeros(value);
+    int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + sub;
+  }
+
+  /**
+   * @return the smallest value falling into the bucket
+   */
+  static long lowerBound(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int exponent = bucket / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+    long sub = bucket % SUB_BUCKETS;
+    return (SUB_BUCKETS + sub) << (exponent - SUB_BUCKET_BITS);
+  }
+
+  /**
+   * @return the number of recorded values
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return the sum of the recorded values in nanoseconds
+   */
+  public long getSum() {
+    return sum.sum();
+  }
+
+  /**
+   * @return the mean of the recorded values in nanoseconds, 0 if there are none
+   */
+  public double getMean() {
+    long n = count.sum();
+    return n == 0 ? 0 : (double) sum.sum() / n;
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   *
+   * @return the approximate value in nanoseconds at the percentile, 0 if nothing was recorded
+   */
+  public long getValueAtPercentile(double percentile) {
+    Preconditions.checkArgument(percentile >= 0 && percentile <= 100, "Percentile must be between 0 and 100");
+    long[] snapshot = new long[BUCKETS];
+    long total = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+    long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+    long seen = 0;
+    for (int i = 0; i < BUCKETS; i++) {
+      seen += snapshot[i];
+      if (seen >= rank) {
+        return lowerBound(i);
+      }
+    }
+    return lowerBound(BUCKETS - 1);
+  }
+
+  void reset() {
+    for (int i = 0; i < BUCKETS; i++) {
+      counts.set(i, 0);
+    }
+    count.reset();
+    sum.reset();
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+      .add("count", getCount())
+      .add("mean", getMean())
+      .add("p50", getValueAtPercentile(50))
+      .add("p99", getValueAtPercentile(99))
+      .toString();
+  }
+}
@@ -0,0 +1,26 @@
+package org.gbif.common.parsers.core;
+
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Logs slow parse calls as warnings and erroneous ones as errors, including the input sample.
+ */
+public class LoggingParseEventListener implements ParseEventListener {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LoggingParseEventListener.class);
+
+  @Override
+  public void onEvent(ParseEvent event) {
+    long micros = TimeUnit.NANOSECONDS.toMicros(event.getNanos());
+    if (event.getStatus() == ParseResult.STATUS.ERROR) {
+      LOG.error("{} failed after {} µs on input of length {}: {}", event.getParser(), micros, event.getInputLength(),
+        event.getSample(), event.getError());
+    } else {
+      LOG.warn("{} took {} µs on input of length {}: {}", event.getParser(), micros, event.getInputLength(),
+        event.getSample());
+    }
+  }
+}
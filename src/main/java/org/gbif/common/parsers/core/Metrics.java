@@ -0,0 +1,196 @@
+package org.gbif.common.parsers.core;
+
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * Entry point to the parser metrics, disabled by default.
+ * Parsers wrap their work in {@link #start()} and {@link #record(String, ParseResult, long)}, which only costs a
+ * single volatile read as long as no {@link MetricsSink} is set. With a sink every call is recorded, but only every
+ * n-th call of each thread is timed as configured by {@link #setSampleRate(int)}.
+ *
+ * <pre>
+ * CollectingMetricsSink sink = new CollectingMetricsSink();
+ * Metrics.setSink(sink);
+ * ...
+ * sink.getStats("CountryParser").getFailures();
+ * </pre>
+ *
+ * Independently of the sink a {@link ParseEventListener} can be set to receive the calls exceeding a latency
+ * threshold or ending in an error, together with a sample of their input. While a listener is set every call is
+ * timed, also for the sink.
+ */
+public final class Metrics {
+
+  /**
+   * The default of timing one in 64 calls.
+   */
+  public static final int DEFAULT_SAMPLE_RATE = 64;
+
+  // start tokens, timed calls use the non negative nano time
+  private static final long NOT_RECORDED = -2;
+  private static final long NOT_TIMED = -1;
+
+  // replaced as a whole by the setters, so a call sees one consistent configuration with a single volatile read
+  private static volatile Config config = new Config(null, null, 0, DEFAULT_SAMPLE_RATE - 1);
+  // calls of the current thread, only counted while a sink is set
+  private static final ThreadLocal<int[]> CALLS = new ThreadLocal<int[]>() {
+    @Override
+    protected int[] initialValue() {
+      return new int[1];
+    }
+  };
+
+  private Metrics() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Enables metrics by setting a sink, or disables them with null.
+   */
+  public static synchronized void setSink(@Nullable MetricsSink metricsSink) {
+    Config c = config;
+    config = new Config(metricsSink, c.listener, c.thresholdNanos, c.sampleMask);
+  }
+
+  /**
+   * @return the current sink or null if metrics are disabled
+   */
+  @Nullable
+  public static MetricsSink getSink() {
+    return config.sink;
+  }
+
+  /**
+   * Reports slow or erroneous calls to the listener, or disables reporting with null.
+   *
+   * @param eventListener the listener to report to
+   * @param threshold the duration from which on calls are reported, calls ending in an error are always reported
+   */
+  public static synchronized void setListener(@Nullable ParseEventListener eventListener, long threshold,
+    TimeUnit unit) {
+    Preconditions.checkArgument(threshold >= 0, "Threshold must not be negative");
+    Config c = config;
+    config = new Config(c.sink, eventListener, unit.toNanos(threshold), c.sampleMask);
+  }
+
+  /**
+   * @return the current listener or null if reporting is disabled
+   */
+  @Nullable
+  public static ParseEventListener getListener() {
+    return config.listener;
+  }
+
+  /**
+   * @return true if a listener is set, so callers only need to build an input for the events when needed
+   */
+  public static boolean isListening() {
+    return config.listener != null;
+  }
+
+  /**
+   * Times one in the given number of calls, rounded down to a power of two. Zero disables timing.
+   */
+  public static synchronized void setSampleRate(int oneIn) {
+    Preconditions.checkArgument(oneIn >= 0, "Sample rate must not be negative");
+    Config c = config;
+    config = new Config(c.sink, c.listener, c.thresholdNanos, oneIn == 0 ? -1 : Integer.highestOneBit(oneIn) - 1);
+  }
+
+  /**
+   * @return the number of calls per timed call or zero if timing is disabled
+   */
+  public static int getSampleRate() {
+    int mask = config.sampleMask;
+    return mask < 0 ? 0 : mask + 1;
+  }
+
+  /**
+   * To be called by parsers before parsing.
+   *
+   * @return the token to pass on to {@link #record(String, ParseResult, long)}
+   */
+  public static long start() {
+    Config c = config;
+    if (c.listener != null) {
+      return System.nanoTime() & Long.MAX_VALUE;
+    }
+    if (c.sink == null) {
+      return NOT_RECORDED;
+    }
+    if (c.sampleMask < 0 || (++CALLS.get()[0] & c.sampleMask) != 0) {
+      return NOT_TIMED;
+    }
+    return System.nanoTime() & Long.MAX_VALUE;
+  }
+
+  /**
+   * To be called by parsers with their result, passing it on to the sink.
+   *
+   * @param parser the name of the parser
+   * @param result the result of the call
+   * @param start the token returned by {@link #start()}
+   *
+   * @return the given result
+   */
+  public static <R extends ParseResult<?>> R record(String parser, R result, long start) {
+    return record(parser, null, 0, 0, result, start);
+  }
+
+  /**
+   * Same as {@link #record(String, ParseResult, long)}, keeping a sample of the input for the listener.
+   */
+  public static <R extends ParseResult<?>> R record(String parser, @Nullable CharSequence input, R result,
+    long start) {
+    return record(parser, input, 0, input == null ? 0 : input.length(), result, start);
+  }
+
+  /**
+   * Same as {@link #record(String, ParseResult, long)}, keeping a sample of the parsed region of the input for the
+   * listener.
+   */
+  public static <R extends ParseResult<?>> R record(String parser, @Nullable CharSequence input, int from, int to,
+    R result, long start) {
+    if (start != NOT_RECORDED) {
+      long nanos = start == NOT_TIMED ? NOT_TIMED : (System.nanoTime() & Long.MAX_VALUE) - start;
+      Config c = config;
+      if (c.sink != null) {
+        c.sink.record(parser, result, nanos);
+      }
+      if (c.listener != null && nanos != NOT_TIMED
+          && (nanos >= c.thresholdNanos || result.getStatus() == ParseResult.STATUS.ERROR)) {
+        c.listener.onEvent(new ParseEvent(parser, input, from, to, nanos, result));
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return the name used for the metrics of the parser class
+   */
+  public static String name(Class<?> parserClass) {
+    String name = parserClass.getSimpleName();
+    return name.isEmpty() ? parserClass.getName() : name;
+  }
+
+  /**
+   * Immutable snapshot of the sink, the listener and the sampling settings.
+   */
+  private static final class Config {
+    private final MetricsSink sink;
+    private final ParseEventListener listener;
+    private final long thresholdNanos;
+    // mask applied to the call counter, negative to never time calls
+    private final int sampleMask;
+
+    Config(@Nullable MetricsSink sink, @Nullable ParseEventListener listener, long thresholdNanos, int sampleMask) {
+      this.sink = sink;
+      this.listener = listener;
+      this.thresholdNanos = thresholdNanos;
+      this.sampleMask = sampleMask;
+    }
+  }
+}
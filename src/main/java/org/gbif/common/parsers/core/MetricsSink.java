@@ -0,0 +1,19 @@
+package org.gbif.common.parsers.core;
+
+/**
+ * Receives a record of every parse call while metrics are enabled with {@link Metrics#setSink(MetricsSink)}.
+ * Implementations are called concurrently from all parsing threads and need to be cheap and thread safe.
+ *
+ * @see CollectingMetricsSink
+ */
+public interface MetricsSink {
+
+  /**
+   * Records a single parse call.
+   *
+   * @param parser name of the parser, the simple class name or class and method name for static utilities
+   * @param result the result of the call, never null
+   * @param nanos the duration of the call or -1 if the call was not sampled for its latency
+   */
+  void record(String parser, ParseResult<?> result, long nanos);
+}
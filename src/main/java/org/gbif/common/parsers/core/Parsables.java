@@ -0,0 +1,31 @@
+package org.gbif.common.parsers.core;
+
+import javax.annotation.Nullable;
+
+/**
+ * Static utility methods for {@link Parsable} instances.
+ */
+public final class Parsables {
+
+  private Parsables() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Parses a region of the input, natively if the parser is a {@link RegionParsable} or from a substring otherwise.
+   *
+   * @param parser to parse the region with
+   * @param input containing the region to parse, null is passed on as it is
+   * @param start index of the first character, inclusive
+   * @param end index after the last character, exclusive
+   */
+  public static <T> ParseResult<T> parse(Parsable<T> parser, @Nullable CharSequence input, int start, int end) {
+    if (input == null) {
+      return parser.parse(null);
+    }
+    if (parser instanceof RegionParsable) {
+      return ((RegionParsable<T>) parser).parse(input, start, end);
+    }
+    return parser.parse(input.subSequence(start, end).toString());
+  }
+}
@@ -0,0 +1,88 @@
+package org.gbif.common.parsers.core;
+
+import javax.annotation.Nullable;
+
+import com.google.common.base.Objects;
+
+/**
+ * A slow or erroneous parse call reported to a {@link ParseEventListener}.
+ * Only a truncated sample of the input is kept, so events of pathological inputs stay small.
+ */
+public final class ParseEvent {
+
+  /**
+   * Inputs longer than this are truncated in the sample.
+   */
+  public static final int MAX_SAMPLE_LENGTH = 100;
+
+  private final String parser;
+  private final int inputLength;
+  private final String sample;
+  private final long nanos;
+  private final ParseResult.STATUS status;
+  private final Throwable error;
+
+  ParseEvent(String parser, @Nullable CharSequence input, int start, int end, long nanos, ParseResult<?> result) {
+    this.parser = parser;
+    if (input == null) {
+      inputLength = 0;
+      sample = null;
+    } else {
+      inputLength = end - start;
+      sample = input.subSequence(start, Math.min(end, start + MAX_SAMPLE_LENGTH)).toString();
+    }
+    this.nanos = nanos;
+    status = result.getStatus();
+    error = result.getError();
+  }
+
+  /**
+   * @return the name of the parser as used in the metrics
+   */
+  public String getParser() {
+    return parser;
+  }
+
+  /**
+   * @return the length of the full input, zero if the input is not known
+   */
+  public int getInputLength() {
+    return inputLength;
+  }
+
+  /**
+   * @return the input truncated to {@link #MAX_SAMPLE_LENGTH} characters or null if it is not known
+   */
+  @Nullable
+  public String getSample() {
+    return sample;
+  }
+
+  /**
+   * @return the duration of the call in nanoseconds
+   */
+  public long getNanos() {
+    return nanos;
+  }
+
+  public ParseResult.STATUS getStatus() {
+    return status;
+  }
+
+  @Nullable
+  public Throwable getError() {
+    return error;
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+      .add("parser", parser)
+      .add("inputLength", inputLength)
+      .add("sample", sample)
+      .add("nanos", nanos)
+      .add("status", status)
+      .add("error", error)
+      .toString();
+  }
+}
@@ -0,0 +1,13 @@
+package org.gbif.common.parsers.core;
+
+/**
+ * Receives the parse calls exceeding the threshold or ending in an error while set with
+ * {@link Metrics#setListener(ParseEventListener, long, java.util.concurrent.TimeUnit)}.
+ * Implementations are called concurrently from all parsing threads and need to be thread safe.
+ *
+ * @see LoggingParseEventListener
+ */
+public interface ParseEventListener {
+
+  void onEvent(ParseEvent event);
+}
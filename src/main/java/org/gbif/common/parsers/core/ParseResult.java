@@ -5,6 +5,8 @@ import org.apache.commons.lang3.builder.ToStringStyle;
 
 /**
  * This represents the response of a generic parse operation.
+ * Results are immutable, so instances can be shared. Failures and errors without a cause are singletons
+ * and dictionary based parsers return one shared success result per dictionary value.
  */
 public class ParseResult<T> {
 
@@ -18,11 +20,14 @@ public class ParseResult<T> {
     DEFINITE, PROBABLE, POSSIBLE
   }
 
+  private static final ParseResult<?> FAIL = new ParseResult<Object>(STATUS.FAIL, null, null, null);
+  private static final ParseResult<?> ERROR = new ParseResult<Object>(STATUS.ERROR, null, null, null);
+
   // the details of the response
-  protected STATUS status;
-  protected CONFIDENCE confidence;
-  protected T payload;
-  protected Throwable error;
+  protected final STATUS status;
+  protected final CONFIDENCE confidence;
+  protected final T payload;
+  protected final Throwable error;
 
   /**
    * @param <T1>       The generic type of the payload
@@ -36,17 +41,19 @@ public class ParseResult<T> {
   }
 
   /**
-   * @return A new parse response with only the status set to FAIL
+   * @return The shared parse response with only the status set to FAIL
    */
+  @SuppressWarnings("unchecked")
   public static <T1> ParseResult<T1> fail() {
-    return new ParseResult<T1>(STATUS.FAIL, null, null, null);
+    return (ParseResult<T1>) FAIL;
   }
 
   /**
-   * @return A new parse response configured to indicate an error
+   * @return The shared parse response configured to indicate an error
    */
+  @SuppressWarnings("unchecked")
   public static <T1> ParseResult<T1> error() {
-    return new ParseResult<T1>(STATUS.ERROR, null, null, null);
+    return (ParseResult<T1>) ERROR;
   }
 
   /**
@@ -0,0 +1,131 @@
+package org.gbif.common.parsers.core;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.annotation.Nullable;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Bounded concurrent cache of parse results keyed on the raw, unnormalized input, using TinyLFU admission.
+ * Misses are recorded in a {@link FrequencySketch}. Entries are evicted in CLOCK order, an approximation of least
+ * recently used order, but once the cache is full a new input only replaces the victim if it was seen more often
+ * recently than that victim. This keeps one-off values from flushing the few hundred verbatim strings that make up
+ * most of a dataset.
+ *
+ * Reads are lock free: a hit is a lookup in a {@link ConcurrentHashMap} which sets the referenced flag of the entry
+ * if it isn't set yet. The flag is cleared again by the clock hand passing the entry, so hot entries are written
+ * to, and their hit recorded in the sketch, at most once per revolution of the clock instead of on every read.
+ * Only writes take the lock guarding the clock.
+ */
+final class ParseResultCache<V> {
+
+  /**
+   * Longer inputs are never cached, they are unlikely to repeat and would waste memory.
+   */
+  static final int MAX_KEY_LENGTH = 128;
+
+  private final ConcurrentMap<String, Entry<V>> map;
+  private final FrequencySketch sketch;
+  private final int maximumSize;
+  private final StripedCounter hits = new StripedCounter();
+  private final StripedCounter misses = new StripedCounter();
+  // the keys in clock order and the position of the hand, guarded by the clock itself
+  private final String[] clock;
+  private int size;
+  private int hand;
+  private long evictions;
+
+  ParseResultCache(int maximumSize) {
+    this.maximumSize = maximumSize;
+    map = new ConcurrentHashMap<String, Entry<V>>(maximumSize * 4 / 3 + 1);
+    clock = new String[maximumSize];
+    sketch = new FrequencySketch(maximumSize);
+  }
+
+  /**
+   * Records the access to the input and returns its cached result.
+   *
+   * @return the cached result or null
+   */
+  @Nullable
+  ParseResult<V> get(String input) {
+    if (input.length() > MAX_KEY_LENGTH) {
+      misses.increment();
+      return null;
+    }
+    Entry<V> entry = map.get(input);
+    if (entry == null) {
+      misses.increment();
+      sketch.increment(input);
+      return null;
+    }
+    hits.increment();
+    if (!entry.referenced) {
+      entry.referenced = true;
+      sketch.increment(input);
+    }
+    return entry.result;
+  }
+
+  /**
+   * Caches the result if there is room, or if the input was seen more often recently than the entry the clock hand
+   * selects for eviction.
+   */
+  void put(String input, ParseResult<V> result) {
+    if (input.length() > MAX_KEY_LENGTH) {
+      return;
+    }
+    synchronized (clock) {
+      if (map.containsKey(input)) {
+        return;
+      }
+      if (size < maximumSize) {
+        clock[size++] = input;
+        map.put(input, new Entry<V>(result));
+        return;
+      }
+      // give referenced entries a second chance, bounded as readers may set the flags again while the hand moves
+      for (int i = 0; i < maximumSize; i++) {
+        Entry<V> entry = map.get(clock[hand]);
+        if (!entry.referenced) {
+          break;
+        }
+        entry.referenced = false;
+        hand = (hand + 1) % maximumSize;
+      }
+      String victim = clock[hand];
+      if (sketch.frequency(input) > sketch.frequency(victim)) {
+        map.remove(victim);
+        map.put(input, new Entry<V>(result));
+        clock[hand] = input;
+        hand = (hand + 1) % maximumSize;
+        evictions++;
+      }
+    }
+  }
+
+  int getMaximumSize() {
+    return maximumSize;
+  }
+
+  CacheStats stats() {
+    long evicted;
+    synchronized (clock) {
+      evicted = evictions;
+    }
+    return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, evicted);
+  }
+
+  /**
+   * A cached result and its referenced flag. Races on the flag only cost an entry its second chance.
+   */
+  private static final class Entry<V> {
+    private final ParseResult<V> result;
+    private volatile boolean referenced;
+
+    Entry(ParseResult<V> result) {
+      this.result = result;
+    }
+  }
+}
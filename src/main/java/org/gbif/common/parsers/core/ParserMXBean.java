@@ -0,0 +1,85 @@
+package org.gbif.common.parsers.core;
+
+/**
+ * Management interface of a parser, registered by {@link ParserMonitor}.
+ * Dictionary attributes are zero or null for parsers without a dictionary, cache attributes are zero for parsers
+ * without a cache. Parse counts are only collected while a {@link CollectingMetricsSink} is set, otherwise they are
+ * unavailable and reported as -1 or NaN.
+ */
+public interface ParserMXBean {
+
+  /**
+   * @return the name of the parser as used in the metrics
+   */
+  String getName();
+
+  /**
+   * @return the number of dictionary entries
+   */
+  int getEntryCount();
+
+  /**
+   * @return the estimated heap retained by the dictionary in bytes
+   */
+  long getEstimatedHeapBytes();
+
+  /**
+   * @return the time spent reading and building the dictionary in milliseconds
+   */
+  long getInitMillis();
+
+  /**
+   * @return hex encoded hash of the dictionary entries
+   */
+  String getDictionaryHash();
+
+  /**
+   * @return true if the parse counts are collected, false if they are unavailable
+   */
+  boolean isParseCountAvailable();
+
+  /**
+   * @return the number of parses since the last reset, -1 if unavailable
+   */
+  long getParseCount();
+
+  /**
+   * @return the number of failed parses since the last reset, -1 if unavailable
+   */
+  long getFailureCount();
+
+  /**
+   * @return the share of failed parses between 0 and 1, NaN if unavailable
+   */
+  double getFailureRate();
+
+  /**
+   * @return the mean latency of the sampled parses in nanoseconds, NaN if unavailable
+   */
+  double getMeanLatencyNanos();
+
+  int getCacheSize();
+
+  long getCacheHitCount();
+
+  long getCacheMissCount();
+
+  /**
+   * @return the share of cache lookups that were hits between 0 and 1
+   */
+  double getCacheHitRate();
+
+  /**
+   * Resets the parse counts, cache statistics and failure counts reported by this bean.
+   * The stats of the shared metrics sink and the failures tracked by the parser are left untouched.
+   */
+  void resetCounters();
+
+  /**
+   * @param limit the maximum number of inputs to return
+   *
+   * @return the most frequent failing inputs since the last reset with their approximate counts, empty unless
+   * failure tracking is enabled
+   */
+  String[] dumpTopFailures(int limit);
+}
@@ -0,0 +1,303 @@
+package org.gbif.common.parsers.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.annotation.Nullable;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.google.common.cache.CacheStats;
+
+/**
+ * Exposes the state of a parser as a {@link ParserMXBean} in the platform MBean server, under the domain
+ * org.gbif.common.parsers with the parser name as key, e.g. org.gbif.common.parsers:type=Parser,name=CountryParser.
+ *
+ * Registration is opt-in and idempotent. The parse counts are only available while a {@link CollectingMetricsSink}
+ * is set, see {@link #collectMetrics()}. Otherwise they are reported as unavailable by
+ * {@link ParserMXBean#isParseCountAvailable()}, -1 and NaN. Resetting the counters of the MBean neither resets
+ * the stats of the shared sink nor the failures tracked by the parser, the MBean only reports the counts since its
+ * last reset.
+ */
+public final class ParserMonitor implements ParserMXBean {
+
+  public static final String DOMAIN = "org.gbif.common.parsers";
+  private static final CacheStats NO_STATS = new CacheStats(0, 0, 0, 0, 0, 0);
+
+  private final String name;
+  @Nullable
+  private final DictionaryBackedParser<?> dictionary;
+  private volatile StatsBaseline statsBaseline = new StatsBaseline(null);
+  @Nullable
+  private volatile HeavyHitters.Snapshot failureBaseline;
+  // the cache last seen, its counts at the last reset and the counts since of the caches it replaced, guarded by this
+  private ParseResultCache<?> cache;
+  private CacheStats cacheBaseline = NO_STATS;
+  private CacheStats retiredCacheStats = NO_STATS;
+  // hash of the last dictionary table, guarded by this
+  private Object hashedTable;
+  private String hash;
+
+  ParserMonitor(String name, Object parser) {
+    this.name = name;
+    dictionary = parser instanceof DictionaryBackedParser ? (DictionaryBackedParser<?>) parser : null;
+  }
+
+  /**
+   * Registers the parser with the platform MBean server unless a parser of that name is registered already.
+   *
+   * @param parser the parser instance, usually a singleton
+   *
+   * @return true if the parser was registered, false if it was already registered
+   */
+  public static synchronized boolean register(Object parser) {
+    String name = parser instanceof DictionaryBackedParser
+      ? ((DictionaryBackedParser<?>) parser).metricName
+      : Metrics.name(parser.getClass());
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName objectName = objectName(name);
+    if (server.isRegistered(objectName)) {
+      return false;
+    }
+    try {
+      server.registerMBean(new ParserMonitor(name, parser), objectName);
+      return true;
+    } catch (InstanceAlreadyExistsException e) {
+      return false;
+    } catch (JMException e) {
+      throw new IllegalStateException("Failed to register MBean of parser " + name, e);
+    }
+  }
+
+  /**
+   * Sets a {@link CollectingMetricsSink} for the parse counts of the MBeans, unless one is set already.
+   *
+   * @return false if another kind of sink is set, which is kept and leaves the parse counts unavailable
+   */
+  public static synchronized boolean collectMetrics() {
+    MetricsSink sink = Metrics.getSink();
+    if (sink == null) {
+      Metrics.setSink(new CollectingMetricsSink());
+      return true;
+    }
+    return sink instanceof CollectingMetricsSink;
+  }
+
+  /**
+   * Removes the MBean of the parser if registered.
+   *
+   * @param name the parser name as used in the metrics
+   */
+  public static synchronized void unregister(String name) {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName objectName = objectName(name);
+    try {
+      if (server.isRegistered(objectName)) {
+        server.unregisterMBean(objectName);
+      }
+    } catch (JMException e) {
+      throw new IllegalStateException("Failed to unregister MBean of parser " + name, e);
+    }
+  }
+
+  /**
+   * @return the name the MBean of the parser is registered under
+   */
+  public static ObjectName objectName(String name) {
+    try {
+      return new ObjectName(DOMAIN + ":type=Parser,name=" + name);
+    } catch (JMException e) {
+      throw new IllegalArgumentException("Invalid parser name " + name, e);
+    }
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public int getEntryCount() {
+    return dictionary == null ? 0 : dictionary.lookupTable().size();
+  }
+
+  @Override
+  public long getEstimatedHeapBytes() {
+    return dictionary == null ? 0 : dictionary.lookupTable().estimatedBytes();
+  }
+
+  @Override
+  public long getInitMillis() {
+    return dictionary == null ? 0 : dictionary.getInitNanos() / 1000000;
+  }
+
+  @Override
+  public String getDictionaryHash() {
+    if (dictionary == null) {
+      return null;
+    }
+    if (dictionary instanceof FileBasedDictionaryParser) {
+      return ((FileBasedDictionaryParser<?>) dictionary).getDictionaryVersion().getHash();
+    }
+    CompactDictionary<?> table = dictionary.lookupTable();
+    synchronized (this) {
+      if (table != hashedTable) {
+        hash = table.contentHash();
+        hashedTable = table;
+      }
+      return hash;
+    }
+  }
+
+  @Override
+  public boolean isParseCountAvailable() {
+    return Metrics.getSink() instanceof CollectingMetricsSink;
+  }
+
+  @Override
+  public long getParseCount() {
+    StatsBaseline current = currentStats();
+    return current == null ? -1 : current.calls - baseline(current).calls;
+  }
+
+  @Override
+  public long getFailureCount() {
+    StatsBaseline current = currentStats();
+    return current == null ? -1 : current.failures - baseline(current).failures;
+  }
+
+  @Override
+  public double getFailureRate() {
+    StatsBaseline current = currentStats();
+    if (current == null) {
+      return Double.NaN;
+    }
+    StatsBaseline base = baseline(current);
+    long calls = current.calls - base.calls;
+    return calls == 0 ? 0 : (double) (current.failures - base.failures) / calls;
+  }
+
+  @Override
+  public double getMeanLatencyNanos() {
+    StatsBaseline current = currentStats();
+    if (current == null) {
+      return Double.NaN;
+    }
+    StatsBaseline base = baseline(current);
+    long count = current.latencyCount - base.latencyCount;
+    return count == 0 ? 0 : (double) (current.latencySum - base.latencySum) / count;
+  }
+
+  @Override
+  public int getCacheSize() {
+    return dictionary == null ? 0 : dictionary.getCacheSize();
+  }
+
+  @Override
+  public long getCacheHitCount() {
+    return cacheStats().hitCount();
+  }
+
+  @Override
+  public long getCacheMissCount() {
+    return cacheStats().missCount();
+  }
+
+  @Override
+  public double getCacheHitRate() {
+    CacheStats stats = cacheStats();
+    return stats.requestCount() == 0 ? 0 : stats.hitRate();
+  }
+
+  @Override
+  public void resetCounters() {
+    StatsBaseline current = currentStats();
+    if (current != null) {
+      statsBaseline = current;
+    }
+    if (dictionary != null) {
+      HeavyHitters failures = dictionary.failureTracker();
+      failureBaseline = failures == null ? null : failures.snapshot();
+      synchronized (this) {
+        cache = dictionary.currentCache();
+        cacheBaseline = cache == null ? NO_STATS : cache.stats();
+        retiredCacheStats = NO_STATS;
+      }
+    }
+  }
+
+  @Override
+  public String[] dumpTopFailures(int limit) {
+    if (dictionary == null) {
+      return new String[0];
+    }
+    HeavyHitters failures = dictionary.failureTracker();
+    if (failures == null) {
+      return new String[0];
+    }
+    List<HeavyHitters.Entry> top = failures.top(limit, failureBaseline);
+    String[] lines = new String[top.size()];
+    for (int i = 0; i < lines.length; i++) {
+      HeavyHitters.Entry entry = top.get(i);
+      lines[i] = entry.getValue() + '\t' + entry.getCount() + '\t' + entry.getError();
+    }
+    return lines;
+  }
+
+  /**
+   * @return the current counts of the collecting sink or null if no such sink is set
+   */
+  @Nullable
+  private StatsBaseline currentStats() {
+    MetricsSink sink = Metrics.getSink();
+    return sink instanceof CollectingMetricsSink
+      ? new StatsBaseline(((CollectingMetricsSink) sink).getStats(name))
+      : null;
+  }
+
+  /**
+   * @return the counts of the last reset, or zero if they were taken from other stats, e.g. of a replaced sink
+   */
+  private StatsBaseline baseline(StatsBaseline current) {
+    StatsBaseline base = statsBaseline;
+    return base.stats == current.stats ? base : new StatsBaseline(null);
+  }
+
+  /**
+   * The parser replaces its cache whenever it has to be emptied, e.g. on a reload. The counts of a replaced cache
+   * are kept, so the stats keep adding up across replacements.
+   *
+   * @return the cache statistics since the last reset
+   */
+  private synchronized CacheStats cacheStats() {
+    ParseResultCache<?> current = dictionary == null ? null : dictionary.currentCache();
+    if (current != cache) {
+      if (cache != null) {
+        retiredCacheStats = retiredCacheStats.plus(cache.stats().minus(cacheBaseline));
+      }
+      cache = current;
+      cacheBaseline = NO_STATS;
+    }
+    return current == null ? retiredCacheStats : retiredCacheStats.plus(current.stats().minus(cacheBaseline));
+  }
+
+  /**
+   * Snapshot of the counts of a parser, zero if the parser was not called yet.
+   */
+  private static final class StatsBaseline {
+    private final ParserStats stats;
+    private final long calls;
+    private final long failures;
+    private final long latencyCount;
+    private final long latencySum;
+
+    StatsBaseline(@Nullable ParserStats stats) {
+      this.stats = stats;
+      calls = stats == null ? 0 : stats.getCalls();
+      failures = stats == null ? 0 : stats.getFailures() + stats.getErrors();
+      latencyCount = stats == null ? 0 : stats.getLatency().getCount();
+      latencySum = stats == null ? 0 : stats.getLatency().getSum();
+    }
+  }
+}
@@ -0,0 +1,102 @@
+package org.gbif.common.parsers.core;
+
+import com.google.common.base.Objects;
+
+/**
+ * Call counts and latencies of a single parser as collected by the {@link CollectingMetricsSink}.
+ */
+public final class ParserStats {
+
+  private final String parser;
+  private final StripedCounter calls = new StripedCounter();
+  private final StripedCounter[] successes = new StripedCounter[ParseResult.CONFIDENCE.values().length];
+  private final StripedCounter failures = new StripedCounter();
+  private final StripedCounter errors = new StripedCounter();
+  private final LatencyHistogram latency = new LatencyHistogram();
+
+  ParserStats(String parser) {
+    this.parser = parser;
+    for (int i = 0; i < successes.length; i++) {
+      successes[i] = new StripedCounter();
+    }
+  }
+
+  void record(ParseResult<?> result, long nanos) {
+    calls.increment();
+    if (result.getStatus() == ParseResult.STATUS.SUCCESS) {
+      ParseResult.CONFIDENCE confidence = result.getConfidence();
+      successes[confidence == null ? 0 : confidence.ordinal()].increment();
+    } else if (result.getStatus() == ParseResult.STATUS.ERROR) {
+      errors.increment();
+    } else {
+      failures.increment();
+    }
+    latency.record(nanos);
+  }
+
+  public String getParser() {
+    return parser;
+  }
+
+  public long getCalls() {
+    return calls.sum();
+  }
+
+  /**
+   * @return the number of successful calls with the given confidence, missing confidences count as DEFINITE
+   */
+  public long getSuccesses(ParseResult.CONFIDENCE confidence) {
+    return successes[confidence.ordinal()].sum();
+  }
+
+  /**
+   * @return the number of successful calls of any confidence
+   */
+  public long getSuccesses() {
+    long sum = 0;
+    for (StripedCounter counter : successes) {
+      sum += counter.sum();
+    }
+    return sum;
+  }
+
+  public long getFailures() {
+    return failures.sum();
+  }
+
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  /**
+   * @return the latencies of the sampled calls
+   */
+  public LatencyHistogram getLatency() {
+    return latency;
+  }
+
+  /**
+   * Resets all counters and the latencies to zero.
+   */
+  public void reset() {
+    calls.reset();
+    for (StripedCounter counter : successes) {
+      counter.reset();
+    }
+    failures.reset();
+    errors.reset();
+    latency.reset();
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+      .add("parser", parser)
+      .add("calls", getCalls())
+      .add("successes", getSuccesses())
+      .add("failures", getFailures())
+      .add("errors", getErrors())
+      .add("latency", latency)
+      .toString();
+  }
+}
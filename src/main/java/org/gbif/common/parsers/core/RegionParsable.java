@@ -0,0 +1,23 @@
+package org.gbif.common.parsers.core;
+
+/**
+ * A {@link Parsable} which can parse a region of a character sequence without creating a substring first,
+ * e.g. a single field within the buffer of a whole line.
+ * Use {@link Parsables#parse(Parsable, CharSequence, int, int)} to parse a region with any parser.
+ *
+ * @param <T> The output type of the parse operation
+ */
+public interface RegionParsable<T> extends Parsable<T> {
+
+  /**
+   * Parses the characters of the input from start to end, giving the same result as
+   * parse(input.subSequence(start, end).toString()).
+   *
+   * @param input containing the region to parse
+   * @param start index of the first character, inclusive
+   * @param end index after the last character, exclusive
+   *
+   * @return The output result of the operation
+   */
+  ParseResult<T> parse(CharSequence input, int start, int end);
+}
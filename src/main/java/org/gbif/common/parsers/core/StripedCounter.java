@@ -0,0 +1,43 @@
+package org.gbif.common.parsers.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Counter spreading concurrent updates over several cells selected by the thread id, so threads rarely contend on
+ * the same cache line. Reads sum up all cells and are therefore more expensive than updates.
+ */
+final class StripedCounter {
+
+  private static final int STRIPES =
+    Math.min(64, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1) << 1);
+  // cells are 8 longs apart to keep them on separate 64 byte cache lines
+  private static final int SPACING = 8;
+
+  private final AtomicLongArray cells = new AtomicLongArray(STRIPES * SPACING);
+
+  void increment() {
+    cells.incrementAndGet(cell());
+  }
+
+  void add(long delta) {
+    cells.addAndGet(cell(), delta);
+  }
+
+  long sum() {
+    long sum = 0;
+    for (int i = 0; i < STRIPES; i++) {
+      sum += cells.get(i * SPACING);
+    }
+    return sum;
+  }
+
+  void reset() {
+    for (int i = 0; i < STRIPES; i++) {
+      cells.set(i * SPACING, 0);
+    }
+  }
+
+  private static int cell() {
+    return (Hashes.spread((int) Thread.currentThread().getId()) & (STRIPES - 1)) * SPACING;
+  }
+}
@@ -0,0 +1,210 @@
+package org.gbif.common.parsers.date;
+
+import java.util.Arrays;
+import javax.annotation.Nullable;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * Infers the {@link DateFormatHint} of a column of dates from a sample of its values, e.g. that "03/04/2005" means
+ * the 3rd of April because the same column also contains "25/04/2005".
+ *
+ * Each sampled value is parsed with every candidate hint. A value parsed by some candidates only is evidence
+ * against the others. The winner is the candidate consistent with the most values, and its confidence is the
+ * fraction of parsable values it is consistent with. Re-parsing the column with
+ * {@link TemporalParser#parse(String, DateFormatHint)} and the winner avoids the ambiguity of the single values and
+ * the tries of all the other formats; values of other formats, e.g. ISO dates, must still be parsed without hint.
+ *
+ * Values are sampled in a streaming fashion with {@link #add(String)} until the sample is complete.
+ * This class is not thread-safe.
+ */
+public class DateFormatHintInference {
+
+  public static final int DEFAULT_MAX_SAMPLES = 1000;
+
+  private final TemporalParser parser;
+  private final int maxSamples;
+  private final DateFormatHint[] candidates;
+
+  private final int[] consistent;
+  private final boolean[] accepted;
+  private int samples;
+  private int parsable;
+  private int ambiguous;
+
+  /**
+   * Infers the day month order of numerical dates (DMY or MDY) from up to {@link #DEFAULT_MAX_SAMPLES} values.
+   */
+  public DateFormatHintInference() {
+    this(DateParsers.defaultNumericalDateParser(), DEFAULT_MAX_SAMPLES, DateFormatHint.DMY, DateFormatHint.MDY);
+  }
+
+  /**
+   * @param parser parser used to check the values against the candidates
+   * @param maxSamples number of values after which the sample is complete
+   * @param candidates at least 2 distinct hints, none of them {@link DateFormatHint#NONE}
+   */
+  public DateFormatHintInference(TemporalParser parser, int maxSamples, DateFormatHint... candidates) {
+    Preconditions.checkNotNull(parser, "parser can not be null");
+    Preconditions.checkArgument(maxSamples > 0, "maxSamples must be greater than 0");
+    Preconditions.checkArgument(candidates.length > 1, "at least 2 candidates are required");
+    for (int i = 0; i < candidates.length; i++) {
+      Preconditions.checkArgument(candidates[i] != null && candidates[i] != DateFormatHint.NONE,
+          "candidates can not be null or NONE");
+      for (int j = 0; j < i; j++) {
+        Preconditions.checkArgument(candidates[i] != candidates[j], "candidates must be distinct");
+      }
+    }
+    this.parser = parser;
+    this.maxSamples = maxSamples;
+    this.candidates = candidates.clone();
+    this.consistent = new int[candidates.length];
+    this.accepted = new boolean[candidates.length];
+  }
+
+  /**
+   * Adds a value of the column to the sample, blank values are ignored.
+   *
+   * @return true if more values are wanted, false once the sample is complete
+   */
+  public boolean add(@Nullable String value) {
+    if (isComplete()) {
+      return false;
+    }
+    if (StringUtils.isBlank(value)) {
+      return true;
+    }
+
+    samples++;
+    int acceptedBy = 0;
+    for (int i = 0; i < candidates.length; i++) {
+      accepted[i] = parser.parse(value, candidates[i]).isSuccessful();
+      if (accepted[i]) {
+        acceptedBy++;
+      }
+    }
+
+    if (acceptedBy > 0) {
+      parsable++;
+      if (acceptedBy == candidates.length) {
+        ambiguous++;
+      }
+      for (int i = 0; i < candidates.length; i++) {
+        if (accepted[i]) {
+          consistent[i]++;
+        }
+      }
+    }
+    return !isComplete();
+  }
+
+  /**
+   * @return true once the maximum number of values is sampled
+   */
+  public boolean isComplete() {
+    return samples >= maxSamples;
+  }
+
+  /**
+   * Get the inference from the values sampled so far.
+   *
+   * @return the winning hint or {@link DateFormatHint#NONE} if no candidate is consistent with more values than all
+   * the others, never null
+   */
+  public Result getResult() {
+    int winner = -1;
+    boolean tie = false;
+    for (int i = 0; i < candidates.length; i++) {
+      if (winner < 0 || consistent[i] > consistent[winner]) {
+        winner = i;
+        tie = false;
+      } else if (consistent[i] == consistent[winner]) {
+        tie = true;
+      }
+    }
+
+    if (tie || parsable == 0) {
+      return new Result(DateFormatHint.NONE, 0, samples, parsable, ambiguous);
+    }
+    return new Result(candidates[winner], (double) consistent[winner] / parsable, samples, parsable, ambiguous);
+  }
+
+  @Override
+  public String toString() {
+    return Objects.toStringHelper(this)
+        .add("candidates", Arrays.toString(candidates))
+        .add("consistent", Arrays.toString(consistent))
+        .add("samples", samples)
+        .add("parsable", parsable)
+        .add("ambiguous", ambiguous)
+        .toString();
+  }
+
+  /**
+   * The inferred hint of a sample.
+   */
+  public static class Result {
+
+    private final DateFormatHint hint;
+    private final double confidence;
+    private final int sampleSize;
+    private final int parsableCount;
+    private final int ambiguousCount;
+
+    Result(DateFormatHint hint, double confidence, int sampleSize, int parsableCount, int ambiguousCount) {
+      this.hint = hint;
+      this.confidence = confidence;
+      this.sampleSize = sampleSize;
+      this.parsableCount = parsableCount;
+      this.ambiguousCount = ambiguousCount;
+    }
+
+    /**
+     * @return the inferred hint or {@link DateFormatHint#NONE}
+     */
+    public DateFormatHint getHint() {
+      return hint;
+    }
+
+    /**
+     * @return the fraction of the parsable values consistent with the hint, 0 if there is no hint
+     */
+    public double getConfidence() {
+      return confidence;
+    }
+
+    /**
+     * @return the number of non blank values sampled
+     */
+    public int getSampleSize() {
+      return sampleSize;
+    }
+
+    /**
+     * @return the number of values parsed by at least one candidate
+     */
+    public int getParsableCount() {
+      return parsableCount;
+    }
+
+    /**
+     * @return the number of values parsed by all candidates, which tell nothing about the winner
+     */
+    public int getAmbiguousCount() {
+      return ambiguousCount;
+    }
+
+    @Override
+    public String toString() {
+      return Objects.toStringHelper(this)
+          .add("hint", hint)
+          .add("confidence", confidence)
+          .add("sampleSize", sampleSize)
+          .add("parsableCount", parsableCount)
+          .add("ambiguousCount", ambiguousCount)
+          .toString();
+    }
+  }
+}
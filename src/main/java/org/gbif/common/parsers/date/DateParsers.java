@@ -64,4 +64,12 @@ public class DateParsers {
     return ThreeTenNumericalDateParser.newInstance();
   }
 
+  /**
+   * Get a new instance of the default implementation of PackedDateParser, handling the same dates as
+   * {@link #defaultTemporalParser()}.
+   */
+  public static PackedDateParser defaultPackedDateParser() {
+    return new TextDateParser();
+  }
+
 }
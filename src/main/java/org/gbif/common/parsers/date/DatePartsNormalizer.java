@@ -1,23 +1,8 @@
 package org.gbif.common.parsers.date;
 
-import org.gbif.utils.file.csv.CSVReader;
-import org.gbif.utils.file.csv.CSVReaderFactory;
-
-import java.io.IOException;
-import java.io.InputStream;
-import java.util.HashSet;
-import java.util.Map;
-import java.util.Set;
-
-import com.google.common.base.Charsets;
-import com.google.common.base.Splitter;
-import com.google.common.collect.Maps;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.threeten.bp.Month;
 
 /**
  * DatePartsNormalizer contract is to take String representing Year, Month and Day and return the corresponding
@@ -30,63 +15,9 @@ import org.threeten.bp.Month;
  */
 public class DatePartsNormalizer {
 
-  private static final Logger LOG = LoggerFactory.getLogger(DatePartsNormalizer.class);
-
   private static final String STRING_NULL = "\\N";
-  private static final String COLUMN_SEPARATOR = ";";
-  private static final Splitter ROW_ELEMENT_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
-
-  private static final String COMMENT_MARKER = "#";
-  private static final String MONTH_FILEPATH = "/dictionaries/parse/month.csv";
-
-  private static final String[][] MONTHS = new String[Month.values().length][];
-
-  // Load all the month names and alternative month names from a file
-  static {
-    Map<String, Set<String>> monthMap = Maps.newHashMapWithExpectedSize(Month.values().length);
-    String keyName;
-    for(Month m : Month.values()){
-      keyName = m.name().toLowerCase();
-      monthMap.put(keyName, new HashSet<String>());
-      //add the key itself
-      monthMap.get(keyName).add(keyName);
-    }
-
-    InputStream monthFileStream = DatePartsNormalizer.class.getResourceAsStream(MONTH_FILEPATH);
 
-    if(monthFileStream == null){
-      LOG.error("Month file can not be loaded. File not found: {}", MONTH_FILEPATH);
-    }
-    else{
-      try{
-        CSVReader csv = CSVReaderFactory.build(monthFileStream, Charsets.UTF_8.name(), COLUMN_SEPARATOR, null, 0);
-        String monthKey;
-        for (String[] row : csv) {
-          if (row == null || row[0].startsWith(COMMENT_MARKER)) {
-            continue;
-          }
-          monthKey = row[0].toLowerCase();
-          if(monthMap.containsKey(monthKey)){
-            for(String monthAltName : ROW_ELEMENT_SPLITTER.split(row[1])){
-              monthMap.get(monthKey).add(monthAltName.toLowerCase());
-            }
-          }
-          else{
-            LOG.error("Unknown month found in: {}", MONTH_FILEPATH);
-          }
-        }
-      } catch (IOException e) {
-        LOG.error("Error loading month alternative names", e);
-      }
-
-      // keep it in an array
-      int index = 0;
-      for(Month m : Month.values()){
-        MONTHS[index] = monthMap.get(m.name().toLowerCase()).toArray(new String[0]);
-        index++;
-      }
-    }
-  }
+  private static final MonthNameTrie MONTH_NAMES = MonthNameTrie.getInstance();
 
   /**
    * Private constructor use static method {@link #newInstance()}
@@ -135,14 +66,9 @@ public class DatePartsNormalizer {
    */
   public Integer monthNameToNumerical(String month) {
     if (StringUtils.isNotBlank(month)) {
-      int m = 1;
-      for (String[] monthValues : MONTHS) {
-        for (String monthVal : monthValues) {
-          if (monthVal.equals(month.toLowerCase()) || (monthVal+ ".").equals(month.toLowerCase())) {
-            return m;
-          }
-        }
-        m++;
+      int m = MONTH_NAMES.get(month, 0, month.length());
+      if (m > 0) {
+        return m;
       }
     }
     return null;
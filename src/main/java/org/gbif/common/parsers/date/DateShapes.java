@@ -0,0 +1,286 @@
+package org.gbif.common.parsers.date;
+
+import java.util.Arrays;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import javax.annotation.Nullable;
+
+/**
+ * Reduces date strings to their shape, so the formatters that can not possibly match a shape are never tried.
+ *
+ * The shape of an input replaces every ASCII digit by 0 and keeps all other characters, e.g. "21/12/1978" becomes
+ * "00/00/0000" and "1978-12-21T02:12Z" becomes "0000-00-00T00:00Z". A DateTimeFormatter pattern is
+ * compiled into a regular expression over shapes that accepts the shape of every input the formatter can parse,
+ * including its separator normalization. Matching a shape against it is only a pre-filter: the formatter still
+ * decides, but is skipped whenever the shape does not match.
+ *
+ * The characters no expression contains can't be told apart by the expressions, so shapes over the alphabet of the
+ * expressions replace them all by {@link #OTHER}. Such shapes are identified by a signature, the length of every
+ * digit run and the class of every other character, which is computed without creating the shape.
+ *
+ * @see org.threeten.bp.format.DateTimeFormatterBuilder#appendPattern(String)
+ */
+final class DateShapes {
+
+  /**
+   * Stands for all characters outside the alphabet of the expressions.
+   */
+  static final char OTHER = '\uFFFF';
+
+  private static final char DIGIT = '0';
+  // numeric fields of a pattern parse at most 19 digits
+  private static final int MAX_WIDTH = 19;
+
+  private DateShapes() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * @return the shape of the input, of the same length
+   */
+  static String shapeOf(CharSequence input) {
+    final int len = input.length();
+    char[] shape = new char[len];
+    for (int i = 0; i < len; i++) {
+      char c = input.charAt(i);
+      shape[i] = c >= '0' && c <= '9' ? DIGIT : c;
+    }
+    return new String(shape);
+  }
+
+  /**
+   * @return the sorted characters other than digits the expressions contain, escapes and operators included
+   */
+  static char[] alphabet(Iterable<Pattern> expressions) {
+    SortedSet<Character> chars = new TreeSet<Character>();
+    for (Pattern expression : expressions) {
+      String regex = expression.pattern();
+      for (int i = 0; i < regex.length(); i++) {
+        char c = regex.charAt(i);
+        if (c < '0' || c > '9') {
+          chars.add(c);
+        }
+      }
+    }
+    char[] alphabet = new char[chars.size()];
+    int i = 0;
+    for (Character c : chars) {
+      alphabet[i++] = c;
+    }
+    return alphabet;
+  }
+
+  /**
+   * Same as {@link #shapeOf(CharSequence)}, with the characters outside the alphabet replaced by {@link #OTHER}.
+   */
+  static String shapeOf(CharSequence input, char[] alphabet) {
+    final int len = input.length();
+    char[] shape = new char[len];
+    for (int i = 0; i < len; i++) {
+      shape[i] = classOf(input.charAt(i), alphabet);
+    }
+    return new String(shape);
+  }
+
+  /**
+   * @return a hash of the signature of the input, equal for all inputs of the same shape over the alphabet
+   */
+  static long signature(CharSequence input, char[] alphabet) {
+    final int len = input.length();
+    long h = len;
+    int i = 0;
+    while (i < len) {
+      char c = input.charAt(i);
+      if (c >= '0' && c <= '9') {
+        int run = i;
+        while (++i < len && input.charAt(i) >= '0' && input.charAt(i) <= '9') {
+          // skip the run
+        }
+        // runs are counted above the char range, so they never collide with a character
+        h = 31 * h + 0x10000 + i - run;
+      } else {
+        h = 31 * h + classOf(c, alphabet);
+        i++;
+      }
+    }
+    h = (h ^ (h >>> 33)) * 0xff51afd7ed558ccdL;
+    return h ^ (h >>> 33);
+  }
+
+  /**
+   * @param shape a shape over the alphabet, see {@link #shapeOf(CharSequence, char[])}
+   *
+   * @return true if the input has the shape, without creating the shape of the input
+   */
+  static boolean hasShape(CharSequence input, String shape, char[] alphabet) {
+    final int len = input.length();
+    if (len != shape.length()) {
+      return false;
+    }
+    for (int i = 0; i < len; i++) {
+      if (classOf(input.charAt(i), alphabet) != shape.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static char classOf(char c, char[] alphabet) {
+    if (c >= '0' && c <= '9') {
+      return DIGIT;
+    }
+    return Arrays.binarySearch(alphabet, c) >= 0 ? c : OTHER;
+  }
+
+  /**
+   * Compiles a formatter pattern into a regular expression matching the shapes of all inputs it can parse.
+   *
+   * @param separator the separator alternative separators are replaced with before parsing, or null
+   * @param alternativeSeparators the characters replaced by the separator, or null
+   *
+   * @return the expression or null if the pattern uses letters this class does not know, i.e. any shape might match
+   */
+  @Nullable
+  static Pattern compile(String pattern, @Nullable String separator, @Nullable String alternativeSeparators) {
+    String alternatives = separator == null || alternativeSeparators == null ? "" : alternativeSeparators;
+    StringBuilder regex = new StringBuilder();
+    final int len = pattern.length();
+    int i = 0;
+    while (i < len) {
+      char c = pattern.charAt(i);
+      if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z')) {
+        int count = 1;
+        while (i + count < len && pattern.charAt(i + count) == c) {
+          count++;
+        }
+        String field = field(c, count, separator, alternatives);
+        if (field == null) {
+          return null;
+        }
+        regex.append(field);
+        i += count;
+      } else if (c == '\'') {
+        int end = pattern.indexOf('\'', i + 1);
+        if (end < 0) {
+          return null;
+        }
+        if (end == i + 1) {
+          // '' is an escaped quote
+          literal('\'', separator, alternatives, regex);
+        }
+        for (int j = i + 1; j < end; j++) {
+          literal(pattern.charAt(j), separator, alternatives, regex);
+        }
+        i = end + 1;
+      } else if (c == '[') {
+        regex.append("(?:");
+        i++;
+      } else if (c == ']') {
+        regex.append(")?");
+        i++;
+      } else {
+        literal(c, separator, alternatives, regex);
+        i++;
+      }
+    }
+    return Pattern.compile(regex.toString());
+  }
+
+  /**
+   * Translates a numeric field into the digits it accepts. Variable width fields accept up to 19 digits and years
+   * not reduced to two digits an optional sign. Other fields could parse a minus too but never resolve a negative
+   * value, so their shapes leave it out.
+   */
+  @Nullable
+  private static String field(char letter, int count, @Nullable String separator, String alternatives) {
+    switch (letter) {
+      case 'u':
+      case 'y':
+        if (count == 2) {
+          return digits(2, 2);
+        }
+        return "[" + signs(separator, alternatives) + "]?" + digits(count, MAX_WIDTH);
+      case 'M':
+      case 'L':
+      case 'd':
+      case 'H':
+      case 'h':
+      case 'k':
+      case 'K':
+      case 'm':
+      case 's':
+        if (count == 1) {
+          return digits(1, MAX_WIDTH);
+        }
+        return count == 2 ? digits(2, 2) : null;
+      case 'n':
+        return digits(count, MAX_WIDTH);
+      case 'Z':
+        // ZZZZ is the localized offset
+        return count == 4 ? null : offset(separator, alternatives);
+      case 'x':
+      case 'X':
+        return offset(separator, alternatives);
+      default:
+        return null;
+    }
+  }
+
+  private static String digits(int min, int max) {
+    return DIGIT + "{" + min + "," + max + "}";
+  }
+
+  /**
+   * Offsets are parsed as Z or a sign followed by hours, minutes and seconds, possibly separated by colons.
+   */
+  private static String offset(@Nullable String separator, String alternatives) {
+    StringBuilder offset = new StringBuilder("(?:Z|[").append(signs(separator, alternatives)).append("](?:")
+      .append(DIGIT).append('|');
+    literal(':', separator, alternatives, offset);
+    return offset.append(")*)").toString();
+  }
+
+  /**
+   * @return the content of a character class matching the signs, alternatives of a sign separator included
+   */
+  private static String signs(@Nullable String separator, String alternatives) {
+    StringBuilder signs = new StringBuilder("+\\-");
+    if ("-".equals(separator) || "+".equals(separator)) {
+      for (int i = 0; i < alternatives.length(); i++) {
+        signs.append(escape(alternatives.charAt(i)));
+      }
+    }
+    return signs.toString();
+  }
+
+  /**
+   * Appends a literal, taking the separator normalization into account: the separator also matches its
+   * alternatives, while the alternatives themselves never reach the formatter.
+   */
+  private static void literal(char c, @Nullable String separator, String alternatives, StringBuilder regex) {
+    if (c >= '0' && c <= '9') {
+      regex.append(DIGIT);
+    } else if (separator != null && separator.length() == 1 && c == separator.charAt(0)) {
+      regex.append('[').append(escape(c));
+      for (int i = 0; i < alternatives.length(); i++) {
+        regex.append(escape(alternatives.charAt(i)));
+      }
+      regex.append(']');
+    } else if (alternatives.indexOf(c) >= 0) {
+      regex.append("(?!)");
+    } else {
+      regex.append(escape(c));
+    }
+  }
+
+  /**
+   * Escapes ASCII punctuation, which is safe inside and outside of character classes.
+   */
+  private static String escape(char c) {
+    if (c < 128 && !Character.isLetterOrDigit(c)) {
+      return "\\" + c;
+    }
+    return String.valueOf(c);
+  }
+}
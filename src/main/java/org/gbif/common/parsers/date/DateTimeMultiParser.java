@@ -64,6 +64,57 @@ public class DateTimeMultiParser {
     this.allParsers = immutableListBuilder.build();
   }
 
+  /**
+   * Unchecked constructor for restricted copies, which may contain a single parser.
+   */
+  private DateTimeMultiParser(@Nullable DateTimeParser preferred, List<DateTimeParser> otherParsers,
+                              List<DateTimeParser> allParsers){
+    this.preferred = preferred;
+    this.otherParsers = otherParsers;
+    this.allParsers = allParsers;
+  }
+
+  /**
+   * Get a copy only containing the parsers that can possibly parse an input of the provided shape.
+   * Parsing an input of that shape with the copy gives the same {@link MultipleParseResult} as with this instance.
+   *
+   * @param inputShape the shape of the input, see {@link DateShapes#shapeOf(CharSequence)}
+   * @return this instance if all parsers accept the shape, null if none does
+   */
+  @Nullable
+  DateTimeMultiParser restrict(String inputShape){
+    DateTimeParser restrictedPreferred = preferred != null && preferred.accepts(inputShape) ? preferred : null;
+    List<DateTimeParser> restrictedOthers = Lists.newArrayList();
+    for(DateTimeParser parser : otherParsers){
+      if(parser.accepts(inputShape)){
+        restrictedOthers.add(parser);
+      }
+    }
+
+    if(restrictedPreferred == preferred && restrictedOthers.size() == otherParsers.size()){
+      return this;
+    }
+    if(restrictedPreferred == null && restrictedOthers.isEmpty()){
+      return null;
+    }
+
+    ImmutableList.Builder<DateTimeParser> restrictedAll = ImmutableList.builder();
+    if(restrictedPreferred != null){
+      restrictedAll.add(restrictedPreferred);
+    }
+    restrictedAll.addAll(restrictedOthers);
+    return new DateTimeMultiParser(restrictedPreferred, restrictedOthers, restrictedAll.build());
+  }
+
+  @Nullable
+  DateTimeParser getPreferred(){
+    return preferred;
+  }
+
+  List<DateTimeParser> getOtherParsers(){
+    return otherParsers;
+  }
+
   /**
    * Get the list of all parsers: the preferred (if specified in the constructor) + otherParsers.
    *
@@ -79,7 +130,7 @@ public class DateTimeMultiParser {
    * @param input
    * @return {@link MultipleParseResult} instance, never null.
    */
-  public MultipleParseResult parse(String input){
+  public MultipleParseResult parse(CharSequence input){
     int numberParsed = 0;
     TemporalAccessor lastParsed = null;
     TemporalAccessor preferredResult = null;
@@ -1,6 +1,7 @@
 package org.gbif.common.parsers.date;
 
 
+import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 import javax.validation.constraints.NotNull;
 
@@ -26,6 +27,8 @@ public class DateTimeParser {
 
   private final TemporalQuery<?>[] types;
   private final int minLength;
+  private final Pattern shape;
+  private final boolean resolvable;
 
   /**
    * Package protected constructor.
@@ -39,6 +42,24 @@ public class DateTimeParser {
    */
   DateTimeParser(@NotNull DateTimeFormatter formatter, @Nullable DateTimeSeparatorNormalizer normalizer,
                  @NotNull DateFormatHint hint, TemporalQuery<?>[] type, int minLength){
+    this(formatter, normalizer, hint, type, minLength, null, false);
+  }
+
+  /**
+   * Package protected constructor.
+   * Use {@link DateTimeParserBuilder}
+   *
+   * @param formatter
+   * @param normalizer optional, can be null
+   * @param hint
+   * @param type
+   * @param minLength
+   * @param shape optional, the expression over {@link DateShapes} the formatter can possibly parse
+   * @param resolvable if the parsed fields can be resolved by {@link DateTimeResolver}
+   */
+  DateTimeParser(@NotNull DateTimeFormatter formatter, @Nullable DateTimeSeparatorNormalizer normalizer,
+                 @NotNull DateFormatHint hint, TemporalQuery<?>[] type, int minLength, @Nullable Pattern shape,
+                 boolean resolvable){
 
     Preconditions.checkNotNull(formatter, "DateTimeFormatter can not be null");
     Preconditions.checkNotNull(hint, "DateFormatHint can not be null");
@@ -50,12 +71,33 @@ public class DateTimeParser {
     this.normalizer = normalizer;
     this.minLength = minLength;
     this.types = type;
+    this.shape = shape;
+    this.resolvable = resolvable;
   }
 
   public DateFormatHint getHint() {
     return hint;
   }
 
+  /**
+   * @return the expression over {@link DateShapes} the formatter can possibly parse, null if any shape might match
+   */
+  @Nullable
+  Pattern getShape() {
+    return shape;
+  }
+
+  /**
+   * Tells if an input of the provided shape can possibly be parsed by this parser.
+   * Parsers built from a pattern the shapes don't cover accept all shapes.
+   *
+   * @param inputShape the shape of the input, see {@link DateShapes#shapeOf(CharSequence)}
+   * @return false if parsing an input of that shape fails for sure
+   */
+  boolean accepts(String inputShape){
+    return inputShape.length() >= minLength && (shape == null || shape.matcher(inputShape).matches());
+  }
+
   /**
    * Parses the provided String as a TemporalAccessor if possible, otherwise returns null.
    *
@@ -63,12 +105,13 @@ public class DateTimeParser {
    * on the {@link DateFormatHint} provided.
    *
    * This function will not throw DateTimeParseException but returns null in case the input
-   * can not be parsed.
+   * can not be parsed. Parsers built from a pattern of numerical ISO fields do not even throw internally, see
+   * {@link DateTimeResolver}.
    *
    * @param input
    * @return TemporalAccessor or null in case the input can not be parsed.
    */
-  public TemporalAccessor parse(String input){
+  public TemporalAccessor parse(CharSequence input){
 
     // return fast if minimum length is not meet
     if(input.length() < minLength){
@@ -79,6 +122,37 @@ public class DateTimeParser {
       input = normalizer.normalize(input);
     }
 
+    if(resolvable){
+      return DateTimeResolver.parse(formatter, input, types);
+    }
+    return parseBest(input);
+  }
+
+  /**
+   * Parses the provided String as a {@link PackedDate} if possible, see {@link #parse(CharSequence)}.
+   * Parsers built from a pattern of numerical ISO fields do not create the TemporalAccessor.
+   *
+   * @param input
+   * @return the packed date without confidence or {@link PackedDate#FAIL}
+   */
+  long parsePacked(CharSequence input){
+
+    if(input.length() < minLength){
+      return PackedDate.FAIL;
+    }
+
+    if(normalizer != null){
+      input = normalizer.normalize(input);
+    }
+
+    if(resolvable){
+      return DateTimeResolver.parsePacked(formatter, input, types);
+    }
+    TemporalAccessor parsed = parseBest(input);
+    return parsed == null ? PackedDate.FAIL : PackedDate.pack(parsed);
+  }
+
+  private TemporalAccessor parseBest(CharSequence input){
     try {
       if(types.length > 1) {
         return formatter.parseBest(input, types);
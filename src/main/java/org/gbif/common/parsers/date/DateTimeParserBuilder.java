@@ -88,9 +88,8 @@ public class DateTimeParserBuilder {
     Preconditions.checkNotNull(pattern);
     Preconditions.checkNotNull(hint);
 
-    int minLength = getMinimumStringLengthForPattern(pattern);
     DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
-    return new DateTimeParser(dateTimeFormatter, null, hint, type, minLength);
+    return newDateTimeParser(pattern, dateTimeFormatter, null, hint, type, null, null);
   }
 
   private static DateTimeParser build(@NotNull String pattern, @NotNull DateFormatHint hint,
@@ -98,10 +97,9 @@ public class DateTimeParserBuilder {
     Preconditions.checkNotNull(pattern);
     Preconditions.checkNotNull(hint);
 
-    int minLength = getMinimumStringLengthForPattern(pattern);
     DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern).withZone(zoneId)
             .withResolverStyle(ResolverStyle.STRICT);
-    return new DateTimeParser(dateTimeFormatter, null, hint, type, minLength);
+    return newDateTimeParser(pattern, dateTimeFormatter, null, hint, type, null, null);
   }
 
   /**
@@ -137,8 +135,7 @@ public class DateTimeParserBuilder {
 
     DateTimeSeparatorNormalizer dateTimeNormalizer = new DateTimeSeparatorNormalizer(CharMatcher.anyOf(alternativeSeparators), separator);
     DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
-    int minLength = getMinimumStringLengthForPattern(pattern);
-    return new DateTimeParser(dateTimeFormatter, dateTimeNormalizer, hint, type, minLength);
+    return newDateTimeParser(pattern, dateTimeFormatter, dateTimeNormalizer, hint, type, separator, alternativeSeparators);
   }
 
   /**
@@ -152,9 +149,8 @@ public class DateTimeParserBuilder {
    * @return
    */
   private static DateTimeParser build(String pattern, DateFormatHint hint, @NotNull TemporalQuery<?>[] type, Year baseYear){
-    int minLength = getMinimumStringLengthForPattern(pattern);
     DateTimeFormatter dateTimeFormatter = build2DigitsYearDateTimeFormatter(pattern, baseYear);
-    return new DateTimeParser(dateTimeFormatter, null, hint, type, minLength);
+    return newDateTimeParser(pattern, dateTimeFormatter, null, hint, type, null, null);
   }
 
   /**
@@ -177,11 +173,20 @@ public class DateTimeParserBuilder {
 
     DateTimeSeparatorNormalizer dateTimeNormalizer = new DateTimeSeparatorNormalizer(CharMatcher.anyOf(alternativeSeparators), separator);
     DateTimeFormatter dateTimeFormatter = build2DigitsYearDateTimeFormatter(pattern, baseYear);
-    int minLength = getMinimumStringLengthForPattern(pattern);
-    return new DateTimeParser(dateTimeFormatter, dateTimeNormalizer, hint, type, minLength);
+    return newDateTimeParser(pattern, dateTimeFormatter, dateTimeNormalizer, hint, type, separator, alternativeSeparators);
   }
 
-
+  /**
+   * Creates the DateTimeParser with the shape and resolution support derived from its pattern.
+   */
+  private static DateTimeParser newDateTimeParser(String pattern, DateTimeFormatter dateTimeFormatter,
+                                                  DateTimeSeparatorNormalizer dateTimeNormalizer, DateFormatHint hint,
+                                                  TemporalQuery<?>[] type, String separator, String alternativeSeparators){
+    int minLength = getMinimumStringLengthForPattern(pattern);
+    return new DateTimeParser(dateTimeFormatter, dateTimeNormalizer, hint, type, minLength,
+            DateShapes.compile(pattern, separator, alternativeSeparators),
+            DateTimeResolver.supports(pattern, dateTimeFormatter.getResolverStyle(), type));
+  }
 
   /**
    * From a {@link }DateTimeFormatter} pattern in String, get the minimum String length required for an input String to apply
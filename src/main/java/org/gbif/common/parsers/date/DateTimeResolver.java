@@ -0,0 +1,288 @@
+package org.gbif.common.parsers.date;
+
+import java.text.ParsePosition;
+import javax.annotation.Nullable;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.LocalTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneId;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.chrono.IsoChronology;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.ResolverStyle;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalAccessor;
+import org.threeten.bp.temporal.TemporalQueries;
+import org.threeten.bp.temporal.TemporalQuery;
+
+/**
+ * Parses with {@link DateTimeFormatter#parseUnresolved(CharSequence, java.text.ParsePosition)} and resolves the
+ * parsed fields into {@link LocalDate}, {@link YearMonth}, {@link Year}, {@link LocalDateTime} or
+ * {@link ZonedDateTime} explicitly, so an input that can not be parsed costs a few comparisons instead of a
+ * {@link org.threeten.bp.format.DateTimeParseException}.
+ *
+ * The resolution gives the same results as {@link DateTimeFormatter#parseBest(CharSequence, TemporalQuery[])}
+ * for the patterns accepted by {@link #supports(String, ResolverStyle, TemporalQuery[])}: numerical ISO fields only,
+ * resolved strictly, or smartly for dates without time.
+ */
+final class DateTimeResolver {
+
+  // pattern letters of the ISO fields resolved here
+  private static final String DATE_LETTERS = "uMd";
+  private static final String TIME_LETTERS = "HmsnxXZ";
+
+  private DateTimeResolver() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Tells if inputs parsed with a formatter of that pattern and resolver style can be resolved by this class into
+   * the provided types.
+   */
+  static boolean supports(String pattern, ResolverStyle resolverStyle, TemporalQuery<?>[] types) {
+    for (TemporalQuery<?> type : types) {
+      if (type != LocalDate.FROM && type != YearMonth.FROM && type != Year.FROM && type != LocalDateTime.FROM
+          && type != ZonedDateTime.FROM) {
+        return false;
+      }
+    }
+
+    boolean time = false;
+    boolean quoted = false;
+    int i = 0;
+    while (i < pattern.length()) {
+      char c = pattern.charAt(i);
+      int count = 1;
+      while (i + count < pattern.length() && pattern.charAt(i + count) == c) {
+        count++;
+      }
+      if (c == '\'') {
+        // an even number of quotes is either empty literals or escaped quotes
+        quoted = quoted ^ (count % 2 == 1);
+      } else if (!quoted && ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+        if (TIME_LETTERS.indexOf(c) >= 0) {
+          time = true;
+        } else if (DATE_LETTERS.indexOf(c) < 0) {
+          return false;
+        }
+        // more letters are text or localized, except for years, nanos and offsets (ZZZZ is localized)
+        if ((count > 2 && "uxXnZ".indexOf(c) < 0) || (c == 'Z' && count == 4)) {
+          return false;
+        }
+      }
+      i += count;
+    }
+    return resolverStyle == ResolverStyle.STRICT || (resolverStyle == ResolverStyle.SMART && !time);
+  }
+
+  /**
+   * Parses the whole input and resolves it into the first of the types it can produce.
+   *
+   * @return the resolved TemporalAccessor or null if the input can not be parsed or resolved into any of the types
+   */
+  @Nullable
+  static TemporalAccessor parse(DateTimeFormatter formatter, CharSequence input, TemporalQuery<?>[] types) {
+    TemporalAccessor parsed = parseUnresolved(formatter, input);
+    if (parsed == null) {
+      return null;
+    }
+    int type = resolvedType(parsed, formatter.getResolverStyle(), formatter.getZone(), types);
+    return type < 0 ? null : build(parsed, formatter.getResolverStyle(), formatter.getZone(), types[type]);
+  }
+
+  /**
+   * Same as {@link #parse(DateTimeFormatter, CharSequence, TemporalQuery[])} but packing the result without creating
+   * it, see {@link PackedDate}.
+   *
+   * @return the packed date without confidence or {@link PackedDate#FAIL}
+   */
+  static long parsePacked(DateTimeFormatter formatter, CharSequence input, TemporalQuery<?>[] types) {
+    TemporalAccessor parsed = parseUnresolved(formatter, input);
+    if (parsed == null) {
+      return PackedDate.FAIL;
+    }
+    int type = resolvedType(parsed, formatter.getResolverStyle(), formatter.getZone(), types);
+    return type < 0 ? PackedDate.FAIL : pack(parsed, formatter.getResolverStyle(), types[type]);
+  }
+
+  @Nullable
+  private static TemporalAccessor parseUnresolved(DateTimeFormatter formatter, CharSequence input) {
+    ParsePosition position = new ParsePosition(0);
+    TemporalAccessor parsed = formatter.parseUnresolved(input, position);
+    if (parsed == null || position.getErrorIndex() >= 0 || position.getIndex() < input.length()) {
+      return null;
+    }
+    return parsed;
+  }
+
+  /**
+   * Validates the fields of a parsed, unresolved TemporalAccessor. A date, time or offset must be valid even if the
+   * type they resolve into does not use them.
+   *
+   * @param overrideZone the zone of the formatter, used if none is parsed
+   * @return the index of the first type the fields resolve into or -1
+   */
+  private static int resolvedType(TemporalAccessor parsed, ResolverStyle resolverStyle,
+                                  @Nullable ZoneId overrideZone, TemporalQuery<?>[] types) {
+    boolean hasYear = parsed.isSupported(ChronoField.YEAR);
+    boolean hasMonth = parsed.isSupported(ChronoField.MONTH_OF_YEAR);
+    long year = hasYear ? parsed.getLong(ChronoField.YEAR) : 0;
+    long month = hasMonth ? parsed.getLong(ChronoField.MONTH_OF_YEAR) : 0;
+    if (hasYear && !ChronoField.YEAR.range().isValidValue(year)) {
+      return -1;
+    }
+
+    boolean hasDate = parsed.isSupported(ChronoField.DAY_OF_MONTH);
+    if (hasDate && (!hasYear || !hasMonth
+        || dayOfMonth(year, month, parsed.getLong(ChronoField.DAY_OF_MONTH), resolverStyle) < 0)) {
+      return -1;
+    }
+
+    boolean hasTime = false;
+    boolean hasHour = parsed.isSupported(ChronoField.HOUR_OF_DAY);
+    boolean hasMinute = parsed.isSupported(ChronoField.MINUTE_OF_HOUR);
+    boolean hasSecond = parsed.isSupported(ChronoField.SECOND_OF_MINUTE);
+    boolean hasNano = parsed.isSupported(ChronoField.NANO_OF_SECOND);
+    if (hasHour || hasMinute || hasSecond || hasNano) {
+      long hour = valueOrZero(parsed, ChronoField.HOUR_OF_DAY, hasHour);
+      long minute = valueOrZero(parsed, ChronoField.MINUTE_OF_HOUR, hasMinute);
+      long second = valueOrZero(parsed, ChronoField.SECOND_OF_MINUTE, hasSecond);
+      long nano = valueOrZero(parsed, ChronoField.NANO_OF_SECOND, hasNano);
+      if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59
+          || nano < 0 || nano > 999999999) {
+        return -1;
+      }
+      // missing smaller units default to 0, but not a missing unit between present ones
+      hasTime = hasHour && (hasMinute || (!hasSecond && !hasNano)) && (hasSecond || !hasNano);
+    }
+
+    boolean hasZone = overrideZone != null || parsed.query(TemporalQueries.zoneId()) != null;
+    if (parsed.isSupported(ChronoField.OFFSET_SECONDS)) {
+      if (!ChronoField.OFFSET_SECONDS.range().isValidValue(parsed.getLong(ChronoField.OFFSET_SECONDS))) {
+        return -1;
+      }
+      hasZone = true;
+    }
+
+    for (int i = 0; i < types.length; i++) {
+      TemporalQuery<?> type = types[i];
+      if ((type == LocalDate.FROM && hasDate)
+          // without a day the month is only validated here, so a year with an invalid month still resolves to a Year
+          || (type == YearMonth.FROM && hasYear && hasMonth && ChronoField.MONTH_OF_YEAR.range().isValidValue(month))
+          || (type == Year.FROM && hasYear)
+          || (type == LocalDateTime.FROM && hasDate && hasTime)
+          || (type == ZonedDateTime.FROM && hasDate && hasTime && hasZone)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Builds the type from fields validated by {@link #resolvedType}.
+   */
+  private static TemporalAccessor build(TemporalAccessor parsed, ResolverStyle resolverStyle,
+                                        @Nullable ZoneId overrideZone, TemporalQuery<?> type) {
+    int year = parsed.get(ChronoField.YEAR);
+    if (type == Year.FROM) {
+      return Year.of(year);
+    }
+    int month = parsed.get(ChronoField.MONTH_OF_YEAR);
+    if (type == YearMonth.FROM) {
+      return YearMonth.of(year, month);
+    }
+    LocalDate date = LocalDate.of(year, month,
+        dayOfMonth(year, month, parsed.getLong(ChronoField.DAY_OF_MONTH), resolverStyle));
+    if (type == LocalDate.FROM) {
+      return date;
+    }
+
+    LocalDateTime dateTime = LocalDateTime.of(date, LocalTime.of(parsed.get(ChronoField.HOUR_OF_DAY),
+        (int) valueOrZero(parsed, ChronoField.MINUTE_OF_HOUR), (int) valueOrZero(parsed, ChronoField.SECOND_OF_MINUTE),
+        (int) valueOrZero(parsed, ChronoField.NANO_OF_SECOND)));
+    if (type == LocalDateTime.FROM) {
+      return dateTime;
+    }
+
+    // a zone parsed or set on the formatter wins over a parsed offset
+    ZoneId zone = parsed.query(TemporalQueries.zoneId());
+    if (zone == null) {
+      zone = overrideZone;
+    }
+    if (zone == null) {
+      zone = ZoneOffset.ofTotalSeconds(parsed.get(ChronoField.OFFSET_SECONDS));
+    }
+    return ZonedDateTime.of(dateTime, zone);
+  }
+
+  /**
+   * Packs the type from fields validated by {@link #resolvedType}, the resolution of a time is its smallest field.
+   */
+  private static long pack(TemporalAccessor parsed, ResolverStyle resolverStyle, TemporalQuery<?> type) {
+    int year = parsed.get(ChronoField.YEAR);
+    if (type == Year.FROM) {
+      return PackedDate.pack(year, 0, 0, 0, 0, 0, PackedDate.RESOLUTION_YEAR, null);
+    }
+    int month = parsed.get(ChronoField.MONTH_OF_YEAR);
+    if (type == YearMonth.FROM) {
+      return PackedDate.pack(year, month, 0, 0, 0, 0, PackedDate.RESOLUTION_MONTH, null);
+    }
+    int day = dayOfMonth(year, month, parsed.getLong(ChronoField.DAY_OF_MONTH), resolverStyle);
+    if (type == LocalDate.FROM) {
+      return PackedDate.pack(year, month, day, 0, 0, 0, PackedDate.RESOLUTION_DAY, null);
+    }
+
+    int resolution = PackedDate.RESOLUTION_HOUR;
+    if (parsed.isSupported(ChronoField.SECOND_OF_MINUTE)) {
+      resolution = PackedDate.RESOLUTION_SECOND;
+    } else if (parsed.isSupported(ChronoField.MINUTE_OF_HOUR)) {
+      resolution = PackedDate.RESOLUTION_MINUTE;
+    }
+    return PackedDate.pack(year, month, day, parsed.get(ChronoField.HOUR_OF_DAY),
+        (int) valueOrZero(parsed, ChronoField.MINUTE_OF_HOUR), (int) valueOrZero(parsed, ChronoField.SECOND_OF_MINUTE),
+        resolution, null);
+  }
+
+  private static long valueOrZero(TemporalAccessor parsed, ChronoField field) {
+    return valueOrZero(parsed, field, parsed.isSupported(field));
+  }
+
+  private static long valueOrZero(TemporalAccessor parsed, ChronoField field, boolean present) {
+    return present ? parsed.getLong(field) : 0;
+  }
+
+  /**
+   * Validates a date. The smart resolver style moves a day of month 29 to 31 that does not exist to the last day of
+   * that month, the other styles reject it.
+   *
+   * @return the day of month of the date or -1 if it does not exist
+   */
+  static int dayOfMonth(long year, long month, long day, ResolverStyle resolverStyle) {
+    if (!ChronoField.YEAR.range().isValidValue(year) || month < 1 || month > 12 || day < 1 || day > 31) {
+      return -1;
+    }
+    int lengthOfMonth = lengthOfMonth((int) year, (int) month);
+    if (day > lengthOfMonth) {
+      return resolverStyle == ResolverStyle.SMART ? lengthOfMonth : -1;
+    }
+    return (int) day;
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return IsoChronology.INSTANCE.isLeapYear(year) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+}
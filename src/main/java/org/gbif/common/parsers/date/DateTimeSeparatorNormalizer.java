@@ -15,7 +15,7 @@ class DateTimeSeparatorNormalizer {
     this.replacementChar = replacementChar;
   }
 
-  public String normalize(String input){
+  public String normalize(CharSequence input){
     return charMatcher.replaceFrom(input, replacementChar);
   }
 }
@@ -0,0 +1,150 @@
+package org.gbif.common.parsers.date;
+
+import org.gbif.utils.file.csv.CSVReader;
+import org.gbif.utils.file.csv.CSVReaderFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Splitter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.threeten.bp.Month;
+
+/**
+ * Case-insensitive trie of the month names and their alternative names, see {@link #getInstance()}.
+ * Names are matched on a region of a CharSequence, so no lower case copy of the name is ever created.
+ *
+ * Thread-Safe after creation.
+ */
+final class MonthNameTrie {
+
+  private static final Logger LOG = LoggerFactory.getLogger(MonthNameTrie.class);
+
+  private static final String COLUMN_SEPARATOR = ";";
+  private static final Splitter ROW_ELEMENT_SPLITTER = Splitter.on(',').trimResults().omitEmptyStrings();
+
+  private static final String COMMENT_MARKER = "#";
+  private static final String MONTH_FILEPATH = "/dictionaries/parse/month.csv";
+
+  private static final MonthNameTrie INSTANCE = load();
+
+  private final Node root = new Node();
+
+  private MonthNameTrie() {}
+
+  /**
+   * Get the trie of the month names (as written in {@link Month#values()}) and the alternative names of the month file.
+   */
+  static MonthNameTrie getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Load all the month names and alternative month names from a file
+   */
+  private static MonthNameTrie load() {
+    MonthNameTrie trie = new MonthNameTrie();
+    for (Month m : Month.values()) {
+      trie.put(m.name(), m.getValue());
+    }
+
+    InputStream monthFileStream = MonthNameTrie.class.getResourceAsStream(MONTH_FILEPATH);
+    if (monthFileStream == null) {
+      LOG.error("Month file can not be loaded. File not found: {}", MONTH_FILEPATH);
+      return trie;
+    }
+
+    try {
+      CSVReader csv = CSVReaderFactory.build(monthFileStream, Charsets.UTF_8.name(), COLUMN_SEPARATOR, null, 0);
+      for (String[] row : csv) {
+        if (row == null || row[0].startsWith(COMMENT_MARKER)) {
+          continue;
+        }
+        int month = trie.get(row[0], 0, row[0].length());
+        // only the full month name is expected in the first column
+        if (month == 0 || !Month.of(month).name().equalsIgnoreCase(row[0])) {
+          LOG.error("Unknown month found in: {}", MONTH_FILEPATH);
+          continue;
+        }
+        for (String monthAltName : ROW_ELEMENT_SPLITTER.split(row[1])) {
+          trie.put(monthAltName, month);
+        }
+      }
+    } catch (IOException e) {
+      LOG.error("Error loading month alternative names", e);
+    }
+    return trie;
+  }
+
+  /**
+   * Adds a name, an ambiguous name is kept for the first month of the year.
+   */
+  private void put(String name, int month) {
+    Node node = root;
+    for (int i = 0; i < name.length(); i++) {
+      char c = Character.toLowerCase(name.charAt(i));
+      Node child = node.child(c);
+      if (child == null) {
+        child = node.addChild(c);
+      }
+      node = child;
+    }
+    if (node.month == 0 || month < node.month) {
+      node.month = month;
+    }
+  }
+
+  /**
+   * Get the month of a name, or of an abbreviation followed by a dot (e.g. "Jan.").
+   *
+   * @param chars
+   * @param start index of the first char of the name
+   * @param end index after the last char of the name
+   * @return the numerical value of the month (January == 1) or 0 if the name is unknown
+   */
+  int get(CharSequence chars, int start, int end) {
+    int month = walk(chars, start, end);
+    if (month == 0 && end > start && chars.charAt(end - 1) == '.') {
+      month = walk(chars, start, end - 1);
+    }
+    return month;
+  }
+
+  private int walk(CharSequence chars, int start, int end) {
+    Node node = root;
+    for (int i = start; i < end && node != null; i++) {
+      node = node.child(Character.toLowerCase(chars.charAt(i)));
+    }
+    return node == null ? 0 : node.month;
+  }
+
+  /**
+   * A node and its children, looked up linearly as a node has a handful of them at most.
+   */
+  private static class Node {
+    private char[] chars = new char[0];
+    private Node[] children = new Node[0];
+    private int month;
+
+    Node child(char c) {
+      for (int i = 0; i < chars.length; i++) {
+        if (chars[i] == c) {
+          return children[i];
+        }
+      }
+      return null;
+    }
+
+    Node addChild(char c) {
+      Node child = new Node();
+      chars = Arrays.copyOf(chars, chars.length + 1);
+      children = Arrays.copyOf(children, children.length + 1);
+      chars[chars.length - 1] = c;
+      children[children.length - 1] = child;
+      return child;
+    }
+  }
+}
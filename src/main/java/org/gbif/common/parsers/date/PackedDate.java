@@ -0,0 +1,234 @@
+package org.gbif.common.parsers.date;
+
+import org.gbif.common.parsers.core.ParseResult;
+
+import javax.annotation.Nullable;
+
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.temporal.ChronoField;
+import org.threeten.bp.temporal.TemporalAccessor;
+
+/**
+ * Encodes a parsed date into a single long, for bulk processing without any TemporalAccessor or boxed
+ * Integer per value. See {@link PackedDateParser}.
+ *
+ * From the most significant bits: the year on 32 bits (signed), the month on 4 bits, the day on 5, the hour on 5,
+ * the minute on 6, the second on 6, the resolution on 3 and the confidence on 2. Fields below the resolution are 0.
+ * Nanoseconds, offsets and zones are not encoded, dates with time keep their local date and time.
+ *
+ * {@link #FAIL} (0) is the only value with no resolution.
+ */
+public final class PackedDate {
+
+  /**
+   * The value of a failed parse.
+   */
+  public static final long FAIL = 0L;
+
+  public static final int RESOLUTION_YEAR = 1;
+  public static final int RESOLUTION_MONTH = 2;
+  public static final int RESOLUTION_DAY = 3;
+  public static final int RESOLUTION_HOUR = 4;
+  public static final int RESOLUTION_MINUTE = 5;
+  public static final int RESOLUTION_SECOND = 6;
+
+  private static final int CONFIDENCE_SHIFT = 0;
+  private static final int RESOLUTION_SHIFT = 2;
+  private static final int SECOND_SHIFT = 5;
+  private static final int MINUTE_SHIFT = 11;
+  private static final int HOUR_SHIFT = 17;
+  private static final int DAY_SHIFT = 22;
+  private static final int MONTH_SHIFT = 27;
+  private static final int YEAR_SHIFT = 32;
+
+  private static final long CONFIDENCE_MASK = 0x3L;
+  private static final ParseResult.CONFIDENCE[] CONFIDENCES = ParseResult.CONFIDENCE.values();
+
+  // shared results without payload, carrying the outcome of a packed parse to the metrics
+  private static final ParseResult<?>[] STATUS_RESULTS = new ParseResult<?>[CONFIDENCES.length];
+  static {
+    for (int i = 0; i < CONFIDENCES.length; i++) {
+      STATUS_RESULTS[i] = ParseResult.success(CONFIDENCES[i], null);
+    }
+  }
+
+  private PackedDate() {
+    throw new UnsupportedOperationException("Can't initialize class");
+  }
+
+  /**
+   * Packs valid date fields, no validation is done. Fields below the resolution must be 0.
+   *
+   * @param confidence the confidence or null to leave it unset
+   */
+  static long pack(int year, int month, int day, int hour, int minute, int second, int resolution,
+                   @Nullable ParseResult.CONFIDENCE confidence) {
+    return ((long) year << YEAR_SHIFT)
+        | ((long) month << MONTH_SHIFT)
+        | ((long) day << DAY_SHIFT)
+        | ((long) hour << HOUR_SHIFT)
+        | ((long) minute << MINUTE_SHIFT)
+        | ((long) second << SECOND_SHIFT)
+        | ((long) resolution << RESOLUTION_SHIFT)
+        | confidenceCode(confidence);
+  }
+
+  /**
+   * Packs a Year, YearMonth, LocalDate, LocalDateTime or any TemporalAccessor with a date and time, the latter with
+   * a resolution of seconds.
+   *
+   * @return the packed date without confidence or {@link #FAIL} if the year is not supported
+   */
+  static long pack(TemporalAccessor temporalAccessor) {
+    if (!temporalAccessor.isSupported(ChronoField.YEAR)) {
+      return FAIL;
+    }
+    int year = temporalAccessor.get(ChronoField.YEAR);
+    if (!temporalAccessor.isSupported(ChronoField.MONTH_OF_YEAR)) {
+      return pack(year, 0, 0, 0, 0, 0, RESOLUTION_YEAR, null);
+    }
+    int month = temporalAccessor.get(ChronoField.MONTH_OF_YEAR);
+    if (!temporalAccessor.isSupported(ChronoField.DAY_OF_MONTH)) {
+      return pack(year, month, 0, 0, 0, 0, RESOLUTION_MONTH, null);
+    }
+    int day = temporalAccessor.get(ChronoField.DAY_OF_MONTH);
+    if (!temporalAccessor.isSupported(ChronoField.SECOND_OF_MINUTE)) {
+      return pack(year, month, day, 0, 0, 0, RESOLUTION_DAY, null);
+    }
+    return pack(year, month, day, temporalAccessor.get(ChronoField.HOUR_OF_DAY),
+        temporalAccessor.get(ChronoField.MINUTE_OF_HOUR), temporalAccessor.get(ChronoField.SECOND_OF_MINUTE),
+        RESOLUTION_SECOND, null);
+  }
+
+  /**
+   * @return the packed date with its confidence replaced, {@link #FAIL} stays as is
+   */
+  static long withConfidence(long packedDate, ParseResult.CONFIDENCE confidence) {
+    if (packedDate == FAIL) {
+      return FAIL;
+    }
+    return (packedDate & ~(CONFIDENCE_MASK << CONFIDENCE_SHIFT)) | confidenceCode(confidence);
+  }
+
+  private static long confidenceCode(@Nullable ParseResult.CONFIDENCE confidence) {
+    return confidence == null ? 0 : (confidence.ordinal() + 1) << CONFIDENCE_SHIFT;
+  }
+
+  /**
+   * @return the shared result carrying the status and confidence of the packed date, without payload
+   */
+  static ParseResult<?> toStatusResult(long packedDate) {
+    ParseResult.CONFIDENCE confidence = getConfidence(packedDate);
+    return confidence == null ? ParseResult.fail() : STATUS_RESULTS[confidence.ordinal()];
+  }
+
+  public static boolean isSuccessful(long packedDate) {
+    return getResolution(packedDate) != 0;
+  }
+
+  public static int getYear(long packedDate) {
+    return (int) (packedDate >> YEAR_SHIFT);
+  }
+
+  /**
+   * @return the month starting at 1 for January or 0 if the resolution is a year
+   */
+  public static int getMonth(long packedDate) {
+    return (int) (packedDate >>> MONTH_SHIFT) & 0xF;
+  }
+
+  public static int getDay(long packedDate) {
+    return (int) (packedDate >>> DAY_SHIFT) & 0x1F;
+  }
+
+  public static int getHour(long packedDate) {
+    return (int) (packedDate >>> HOUR_SHIFT) & 0x1F;
+  }
+
+  public static int getMinute(long packedDate) {
+    return (int) (packedDate >>> MINUTE_SHIFT) & 0x3F;
+  }
+
+  public static int getSecond(long packedDate) {
+    return (int) (packedDate >>> SECOND_SHIFT) & 0x3F;
+  }
+
+  /**
+   * @return one of the RESOLUTION_ constants or 0 for {@link #FAIL}
+   */
+  public static int getResolution(long packedDate) {
+    return (int) (packedDate >>> RESOLUTION_SHIFT) & 0x7;
+  }
+
+  /**
+   * @return the confidence or null if not set
+   */
+  @Nullable
+  public static ParseResult.CONFIDENCE getConfidence(long packedDate) {
+    int code = (int) ((packedDate >>> CONFIDENCE_SHIFT) & CONFIDENCE_MASK);
+    return code == 0 ? null : CONFIDENCES[code - 1];
+  }
+
+  /**
+   * Unpacks into the TemporalAccessor the parsers would have returned, as far as the encoding goes: a {@link Year},
+   * {@link YearMonth}, {@link LocalDate} or {@link LocalDateTime}.
+   *
+   * @return the TemporalAccessor or null for {@link #FAIL}
+   */
+  @Nullable
+  public static TemporalAccessor toTemporalAccessor(long packedDate) {
+    switch (getResolution(packedDate)) {
+      case RESOLUTION_YEAR:
+        return Year.of(getYear(packedDate));
+      case RESOLUTION_MONTH:
+        return YearMonth.of(getYear(packedDate), getMonth(packedDate));
+      case RESOLUTION_DAY:
+        return LocalDate.of(getYear(packedDate), getMonth(packedDate), getDay(packedDate));
+      case RESOLUTION_HOUR:
+      case RESOLUTION_MINUTE:
+      case RESOLUTION_SECOND:
+        return LocalDateTime.of(getYear(packedDate), getMonth(packedDate), getDay(packedDate), getHour(packedDate),
+            getMinute(packedDate), getSecond(packedDate));
+      default:
+        return null;
+    }
+  }
+
+  /**
+   * @return the packed date in ISO 8601 format up to its resolution, followed by its confidence if set
+   */
+  public static String toString(long packedDate) {
+    int resolution = getResolution(packedDate);
+    if (resolution == 0) {
+      return "FAIL";
+    }
+    StringBuilder sb = new StringBuilder().append(getYear(packedDate));
+    if (resolution >= RESOLUTION_MONTH) {
+      sb.append('-').append(twoDigits(getMonth(packedDate)));
+    }
+    if (resolution >= RESOLUTION_DAY) {
+      sb.append('-').append(twoDigits(getDay(packedDate)));
+    }
+    if (resolution >= RESOLUTION_HOUR) {
+      sb.append('T').append(twoDigits(getHour(packedDate)));
+    }
+    if (resolution >= RESOLUTION_MINUTE) {
+      sb.append(':').append(twoDigits(getMinute(packedDate)));
+    }
+    if (resolution >= RESOLUTION_SECOND) {
+      sb.append(':').append(twoDigits(getSecond(packedDate)));
+    }
+    ParseResult.CONFIDENCE confidence = getConfidence(packedDate);
+    if (confidence != null) {
+      sb.append(' ').append(confidence);
+    }
+    return sb.toString();
+  }
+
+  private static String twoDigits(int value) {
+    return value < 10 ? "0" + value : String.valueOf(value);
+  }
+}
@@ -0,0 +1,29 @@
+package org.gbif.common.parsers.date;
+
+import javax.annotation.Nullable;
+
+/**
+ * Parses dates into a {@link PackedDate} instead of a {@link org.gbif.common.parsers.core.ParseResult} of
+ * TemporalAccessor, for bulk processing where only the date fields, the resolution and the confidence are needed.
+ *
+ */
+public interface PackedDateParser {
+
+  /**
+   * Parse a date represented as a single String into a packed date.
+   *
+   * @param input
+   * @return the packed date with its confidence or {@link PackedDate#FAIL}
+   */
+  long parsePacked(String input);
+
+  /**
+   * Parse a date represented as a single String into a packed date.
+   *
+   * @param input
+   * @param hint help to speed up the parsing and possibly return a better confidence
+   * @return the packed date with its confidence or {@link PackedDate#FAIL}
+   */
+  long parsePacked(String input, @Nullable DateFormatHint hint);
+
+}
@@ -1,7 +1,7 @@
 package org.gbif.common.parsers.date;
 
-import org.gbif.common.parsers.core.Parsable;
 import org.gbif.common.parsers.core.ParseResult;
+import org.gbif.common.parsers.core.RegionParsable;
 
 import javax.annotation.Nullable;
 
@@ -10,9 +10,10 @@ import org.threeten.bp.temporal.TemporalAccessor;
 /**
  *
  * Main interface for date/time parsing based.
+ * Regions of a line buffer can be parsed with {@link #parse(CharSequence, int, int)} without creating a substring.
  *
  */
-public interface TemporalParser extends Parsable<TemporalAccessor> {
+public interface TemporalParser extends RegionParsable<TemporalAccessor> {
 
   /**
    * Parse a date represented as a single String into a TemporalAccessor.
@@ -1,13 +1,14 @@
 package org.gbif.common.parsers.date;
 
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.ParseResult;
 
+import java.nio.CharBuffer;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
 import org.apache.commons.lang3.StringUtils;
-import org.threeten.bp.DateTimeException;
-import org.threeten.bp.LocalDate;
+import org.threeten.bp.format.ResolverStyle;
 import org.threeten.bp.temporal.TemporalAccessor;
 
 /**
@@ -17,7 +18,7 @@ import org.threeten.bp.temporal.TemporalAccessor;
  *
  * This class is basically a decorator on top of default NumericalDateParser to handle months written in text.
  */
-class TextDateParser implements TemporalParser {
+class TextDateParser implements TemporalParser, PackedDateParser {
 
   //private static final Pattern ISO_TIME_MARKER =  Pattern.compile("\\dT\\d");
   //private static final Pattern AT_LEAST_ONE_LETTER =  Pattern.compile("[a-zA-Z]+");
@@ -25,13 +26,31 @@ class TextDateParser implements TemporalParser {
   private static final Pattern NUMERICAL_DATE_PATTERN =  Pattern.compile("[^a-zA-Z]+[\\dT\\d]?[^a-zA-Z]+[Z]?$");
   private static final TextualMonthDateTokenizer TEXT_MONTH_TOKENIZER = TextualMonthDateTokenizer.newInstance();
 
-  private static final TemporalParser NUMERICAL_DATE_PARSER = ThreeTenNumericalDateParser.newInstance();
+  private static final String METRIC_NAME = Metrics.name(TextDateParser.class);
+  private static final ThreeTenNumericalDateParser NUMERICAL_DATE_PARSER = ThreeTenNumericalDateParser.newInstance();
   private static final DatePartsNormalizer DATE_PARTS_NORMALIZER = DatePartsNormalizer.newInstance();
 
   @Override
   public ParseResult<TemporalAccessor> parse(String input) {
+    return parse(input, 0, input == null ? 0 : input.length());
+  }
 
-    if(StringUtils.isBlank(input)){
+  /**
+   * Numerical dates are parsed in place, dates with textual months from a substring.
+   */
+  @Override
+  public ParseResult<TemporalAccessor> parse(CharSequence input, int start, int end) {
+    final long started = Metrics.start();
+    return Metrics.record(METRIC_NAME, input, start, end, parseRegion(input, start, end), started);
+  }
+
+  private ParseResult<TemporalAccessor> parseRegion(CharSequence input, int start, int end) {
+
+    if(input == null){
+      return ParseResult.fail();
+    }
+    CharSequence region = start == 0 && end == input.length() ? input : CharBuffer.wrap(input, start, end);
+    if(StringUtils.isBlank(region)){
       return ParseResult.fail();
     }
 
@@ -39,33 +58,63 @@ class TextDateParser implements TemporalParser {
     // Also accept the T marker (e.g. 1978-12-21T02:12) from the ISO format
     // We could also simply try to parse it but it is probably not optimal
     //if(!AT_LEAST_ONE_LETTER.matcher(input).find() || ISO_TIME_MARKER.matcher(input).find()) {
+    if(NUMERICAL_DATE_PATTERN.matcher(region).matches()) {
+      return NUMERICAL_DATE_PARSER.parseChars(region, DateFormatHint.NONE);
+    }
+
+    long date = parseTextualMonthDate(region.toString());
+    //simply ignore bad dates
+    if(PackedDate.isSuccessful(date)){
+      return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, PackedDate.toTemporalAccessor(date));
+    }
+    return ParseResult.fail();
+  }
+
+  /**
+   * Numerical dates are packed by the NumericalDateParser, dates with textual months without creating any
+   * TemporalAccessor.
+   */
+  @Override
+  public long parsePacked(String input) {
+    final long start = Metrics.start();
+    long packedDate = parsePackedDate(input);
+    Metrics.record(METRIC_NAME, input, PackedDate.toStatusResult(packedDate), start);
+    return packedDate;
+  }
+
+  private long parsePackedDate(String input) {
+
+    if(StringUtils.isBlank(input)){
+      return PackedDate.FAIL;
+    }
+
     if(NUMERICAL_DATE_PATTERN.matcher(input).matches()) {
-      return NUMERICAL_DATE_PARSER.parse(input, DateFormatHint.NONE);
+      return NUMERICAL_DATE_PARSER.parsePackedChars(input, DateFormatHint.NONE);
     }
 
+    return PackedDate.withConfidence(parseTextualMonthDate(input), ParseResult.CONFIDENCE.DEFINITE);
+  }
+
+  /**
+   * Parses a date with a textual month from the values the tokenizer resolves while scanning, which are the same as
+   * the {@link DatePartsNormalizer} would give for the tokens.
+   *
+   * @return the packed date without confidence or {@link PackedDate#FAIL}
+   */
+  private static long parseTextualMonthDate(String input) {
     TextualMonthDateTokenizer.DateTokens dt = TEXT_MONTH_TOKENIZER.tokenize(input);
     // for now we only handle cases where we can find year, month, day with confidence.
     if(!dt.containsDiscardedTokens() && dt.size() == 3){
-      DatePartsNormalizer.NormalizedYearMonthDay normalizedYearMonthDay = DATE_PARTS_NORMALIZER.normalize(
-              dt.getToken(TextualMonthDateTokenizer.TokenType.INT_4).getToken(),
-              dt.getToken(TextualMonthDateTokenizer.TokenType.TEXT).getToken(),
-              dt.getToken(TextualMonthDateTokenizer.TokenType.INT_2).getToken());
-
-      //no handling for partial dates with textual month for now
-      if(normalizedYearMonthDay.getYear() != null &&
-              normalizedYearMonthDay.getMonth() != null &&
-              normalizedYearMonthDay.getDay() != null){
-        try {
-          return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE,
-                  (TemporalAccessor)LocalDate.of(normalizedYearMonthDay.getYear(),
-                          normalizedYearMonthDay.getMonth(), normalizedYearMonthDay.getDay()));
-        }
-        catch (DateTimeException ignore){
-          //simply ignore bad dates
-        }
+      int year = dt.getToken(TextualMonthDateTokenizer.TokenType.INT_4).getValue();
+      int month = dt.getToken(TextualMonthDateTokenizer.TokenType.TEXT).getValue();
+      int day = DateTimeResolver.dayOfMonth(year, month, dt.getToken(TextualMonthDateTokenizer.TokenType.INT_2).getValue(),
+              ResolverStyle.STRICT);
+      // an unknown month is 0, so not a valid date
+      if(day > 0){
+        return PackedDate.pack(year, month, day, 0, 0, 0, PackedDate.RESOLUTION_DAY, null);
       }
     }
-    return ParseResult.fail();
+    return PackedDate.FAIL;
   }
 
   /**
@@ -80,6 +129,14 @@ class TextDateParser implements TemporalParser {
     return NUMERICAL_DATE_PARSER.parse(input, hint);
   }
 
+  /**
+   * For now this is directly delegated the NumericalDateParser.
+   */
+  @Override
+  public long parsePacked(String input, @Nullable DateFormatHint hint) {
+    return NUMERICAL_DATE_PARSER.parsePacked(input, hint);
+  }
+
   /**
    * Parse date parts into a TemporalAccessor.
    * The {@link DatePartsNormalizer} will be applied on raw data.
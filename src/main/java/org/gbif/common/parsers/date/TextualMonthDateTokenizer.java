@@ -2,12 +2,10 @@ package org.gbif.common.parsers.date;
 
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
-import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.apache.commons.lang3.StringUtils;
@@ -32,14 +30,11 @@ public class TextualMonthDateTokenizer {
     TEXT
   }
 
-  private static final Pattern SEPARATOR_PATTERN =  Pattern.compile("[^A-Za-z0-9.]+");
-  private static final Pattern DAY_SUFFIXES_PATTERN =  Pattern.compile("(?<=[0-9]{1,2})(st|nd|rd|th|\\.)",
-          Pattern.CASE_INSENSITIVE);
+  private static final MonthNameTrie MONTH_NAMES = MonthNameTrie.getInstance();
 
-  private static final Map<TokenType, Pattern> PATTERNS_BY_TYPE = ImmutableMap.of(
-          TokenType.INT_2, Pattern.compile("[0-9]{1,2}"),
-          TokenType.INT_4, Pattern.compile("[0-9]{4}"),
-          TokenType.TEXT, Pattern.compile("[A-Za-z.]{1,10}"));
+  // a longer number is neither an INT_2 nor an INT_4
+  private static final int MAX_INT_DIGITS = 4;
+  private static final int MAX_TEXT_LENGTH = 10;
 
   /**
    * Private constructor use static method {@link #newInstance()}
@@ -53,6 +48,9 @@ public class TextualMonthDateTokenizer {
   /**
    * Tokenize a string into a {@link DateTokens}.
    *
+   * The string is scanned once. Parts are separated by any char other than an ASCII letter, digit or dot. Day
+   * suffixes (st, nd, rd, th or a dot) directly following a digit are dropped, then each part is typed or ignored.
+   *
    * @param str
    * @return {@link DateTokens} instance, or null if str is null or empty
    */
@@ -61,22 +59,81 @@ public class TextualMonthDateTokenizer {
       return null;
     }
 
-    str = DAY_SUFFIXES_PATTERN.matcher(str).replaceAll("");
     DateTokens tokens = new DateTokens();
+    int length = str.length();
+    int i = 0;
+    while (i < length) {
+      if (!isPartChar(str.charAt(i))) {
+        i++;
+        continue;
+      }
 
-    String[] parts = SEPARATOR_PATTERN.split(str);
-    for (String part : parts) {
-      for (TokenType tokenType : PATTERNS_BY_TYPE.keySet()) {
-        if (PATTERNS_BY_TYPE.get(tokenType).matcher(part).matches()) {
-          tokens.addToken(new DateToken(part, tokenType));
-          //should always match only on pattern
-          break;
+      int start = i;
+      int digits = 0;
+      int letters = 0;
+      int value = 0;
+      boolean suffixDropped = false;
+      while (i < length && isPartChar(str.charAt(i))) {
+        int suffixLength = daySuffixLength(str, i);
+        if (suffixLength > 0) {
+          suffixDropped = true;
+          i += suffixLength;
+          continue;
         }
+        char c = str.charAt(i);
+        if (isDigit(c)) {
+          digits++;
+          if (digits <= MAX_INT_DIGITS) {
+            value = value * 10 + (c - '0');
+          }
+        } else {
+          letters++;
+        }
+        i++;
+      }
+
+      if (letters == 0 && (digits == 1 || digits == 2)) {
+        tokens.addToken(new DateToken(str, start, i, suffixDropped, TokenType.INT_2, value));
+      } else if (letters == 0 && digits == MAX_INT_DIGITS) {
+        tokens.addToken(new DateToken(str, start, i, suffixDropped, TokenType.INT_4, value));
+      } else if (digits == 0 && letters <= MAX_TEXT_LENGTH) {
+        // a part without digit has no suffix dropped
+        tokens.addToken(new DateToken(str, start, i, false, TokenType.TEXT, MONTH_NAMES.get(str, start, i)));
       }
     }
     return tokens;
   }
 
+  private static boolean isPartChar(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '.';
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * @return the length of the day suffix starting at index i if it directly follows a digit, otherwise 0
+   */
+  private static int daySuffixLength(String str, int i) {
+    if (i == 0 || !isDigit(str.charAt(i - 1))) {
+      return 0;
+    }
+    char c = str.charAt(i);
+    if (c == '.') {
+      return 1;
+    }
+    if (i + 1 < str.length()) {
+      char first = Character.toLowerCase(c);
+      char second = Character.toLowerCase(str.charAt(i + 1));
+      if ((first == 's' && second == 't') || (first == 'n' && second == 'd') || (first == 'r' && second == 'd')
+              || (first == 't' && second == 'h')) {
+        return 2;
+      }
+    }
+    return 0;
+  }
+
   /**
    * Contains the result of the tokenization.
    * DateToken are stored by TokenType on a 1 to 1 assumption.
@@ -146,28 +203,87 @@ public class TextualMonthDateTokenizer {
    * This class is Thread-Safe.
    */
   public static class DateToken {
-    private final String token;
+    private final String source;
+    private final int start;
+    private final int end;
+    private final boolean suffixDropped;
     private final TokenType type;
+    private final int value;
+
+    // created on first use, the scanner only records where the token is
+    private volatile String token;
 
     DateToken(String token, TokenType tokenType){
+      this(token, 0, token == null ? 0 : token.length(), false, tokenType, valueOf(token, tokenType));
       this.token = token;
+    }
+
+    private DateToken(String source, int start, int end, boolean suffixDropped, TokenType tokenType, int value){
+      this.source = source;
+      this.start = start;
+      this.end = end;
+      this.suffixDropped = suffixDropped;
       this.type = tokenType;
+      this.value = value;
+    }
+
+    private static int valueOf(String token, TokenType tokenType){
+      if (token == null) {
+        return 0;
+      }
+      if (tokenType == TokenType.TEXT) {
+        return MONTH_NAMES.get(token, 0, token.length());
+      }
+      int value = 0;
+      for (int i = 0; i < token.length() && i < MAX_INT_DIGITS; i++) {
+        value = value * 10 + (token.charAt(i) - '0');
+      }
+      return value;
     }
 
     public String getToken() {
-      return token;
+      String result = token;
+      if (result == null && source != null) {
+        if (suffixDropped) {
+          StringBuilder sb = new StringBuilder(end - start);
+          int i = start;
+          while (i < end) {
+            int suffixLength = daySuffixLength(source, i);
+            if (suffixLength > 0) {
+              i += suffixLength;
+            } else {
+              sb.append(source.charAt(i++));
+            }
+          }
+          result = sb.toString();
+        } else {
+          result = source.substring(start, end);
+        }
+        token = result;
+      }
+      return result;
+    }
+
+    /**
+     * The value resolved while scanning, without creating the token.
+     *
+     * @return the number of an INT_2 or INT_4 token, the numerical value of the month (January == 1) of a TEXT token
+     * or 0 if it is not a known month name
+     */
+    int getValue() {
+      return value;
     }
 
     @Override
     public int hashCode() {
-      return Objects.hashCode(token, type);
+      return Objects.hashCode(getToken(), type);
     }
 
     @Override
     public boolean equals(Object object){
       if (object instanceof DateToken) {
         DateToken that = (DateToken) object;
-        return Objects.equal(this.token, that.token)
+        return Objects.equal(this.getToken(), that.getToken())
                 && Objects.equal(this.type, that.type);
       }
       return false;
@@ -176,7 +292,7 @@ public class TextualMonthDateTokenizer {
     @Override
     public String toString(){
       return MoreObjects.toStringHelper(this)
-              .add("token", token)
+              .add("token", getToken())
               .add("type", type).toString();
     }
   }
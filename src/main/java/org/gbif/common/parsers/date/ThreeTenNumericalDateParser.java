@@ -1,10 +1,13 @@
 package org.gbif.common.parsers.date;
 
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.ParseResult;
 
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.regex.Pattern;
 import javax.annotation.Nullable;
 
@@ -26,7 +29,6 @@ import org.threeten.bp.ZoneOffset;
 import org.threeten.bp.ZonedDateTime;
 import org.threeten.bp.format.DateTimeFormatter;
 import org.threeten.bp.format.DateTimeFormatterBuilder;
-import org.threeten.bp.format.DateTimeParseException;
 import org.threeten.bp.format.ResolverStyle;
 import org.threeten.bp.format.SignStyle;
 import org.threeten.bp.temporal.ChronoField;
@@ -47,9 +49,14 @@ import org.threeten.bp.temporal.TemporalQuery;
  * Thread-Safe after creation.
  *
  */
-class ThreeTenNumericalDateParser implements TemporalParser {
+class ThreeTenNumericalDateParser implements TemporalParser, PackedDateParser {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(ThreeTenNumericalDateParser.class);
+  private static final String METRIC_NAME = Metrics.name(ThreeTenNumericalDateParser.class);
+
+  // slots of the candidates remembered by shape, a new shape replaces the first candidates of a full probe window
+  private static final int SHAPE_SLOTS = 1024;
+  private static final int SHAPE_PROBES = 4;
 
   static final Pattern OPTIONAL_PATTERN_PART = Pattern.compile("\\[.*\\]");
 
@@ -70,6 +77,9 @@ class ThreeTenNumericalDateParser implements TemporalParser {
           .optionalEnd()
           .toFormatter().withResolverStyle(ResolverStyle.STRICT);
 
+  private static final TemporalQuery<?>[] BEST_TYPES = new TemporalQuery<?>[]{ZonedDateTime.FROM, LocalDateTime.FROM,
+          LocalDate.FROM, YearMonth.FROM, Year.FROM};
+
   //brackets [] represent optional section of the pattern
   //separator is a CHAR_HYPHEN
   private static final List<DateTimeParser> BASE_PARSER_LIST = ImmutableList.copyOf(
@@ -138,6 +148,10 @@ class ThreeTenNumericalDateParser implements TemporalParser {
   // the active list/map are related to a specific instance
   private final Map<DateFormatHint, List<DateTimeParser>> activeFormattersByHint;
   private final List<DateTimeMultiParser> activeMultiParserList;
+  // the characters the shapes of the parsers can tell apart, see DateShapes#alphabet
+  private final char[] shapeAlphabet;
+  private final AtomicReferenceArray<Candidates> candidatesByShape =
+    new AtomicReferenceArray<Candidates>(SHAPE_SLOTS);
 
   /**
    * Get an instance of a default ThreeTenNumericalDateParser.
@@ -164,6 +178,7 @@ class ThreeTenNumericalDateParser implements TemporalParser {
   private ThreeTenNumericalDateParser() {
     this.activeFormattersByHint = ImmutableMap.copyOf(FORMATTERS_BY_HINT);
     this.activeMultiParserList = MULTIPARSER_PARSER_LIST;
+    this.shapeAlphabet = shapeAlphabet(activeFormattersByHint);
   }
 
   private ThreeTenNumericalDateParser(Year baseYear) {
@@ -208,6 +223,22 @@ class ThreeTenNumericalDateParser implements TemporalParser {
 
     this.activeMultiParserList = ImmutableList.copyOf(multiParserList);
     this.activeFormattersByHint = ImmutableMap.copyOf(formattersByHint);
+    this.shapeAlphabet = shapeAlphabet(activeFormattersByHint);
+  }
+
+  /**
+   * @return the alphabet of the shapes of all parsers, which include the parsers of the multi parsers
+   */
+  private static char[] shapeAlphabet(Map<DateFormatHint, List<DateTimeParser>> formattersByHint) {
+    List<Pattern> shapes = Lists.newArrayList();
+    for (List<DateTimeParser> parsers : formattersByHint.values()) {
+      for (DateTimeParser parser : parsers) {
+        if (parser.getShape() != null) {
+          shapes.add(parser.getShape());
+        }
+      }
+    }
+    return DateShapes.alphabet(shapes);
   }
 
   @Override
@@ -217,6 +248,28 @@ class ThreeTenNumericalDateParser implements TemporalParser {
 
   @Override
   public ParseResult<TemporalAccessor> parse(String input, @Nullable DateFormatHint hint) {
+    final long start = Metrics.start();
+    return Metrics.record(METRIC_NAME, input, parseChars(input, hint), start);
+  }
+
+  /**
+   * Parses the region through a {@link CharBuffer} view as the formatters accept any CharSequence.
+   */
+  @Override
+  public ParseResult<TemporalAccessor> parse(CharSequence input, int start, int end) {
+    if(input == null){
+      return ParseResult.fail();
+    }
+    final long started = Metrics.start();
+    return Metrics.record(METRIC_NAME, input, start, end,
+            parseChars(start == 0 && end == input.length() ? input : CharBuffer.wrap(input, start, end),
+                    DateFormatHint.NONE), started);
+  }
+
+  /**
+   * Parses without recording metrics, for parsers delegating to this one which record their own.
+   */
+  ParseResult<TemporalAccessor> parseChars(CharSequence input, @Nullable DateFormatHint hint) {
 
     if(StringUtils.isBlank(input)){
       return ParseResult.fail();
@@ -226,11 +279,11 @@ class ThreeTenNumericalDateParser implements TemporalParser {
       hint = DateFormatHint.NONE;
     }
 
-    List<DateTimeParser> parserList = activeFormattersByHint.containsKey(hint) ? activeFormattersByHint.get(hint) : BASE_PARSER_LIST;
+    Candidates candidates = getCandidates(input, hint);
 
     // First attempt: find a match with definite confidence
     TemporalAccessor parsedTemporalAccessor;
-    for(DateTimeParser parser : parserList){
+    for(DateTimeParser parser : candidates.parsers){
       parsedTemporalAccessor = parser.parse(input);
       if(parsedTemporalAccessor != null){
         return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, parsedTemporalAccessor);
@@ -251,7 +304,7 @@ class ThreeTenNumericalDateParser implements TemporalParser {
     DateTimeMultiParser.MultipleParseResult result;
 
     // here we do not stop when we find a match, we try them all to check for a possible ambiguity
-    for(DateTimeMultiParser parserAmbiguity : activeMultiParserList){
+    for(DateTimeMultiParser parserAmbiguity : candidates.multiParsers){
       result = parserAmbiguity.parse(input);
       numberOfPossiblyAmbiguousMatch += result.getNumberParsed();
 
@@ -301,6 +354,141 @@ class ThreeTenNumericalDateParser implements TemporalParser {
     return ParseResult.fail();
   }
 
+  @Override
+  public long parsePacked(String input) {
+    return parsePacked(input, DateFormatHint.NONE);
+  }
+
+  @Override
+  public long parsePacked(String input, @Nullable DateFormatHint hint) {
+    final long start = Metrics.start();
+    long packedDate = parsePackedChars(input, hint);
+    Metrics.record(METRIC_NAME, input, PackedDate.toStatusResult(packedDate), start);
+    return packedDate;
+  }
+
+  /**
+   * Same as {@link #parseChars(CharSequence, DateFormatHint)} on packed dates, the results of the multi parsers are
+   * compared as they would be by {@link DateTimeMultiParser.MultipleParseResult}. Metrics are not recorded either.
+   */
+  long parsePackedChars(String input, @Nullable DateFormatHint hint) {
+
+    if(StringUtils.isBlank(input)){
+      return PackedDate.FAIL;
+    }
+    if(hint == null){
+      hint = DateFormatHint.NONE;
+    }
+
+    Candidates candidates = getCandidates(input, hint);
+
+    long packedDate;
+    for(DateTimeParser parser : candidates.parsers){
+      packedDate = parser.parsePacked(input);
+      if(PackedDate.isSuccessful(packedDate)){
+        return PackedDate.withConfidence(packedDate, ParseResult.CONFIDENCE.DEFINITE);
+      }
+    }
+
+    if( hint != DateFormatHint.NONE){
+      return PackedDate.FAIL;
+    }
+
+    int numberOfPossiblyAmbiguousMatch = 0;
+    long lastParsedSuccess = PackedDate.FAIL;
+    long lastParsedPreferred = PackedDate.FAIL;
+    boolean lastParsedSuccessOtherResultsEqual = false;
+
+    for(DateTimeMultiParser parserAmbiguity : candidates.multiParsers){
+      int numberParsed = 0;
+      long firstOther = PackedDate.FAIL;
+      long lastOther = PackedDate.FAIL;
+      for(DateTimeParser parser : parserAmbiguity.getOtherParsers()){
+        packedDate = parser.parsePacked(input);
+        if(PackedDate.isSuccessful(packedDate)){
+          numberParsed++;
+          if(firstOther == PackedDate.FAIL){
+            firstOther = packedDate;
+          }
+          lastOther = packedDate;
+        }
+      }
+      long preferred = parserAmbiguity.getPreferred() == null ? PackedDate.FAIL :
+              parserAmbiguity.getPreferred().parsePacked(input);
+      if(PackedDate.isSuccessful(preferred)){
+        numberParsed++;
+      }
+      numberOfPossiblyAmbiguousMatch += numberParsed;
+
+      if(numberParsed > 0){
+        lastParsedSuccess = PackedDate.isSuccessful(preferred) ? preferred : firstOther;
+
+        if (lastParsedSuccessOtherResultsEqual) {
+          LOGGER.warn("Issue with DateTimeMultiParser configuration: Input {} produces more results even " +
+                  "if lastParsedSuccessEqual is set to true.", input);
+        }
+        lastParsedSuccessOtherResultsEqual = false;
+
+        if(PackedDate.isSuccessful(preferred)){
+          if(PackedDate.isSuccessful(lastParsedPreferred)){
+            LOGGER.warn("Issue with DateTimeMultiParser configuration: Input {} produces 2 preferred results", input);
+          }
+          lastParsedPreferred = preferred;
+        }
+        else if(numberParsed > 1){
+          // like allEquals, only the first and last results are compared
+          lastParsedSuccessOtherResultsEqual = firstOther == lastOther;
+        }
+      }
+    }
+
+    if(numberOfPossiblyAmbiguousMatch == 1){
+      return PackedDate.withConfidence(lastParsedSuccess, ParseResult.CONFIDENCE.DEFINITE);
+    }
+    else if ( numberOfPossiblyAmbiguousMatch > 1 ){
+      if(lastParsedSuccessOtherResultsEqual){
+        return PackedDate.withConfidence(lastParsedSuccess, ParseResult.CONFIDENCE.DEFINITE);
+      }
+      if(PackedDate.isSuccessful(lastParsedPreferred)){
+        return PackedDate.withConfidence(lastParsedPreferred, ParseResult.CONFIDENCE.PROBABLE);
+      }
+    }
+
+    LOGGER.debug("Number of matches for {} : {}", input, numberOfPossiblyAmbiguousMatch);
+    return PackedDate.FAIL;
+  }
+
+  /**
+   * Get the parsers that can possibly parse the input, in their original order. Skipping the others does not change
+   * the result, but avoids the exception each failing formatter throws.
+   * Candidates are remembered by the signature of the input shape and the hint, so known shapes are looked up
+   * without creating any key.
+   */
+  private Candidates getCandidates(CharSequence input, DateFormatHint hint) {
+    long signature = DateShapes.signature(input, shapeAlphabet) * 31 + hint.ordinal();
+    int home = (int) (signature ^ (signature >>> 32)) & (SHAPE_SLOTS - 1);
+    int free = home;
+    for (int p = 0; p < SHAPE_PROBES; p++) {
+      int slot = (home + p) & (SHAPE_SLOTS - 1);
+      Candidates candidates = candidatesByShape.get(slot);
+      if (candidates == null) {
+        free = slot;
+        break;
+      }
+      if (candidates.signature == signature && candidates.hint == hint
+          && DateShapes.hasShape(input, candidates.shape, shapeAlphabet)) {
+        return candidates;
+      }
+    }
+
+    String shape = DateShapes.shapeOf(input, shapeAlphabet);
+    List<DateTimeParser> parserList = activeFormattersByHint.containsKey(hint) ? activeFormattersByHint.get(hint) : BASE_PARSER_LIST;
+    Candidates candidates = new Candidates(parserList, hint == DateFormatHint.NONE ? activeMultiParserList :
+            ImmutableList.<DateTimeMultiParser>of(), shape, hint, signature);
+    candidatesByShape.set(free, candidates);
+    return candidates;
+  }
+
   @Override
   public ParseResult<TemporalAccessor> parse(@Nullable String year, @Nullable String month, @Nullable String day) {
 
@@ -337,7 +525,8 @@ class ThreeTenNumericalDateParser implements TemporalParser {
   }
 
   /**
-   * Utility private method to avoid throwing a runtime exception when the formatter can not parse the String.
+   * Utility private method parsing the input without throwing or catching any exception, see
+   * {@link DateTimeResolver}.
    * TODO normalizer is call too often maybe this class should not take it and only try to parse
    * @param input
    * @param formatter
@@ -349,11 +538,7 @@ class ThreeTenNumericalDateParser implements TemporalParser {
     if(normalizer != null){
       input = normalizer.normalize(input);
     }
-    try {
-      return formatter.parseBest(input, ZonedDateTime.FROM, LocalDateTime.FROM, LocalDate.FROM, YearMonth.FROM, Year.FROM);
-    }
-    catch (DateTimeParseException dpe){}
-    return null;
+    return DateTimeResolver.parse(formatter, input, BEST_TYPES);
   }
 
   /**
@@ -379,4 +564,37 @@ class ThreeTenNumericalDateParser implements TemporalParser {
     return allEqual;
   }
 
+  /**
+   * The parsers and multi parsers accepting a shape.
+   */
+  private static class Candidates {
+    private final List<DateTimeParser> parsers;
+    private final List<DateTimeMultiParser> multiParsers;
+    private final String shape;
+    private final DateFormatHint hint;
+    private final long signature;
+
+    Candidates(List<DateTimeParser> parserList, List<DateTimeMultiParser> multiParserList, String shape,
+               DateFormatHint hint, long signature) {
+      this.shape = shape;
+      this.hint = hint;
+      this.signature = signature;
+      List<DateTimeParser> accepted = Lists.newArrayList();
+      for(DateTimeParser parser : parserList){
+        if(parser.accepts(shape)){
+          accepted.add(parser);
+        }
+      }
+      List<DateTimeMultiParser> restricted = Lists.newArrayList();
+      for(DateTimeMultiParser multiParser : multiParserList){
+        DateTimeMultiParser restrictedMultiParser = multiParser.restrict(shape);
+        if(restrictedMultiParser != null){
+          restricted.add(restrictedMultiParser);
+        }
+      }
+      this.parsers = ImmutableList.copyOf(accepted);
+      this.multiParsers = ImmutableList.copyOf(restricted);
+    }
+  }
+
 }
@@ -1,6 +1,7 @@
 package org.gbif.common.parsers.geospatial;
 
 import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
 import org.gbif.common.parsers.NumberParser;
@@ -29,6 +30,8 @@ public class CoordinateParseUtils {
   private final static Pattern DMS_SINGLE = Pattern.compile("^" + DMS + "$", Pattern.CASE_INSENSITIVE);
   private final static Pattern DMS_COORD = Pattern.compile("^" + DMS + "([NSEOW])" + "[ ,;/]?" + DMS + "([NSEOW])$", Pattern.CASE_INSENSITIVE);
   private final static String POSITIVE = "NEO";
+  private final static String LAT_LNG_METRIC = "CoordinateParseUtils.parseLatLng";
+  private final static String VERBATIM_METRIC = "CoordinateParseUtils.parseVerbatimCoordinates";
   private CoordinateParseUtils() {
     throw new UnsupportedOperationException("Can't initialize class");
   }
@@ -58,6 +61,12 @@ public class CoordinateParseUtils {
    * @return The parse result
    */
   public static OccurrenceParseResult<LatLng> parseLatLng(final String latitude, final String longitude) {
+    final long start = Metrics.start();
+    return Metrics.record(LAT_LNG_METRIC, Metrics.isListening() ? latitude + ", " + longitude : null,
+      latLng(latitude, longitude), start);
+  }
+
+  private static OccurrenceParseResult<LatLng> latLng(final String latitude, final String longitude) {
     if (Strings.isNullOrEmpty(latitude) || Strings.isNullOrEmpty(longitude)) {
       return OccurrenceParseResult.fail();
     }
@@ -76,6 +85,31 @@ public class CoordinateParseUtils {
     return validateAndRound(lat, lng);
   }
 
+  /**
+   * Parses latitude and longitude from regions of a character sequence, e.g. two fields of a line buffer.
+   * Decimal coordinates are parsed in place, other formats from substrings.
+   *
+   * @see #parseLatLng(String, String)
+   */
+  public static OccurrenceParseResult<LatLng> parseLatLng(final CharSequence line, int latStart, int latEnd,
+    int lngStart, int lngEnd) {
+    final long start = Metrics.start();
+    OccurrenceParseResult<LatLng> result;
+    if (line == null || latStart == latEnd || lngStart == lngEnd) {
+      result = OccurrenceParseResult.fail();
+    } else {
+      Double lat = NumberParser.parseDouble(line, latStart, latEnd);
+      Double lng = NumberParser.parseDouble(line, lngStart, lngEnd);
+      if (lat == null || lng == null) {
+        result = latLng(line.subSequence(latStart, latEnd).toString(), line.subSequence(lngStart, lngEnd).toString());
+      } else {
+        result = validateAndRound(lat, lng);
+      }
+    }
+    return Metrics.record(LAT_LNG_METRIC, line, Math.min(latStart, lngStart), Math.max(latEnd, lngEnd), result,
+      start);
+  }
+
   private static boolean inRange(double lat, double lon) {
     if (Double.compare(lat, 90) <= 0 && Double.compare(lat, -90) >= 0 && Double.compare(lon, 180) <= 0 && Double.compare(lon, -180) >= 0) {
       return true;
@@ -96,6 +130,11 @@ public class CoordinateParseUtils {
 
   // 02° 49' 52" N	131° 47' 03" E
   public static OccurrenceParseResult<LatLng> parseVerbatimCoordinates(final String coordinates) {
+    final long start = Metrics.start();
+    return Metrics.record(VERBATIM_METRIC, coordinates, verbatimCoordinates(coordinates), start);
+  }
+
+  private static OccurrenceParseResult<LatLng> verbatimCoordinates(final String coordinates) {
     if (Strings.isNullOrEmpty(coordinates)) {
       return OccurrenceParseResult.fail();
     }
@@ -123,7 +162,7 @@ public class CoordinateParseUtils {
         int cnt = StringUtils.countMatches(coordinates, String.valueOf(delim));
         if (cnt == 1) {
           String[] latlon = StringUtils.split(coordinates, delim);
-          return parseLatLng(latlon[0], latlon[1]);
+          return latLng(latlon[0], latlon[1]);
         }
       }
     }
@@ -1,7 +1,7 @@
 package org.gbif.common.parsers.geospatial;
 
-import org.gbif.common.parsers.core.ASCIIParser;
 import org.gbif.common.parsers.core.FileBasedDictionaryParser;
+import org.gbif.common.parsers.core.KeyNormalizer;
 import org.gbif.common.parsers.core.ParseResult;
 
 import java.util.regex.Matcher;
@@ -24,23 +24,19 @@ import com.google.common.base.Strings;
  *
  */
 public class DatumParser extends FileBasedDictionaryParser<Integer> {
-  private static DatumParser singletonObject;
   private final Pattern EPSG = Pattern.compile("\\s*(EPSG|ESPG)\\s*:+\\s*(\\d+)\\s*$", Pattern.CASE_INSENSITIVE);
-  private final Pattern NORMALIZER = Pattern.compile("[^a-zA-Z0-9]+");
-  private final ASCIIParser ascii = ASCIIParser.getInstance();
 
   private DatumParser() {
     super(false);
     init(DatumParser.class.getResourceAsStream("/dictionaries/parse/datum.txt"));
   }
 
+  private static class LazyHolder {
+    private static final DatumParser INSTANCE = new DatumParser();
+  }
+
   public static DatumParser getInstance() {
-    synchronized (DatumParser.class) {
-      if (singletonObject == null) {
-        singletonObject = new DatumParser();
-      }
-    }
-    return singletonObject;
+    return LazyHolder.INSTANCE;
   }
 
   @Override
@@ -48,22 +44,28 @@ public class DatumParser extends FileBasedDictionaryParser<Integer> {
     if (Strings.isNullOrEmpty(input)) {
       return null;
     }
+    return super.parse(input);
+  }
+
+  /**
+   * Tries EPSG codes for input which is no well known SRS name of the dictionary.
+   */
+  @Override
+  protected ParseResult<Integer> parseFallback(String input, ParseResult<Integer> miss) {
     // try EPSG codes directly, allow common typo
     Matcher m = EPSG.matcher(input);
     if (m.find()) {
       Integer code = Integer.valueOf(m.group(2));
       return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, code);
     }
-    // try dictionary for well known SRS names
-    return super.parse(input);
+    return miss;
   }
 
   @Override
   protected String normalize(String value) {
     if (Strings.isNullOrEmpty(value)) return null;
-    // convert to ascii
-    ParseResult<String> asci = ascii.parse(value);
-    return NORMALIZER.matcher(asci.getPayload()).replaceAll("").toUpperCase();
+    // convert to ascii and keep alphanumerics only
+    return KeyNormalizer.ALPHANUMERIC.normalize(value);
   }
 
   @Override
@@ -1,6 +1,7 @@
 package org.gbif.common.parsers.geospatial;
 
 import org.gbif.api.vocabulary.OccurrenceIssue;
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.OccurrenceParseResult;
 import org.gbif.common.parsers.core.ParseResult;
 import org.gbif.common.parsers.NumberParser;
@@ -24,6 +25,9 @@ import org.slf4j.LoggerFactory;
  */
 public class MeterRangeParser {
   private static final Logger LOG = LoggerFactory.getLogger(MeterRangeParser.class);
+  private static final String ELEVATION_METRIC = "MeterRangeParser.parseElevation";
+  private static final String DEPTH_METRIC = "MeterRangeParser.parseDepth";
+  private static final String METERS_METRIC = "MeterRangeParser.parseMeters";
 
   /**
    * Pattern for removing measurement denominations
@@ -193,6 +197,11 @@ public class MeterRangeParser {
   }
 
   public static OccurrenceParseResult<DoubleAccuracy> parseElevation(@Nullable String min, @Nullable String max, @Nullable String precision) {
+    final long start = Metrics.start();
+    return Metrics.record(ELEVATION_METRIC, elevation(min, max, precision), start);
+  }
+
+  private static OccurrenceParseResult<DoubleAccuracy> elevation(@Nullable String min, @Nullable String max, @Nullable String precision) {
 
     MeasurementWrapper<DoubleAccuracy> elevation = parseMeterRange(min, max, precision);
 
@@ -225,6 +234,11 @@ public class MeterRangeParser {
   }
 
   public static OccurrenceParseResult<DoubleAccuracy> parseDepth(@Nullable String min, @Nullable String max, @Nullable String precision) {
+    final long start = Metrics.start();
+    return Metrics.record(DEPTH_METRIC, depth(min, max, precision), start);
+  }
+
+  private static OccurrenceParseResult<DoubleAccuracy> depth(@Nullable String min, @Nullable String max, @Nullable String precision) {
     MeasurementWrapper<DoubleAccuracy> depth = parseMeterRange(min, max, precision);
 
     Set<OccurrenceIssue> issues = Sets.newHashSet();
@@ -267,11 +281,13 @@ public class MeterRangeParser {
    * Accepts also feet if marked with a unit and converts them
    */
   public static ParseResult<Double> parseMeters(String meter) {
+    final long start = Metrics.start();
     MeasurementWrapper<Double> result = parseInMeter(meter);
     if (result.getMeasurement() == null) {
-      return ParseResult.fail();
+      return Metrics.record(METERS_METRIC, meter, ParseResult.<Double>fail(), start);
     }
-    return ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, result.getMeasurement());
+    return Metrics.record(METERS_METRIC, meter,
+      ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, result.getMeasurement()), start);
   }
 
   private static MeasurementWrapper<Double> parseInMeter(String meter) {
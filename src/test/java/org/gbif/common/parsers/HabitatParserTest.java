@@ -5,6 +5,8 @@ import org.gbif.api.vocabulary.Habitat;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class HabitatParserTest extends ParserTestBase<Habitat> {
 
@@ -31,6 +33,18 @@ public class HabitatParserTest extends ParserTestBase<Habitat> {
     assertEquals("ABBA", HabitatParser.getInstance().normalize("ABBA"));
   }
 
+  @Test
+  public void testStemmingInBuffer() {
+    StringBuilder buffer = new StringBuilder("KEY");
+    assertTrue(HabitatParser.getInstance().normalizeTo("forests", buffer));
+    assertEquals("KEYFOREST", buffer.toString());
+    // the key of a single S is kept
+    buffer.setLength(0);
+    assertTrue(HabitatParser.getInstance().normalizeTo("s", buffer));
+    assertEquals("S", buffer.toString());
+    assertFalse(HabitatParser.getInstance().normalizeTo("n/a", buffer));
+  }
+
   @Test
   public void testParseFail() {
     assertParseFailure("Really great britain");
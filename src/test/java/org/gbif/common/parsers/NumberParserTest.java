@@ -33,4 +33,24 @@ public class NumberParserTest {
     assertNull(NumberParser.parseDouble("43,112,321"));
 
   }
+
+  @Test
+  public void testParseRegion() throws Exception {
+    String line = "2\t 2.123 \t2,123\t-122.12345\t22.788.130,9993\t1.23E4\t\t43-1\t.5\t-0";
+    String[] fields = line.split("\t", -1);
+    int start = 0;
+    for (String field : fields) {
+      int end = start + field.length();
+      assertEquals(NumberParser.parseDouble(field), NumberParser.parseDouble(line, start, end));
+      assertEquals(NumberParser.parseInteger(field), NumberParser.parseInteger(line, start, end));
+      start = end + 1;
+    }
+    assertEquals((Double) 2.123d, NumberParser.parseDouble(line, 2, 9));
+    assertEquals((Integer) (-122), NumberParser.parseInteger("x-122x", 1, 5));
+    assertEquals((Integer) Integer.MIN_VALUE, NumberParser.parseInteger("-2147483648", 0, 11));
+    assertEquals(NumberParser.parseInteger("2147483648"), NumberParser.parseInteger("2147483648", 0, 10));
+    assertEquals((Double) 0.1d, NumberParser.parseDouble("0.1", 0, 3));
+    assertEquals((Double) 1234567.891d, NumberParser.parseDouble("1234567.891", 0, 11));
+    assertNull(NumberParser.parseDouble(null, 0, 0));
+  }
 }
@@ -0,0 +1,29 @@
+package org.gbif.common.parsers;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParsersTest {
+
+  @Test
+  public void testWarmUp() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      Parsers.warmUp(executor);
+    } finally {
+      executor.shutdown();
+    }
+    for (Class<?> parserClass : Parsers.SINGLETONS) {
+      Method getInstance = parserClass.getMethod("getInstance");
+      assertTrue(Modifier.isStatic(getInstance.getModifiers()));
+      assertSame(getInstance.invoke(null), getInstance.invoke(null));
+    }
+  }
+}
@@ -4,6 +4,9 @@ import org.gbif.common.parsers.ParserTestBase;
 
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 /**
  *
  */
@@ -18,4 +21,18 @@ public class ASCIIParserTest extends ParserTestBase<String> {
     assertParseSuccess("Hello Bertocko", "Hello Bértöçkø");
     assertParseSuccess("Doring aeoe o aoaueaoiuuaUEc", "Döring æœ ø åöäüêâôîûúáÙÈç");
   }
+
+  @Test
+  public void testAsciiUnchanged() throws Exception {
+    String ascii = "Hello Bertocko (1887) - #1";
+    assertSame(ascii, ASCIIParser.getInstance().parse(ascii).getPayload());
+    assertParseSuccess("Hello Bertocko", "Hello Bertöcko");
+  }
+
+  @Test
+  public void testFoldTo() throws Exception {
+    StringBuilder sb = new StringBuilder("x");
+    ASCIIParser.foldTo(new StringBuilder("Döring æœ ⁇ ｆ"), sb);
+    assertEquals("xDoring aeoe ?? f", sb.toString());
+  }
 }
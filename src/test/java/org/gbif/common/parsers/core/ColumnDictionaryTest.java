@@ -0,0 +1,75 @@
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class ColumnDictionaryTest {
+
+  @Test
+  public void testEncode() {
+    List<CharSequence> column = new ArrayList<CharSequence>();
+    for (int i = 0; i < 1000; i++) {
+      column.add("value" + (i % 100));
+      column.add(new StringBuilder("value").append(i % 100));
+      column.add(null);
+    }
+    ColumnDictionary dict = ColumnDictionary.encode(column);
+    assertEquals(3000, dict.size());
+    assertEquals(101, dict.distinctCount());
+    assertEquals("value0", dict.value(dict.id(0)));
+    assertEquals(dict.id(0), dict.id(1));
+    assertNull(dict.value(dict.id(2)));
+    assertEquals(dict.id(3), dict.id(304));
+    for (int i = 0; i < column.size(); i++) {
+      assertEquals(column.get(i) == null ? null : column.get(i).toString(), dict.value(dict.id(i)));
+    }
+  }
+
+  @Test
+  public void testParse() {
+    final int[] calls = new int[1];
+    Parsable<Integer> parser = new Parsable<Integer>() {
+      @Override
+      public ParseResult<Integer> parse(String input) {
+        calls[0]++;
+        return input == null ? ParseResult.<Integer>fail() : ParseResult.success(ParseResult.CONFIDENCE.DEFINITE,
+          input.length());
+      }
+    };
+    String[] column = {"a", "bb", "a", null, "bb", "ccc", "a"};
+    List<ParseResult<Integer>> results = ColumnDictionary.encode(column).parse(parser);
+
+    assertEquals(4, calls[0]);
+    assertEquals(column.length, results.size());
+    assertEquals(1, (int) results.get(0).getPayload());
+    assertEquals(2, (int) results.get(1).getPayload());
+    assertSame(results.get(0), results.get(6));
+    assertEquals(ParseResult.STATUS.FAIL, results.get(3).getStatus());
+    assertEquals(3, (int) results.get(5).getPayload());
+  }
+
+  @Test
+  public void testParseOrdinals() {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, true);
+    String[] column = {"species", "Genus", "species", "n/a", null, "SPECIES", "foo"};
+    int[] ordinals = new int[column.length];
+    byte[] confidences = new byte[column.length];
+
+    assertEquals(4, ColumnDictionary.encode(column).parseOrdinals(parser, ordinals, confidences));
+    int[] expected = new int[column.length];
+    byte[] expectedConfidences = new byte[column.length];
+    parser.parseOrdinals(column, expected, expectedConfidences);
+    for (int i = 0; i < column.length; i++) {
+      assertEquals(expected[i], ordinals[i]);
+      assertEquals(expectedConfidences[i], confidences[i]);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class CompactDictionaryTest {
+
+  @Test
+  public void testEnumOrdinals() {
+    Map<String, Rank> entries = new HashMap<String, Rank>();
+    entries.put("SPECIES", Rank.SPECIES);
+    entries.put("SP", Rank.SPECIES);
+    entries.put("GENUS", Rank.GENUS);
+    entries.put("UNKNOWN", null);
+
+    CompactDictionary<Rank> dict = CompactDictionary.of(entries);
+    assertEquals(3, dict.size());
+    assertEquals(Rank.values().length, dict.valueCount());
+    assertEquals(Rank.SPECIES.ordinal(), dict.find("SP"));
+    assertEquals(Rank.GENUS, dict.get("GENUS"));
+    assertEquals(Rank.SPECIES, dict.get(new StringBuilder("SPEC").append("IES")));
+    assertEquals(CompactDictionary.NOT_FOUND, dict.find("UNKNOWN"));
+    assertEquals(CompactDictionary.NOT_FOUND, dict.find("species"));
+    assertNull(dict.get(null));
+    assertNull(dict.get(""));
+
+    // shared results
+    assertSame(dict.lookup("SP"), dict.lookup("SPECIES"));
+    assertEquals(Rank.SPECIES, dict.lookup("SP").getPayload());
+    assertEquals(ParseResult.CONFIDENCE.DEFINITE, dict.lookup("SP").getConfidence());
+    assertSame(ParseResult.fail(), dict.lookup("FAMILY"));
+  }
+
+  @Test
+  public void testDistinctValues() {
+    Map<String, Integer> entries = new HashMap<String, Integer>();
+    for (int i = 0; i < 1000; i++) {
+      entries.put("KEY" + i, i % 7);
+    }
+
+    CompactDictionary<Integer> dict = CompactDictionary.of(entries);
+    assertEquals(1000, dict.size());
+    assertEquals(7, dict.valueCount());
+    for (int i = 0; i < 1000; i++) {
+      assertEquals(Integer.valueOf(i % 7), dict.get("KEY" + i));
+    }
+    assertNull(dict.get("KEY1000"));
+    assertEquals(entries, dict.toMap());
+  }
+
+  @Test
+  public void testEmpty() {
+    CompactDictionary<Integer> dict = CompactDictionary.of(new HashMap<String, Integer>());
+    assertEquals(0, dict.size());
+    assertNull(dict.get("A"));
+  }
+}
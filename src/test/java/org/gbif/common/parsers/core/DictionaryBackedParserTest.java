@@ -1,12 +1,15 @@
 package org.gbif.common.parsers.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 
 public class DictionaryBackedParserTest {
 
@@ -40,6 +43,63 @@ public class DictionaryBackedParserTest {
     assertEquals(ParseResult.STATUS.FAIL, dbp.parse("MATT").getStatus());
   }
 
+  @Test
+  public void testOverlay() {
+    List<KeyValue<String, Integer>> source = new ArrayList<KeyValue<String, Integer>>();
+    source.add(new KeyValue<String, Integer>("Tim", 32));
+    source.add(new KeyValue<String, Integer>("Markus", 38));
+    DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false);
+    dbp.init(source.iterator());
+    assertSame(dbp, dbp.forDataset("ds1"));
+
+    Map<String, Integer> entries = new HashMap<String, Integer>();
+    entries.put("tim", 33);
+    entries.put("Lars", 40);
+    DictionaryOverlay<Integer> overlay = dbp.overlay("ds1", entries);
+    assertEquals(2, overlay.size());
+    assertSame(overlay, dbp.forDataset("ds1"));
+    assertSame(dbp, dbp.forDataset("ds2"));
+
+    assertEquals(Integer.valueOf(33), overlay.parse(" TIM ").getPayload());
+    assertEquals(Integer.valueOf(40), overlay.parse("lars").getPayload());
+    assertEquals(Integer.valueOf(38), overlay.parse("Markus").getPayload());
+    assertEquals(ParseResult.STATUS.FAIL, overlay.parse("Jose").getStatus());
+    // the shared dictionary is untouched
+    assertParsed(dbp, "Tim", 32);
+    assertEquals(ParseResult.STATUS.FAIL, dbp.parse("Lars").getStatus());
+
+    dbp.removeOverlay("ds1");
+    assertSame(dbp, dbp.forDataset("ds1"));
+  }
+
+  @Test
+  public void testOverlayNormalizesOnce() {
+    final int[] normalized = new int[1];
+    DictionaryBackedParser<Integer> dbp = new DictionaryBackedParser<Integer>(false) {
+      @Override
+      protected String normalize(String value) {
+        normalized[0]++;
+        return super.normalize(value);
+      }
+
+      @Override
+      protected ParseResult<Integer> parseFallback(String input, ParseResult<Integer> miss) {
+        return input.startsWith("#") ? ParseResult.success(ParseResult.CONFIDENCE.PROBABLE, 0) : miss;
+      }
+    };
+    dbp.add("Tim", 32);
+    Map<String, Integer> entries = new HashMap<String, Integer>();
+    entries.put("Lars", 40);
+    DictionaryOverlay<Integer> overlay = dbp.overlay("ds1", entries);
+
+    normalized[0] = 0;
+    assertEquals(Integer.valueOf(32), overlay.parse("Tim").getPayload());
+    assertEquals(Integer.valueOf(40), overlay.parse("Lars").getPayload());
+    assertEquals(Integer.valueOf(0), overlay.parse("#1").getPayload());
+    assertEquals(3, normalized[0]);
+    assertEquals(Integer.valueOf(0), dbp.parse("#1").getPayload());
+  }
+
   private void assertParsed(DictionaryBackedParser<Integer> dbp, String input, Integer payload) {
     assertNotNull(dbp.parse(input));
     assertEquals(ParseResult.STATUS.SUCCESS, dbp.parse(input).getStatus());
@@ -0,0 +1,124 @@
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DictionaryScannerTest {
+
+  private static DictionaryScanner<String> scanner(int minKeyLength) {
+    List<KeyValue<String, String>> source = new ArrayList<KeyValue<String, String>>();
+    source.add(new KeyValue<String, String>("Japan", "JP"));
+    source.add(new KeyValue<String, String>("Pan", "XX"));
+    source.add(new KeyValue<String, String>("Guinea", "GN"));
+    source.add(new KeyValue<String, String>("New Guinea", "PG"));
+    source.add(new KeyValue<String, String>("Papua New Guinea", "PG"));
+    source.add(new KeyValue<String, String>("Côte d'Ivoire", "CI"));
+    source.add(new KeyValue<String, String>("Brasil", "BR"));
+    source.add(new KeyValue<String, String>("DE", "DE"));
+    DictionaryBackedParser<String> parser = new DictionaryBackedParser<String>(false);
+    parser.init(source.iterator());
+    return DictionaryScanner.of(parser, minKeyLength);
+  }
+
+  @Test
+  public void testScan() {
+    DictionaryScanner<String> scanner = scanner(3);
+    // DE is too short
+    assertEquals(7, scanner.size());
+
+    String text = "Collected in Papua  New-Guinea, de Japan.";
+    List<DictionaryScanner.Match<String>> matches = scanner.scan(text);
+    assertEquals(4, matches.size());
+    assertMatch(text, matches.get(0), "Papua  New-Guinea", "PG");
+    assertMatch(text, matches.get(1), "New-Guinea", "PG");
+    assertMatch(text, matches.get(2), "Guinea", "GN");
+    assertMatch(text, matches.get(3), "Japan", "JP");
+  }
+
+  @Test
+  public void testBoundaries() {
+    DictionaryScanner<String> scanner = scanner(3);
+    // PAN inside Japan and Brasil inside a longer word are no terms
+    assertTrue(scanner.scan("Japanese Brasilia").isEmpty());
+    assertEquals(1, scanner.scan("pan").size());
+    assertTrue(scanner.scan("").isEmpty());
+    assertTrue(scanner.scan(null).isEmpty());
+  }
+
+  @Test
+  public void testFolding() {
+    DictionaryScanner<String> scanner = scanner(3);
+    String text = "near COTE D’IVOIRE and BRASÍL";
+    List<DictionaryScanner.Match<String>> matches = scanner.scan(text);
+    assertEquals(2, matches.size());
+    assertMatch(text, matches.get(0), "COTE D’IVOIRE", "CI");
+    assertMatch(text, matches.get(1), "BRASÍL", "BR");
+
+    text = "Côte d'Ivoire";
+    matches = scanner.scan(text);
+    assertEquals(1, matches.size());
+    assertMatch(text, matches.get(0), text, "CI");
+  }
+
+  @Test
+  public void testWordBreaks() {
+    List<KeyValue<String, String>> source = new ArrayList<KeyValue<String, String>>();
+    source.add(new KeyValue<String, String>("Togo", "TG"));
+    source.add(new KeyValue<String, String>("Iran", "IR"));
+    source.add(new KeyValue<String, String>("Oman", "OM"));
+    source.add(new KeyValue<String, String>("India", "IN"));
+    source.add(new KeyValue<String, String>("United States", "US"));
+    DictionaryBackedParser<String> parser = new DictionaryBackedParser<String>(false);
+    parser.init(source.iterator());
+    DictionaryScanner<String> scanner = DictionaryScanner.of(parser, 3);
+
+    // word breaks of the text must be word breaks of the term
+    assertTrue(scanner.scan("we want to go home").isEmpty());
+    assertTrue(scanner.scan("I ran away").isEmpty());
+    assertTrue(scanner.scan("Oh boy, o man").isEmpty());
+    assertTrue(scanner.scan("collected in dia. 3cm").isEmpty());
+
+    String text = "Togo, United  States, unitedstates";
+    List<DictionaryScanner.Match<String>> matches = scanner.scan(text);
+    assertEquals(3, matches.size());
+    assertMatch(text, matches.get(0), "Togo", "TG");
+    assertMatch(text, matches.get(1), "United  States", "US");
+    assertMatch(text, matches.get(2), "unitedstates", "US");
+  }
+
+  @Test
+  public void testMultiWordKeys() {
+    // the keys of enum parsers drop the word breaks of their terms
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, false) {};
+    parser.add("Sub species", Rank.SUBSPECIES);
+    DictionaryScanner<Rank> scanner = DictionaryScanner.of(parser, 3);
+    String text = "a sub-species, subspecies or sub spec ies";
+    List<DictionaryScanner.Match<Rank>> matches = scanner.scan(text);
+    assertEquals(3, matches.size());
+    assertMatch(text, matches.get(0), "sub-species", Rank.SUBSPECIES);
+    assertMatch(text, matches.get(1), "species", Rank.SPECIES);
+    assertMatch(text, matches.get(2), "subspecies", Rank.SUBSPECIES);
+  }
+
+  @Test
+  public void testMinKeyLength() {
+    DictionaryScanner<String> scanner = scanner(1);
+    assertEquals(8, scanner.size());
+    String text = "Berlin, DE";
+    List<DictionaryScanner.Match<String>> matches = scanner.scan(text);
+    assertEquals(1, matches.size());
+    assertMatch(text, matches.get(0), "DE", "DE");
+  }
+
+  private static <V> void assertMatch(String text, DictionaryScanner.Match<V> match, String term, V value) {
+    assertEquals(term, text.substring(match.getStart(), match.getEnd()));
+    assertEquals(value, match.getValue());
+  }
+}
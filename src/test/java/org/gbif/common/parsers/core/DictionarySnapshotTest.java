@@ -0,0 +1,104 @@
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.common.base.Charsets;
+import com.google.common.primitives.Bytes;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DictionarySnapshotTest {
+
+  private static final String RANK_DICTIONARY = "/dictionaries/parse/rank.txt";
+
+  private enum Other {
+    A, B
+  }
+
+  @Test
+  public void testRoundTrip() throws Exception {
+    Map<String, Rank> entries = new HashMap<String, Rank>();
+    entries.put("SPECIES", Rank.SPECIES);
+    entries.put("SP", Rank.SPECIES);
+    entries.put("GENUS", Rank.GENUS);
+    entries.put("UNKNOWN", null);
+
+    DictionarySnapshot.Contents<Rank> read = read(write(entries));
+    assertEquals(entries, read.getEntries());
+    assertTrue(read.getEntries().containsKey("UNKNOWN"));
+    assertTrue(read.getMultiWordKeys().isEmpty());
+  }
+
+  @Test
+  public void testParserRoundTrip() throws Exception {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, false) {};
+    parser.add("Sub species", Rank.SUBSPECIES);
+    DictionarySnapshot.Contents<Rank> read = read(write(parser));
+    assertEquals(parser.entries(), read.getEntries());
+    assertEquals(parser.multiWordKeys(), read.getMultiWordKeys());
+    assertTrue(read.getMultiWordKeys().contains("SUB SPECIES"));
+  }
+
+  @Test
+  public void testInvalidSnapshots() throws Exception {
+    Map<String, Rank> entries = new HashMap<String, Rank>();
+    entries.put("SPECIES", Rank.SPECIES);
+    byte[] data = write(entries);
+
+    assertNull(DictionarySnapshot.read(Rank.class, DictionarySnapshotTest.class, null));
+    // written for another enumeration
+    assertNull(DictionarySnapshot.read(Other.class, DictionarySnapshotTest.class, new ByteArrayInputStream(data)));
+    // truncated
+    assertNull(read(Arrays.copyOf(data, data.length - 1)));
+    // garbage
+    assertNull(read(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+  }
+
+  @Test
+  public void testChangedSources() throws Exception {
+    Map<String, Rank> entries = new HashMap<String, Rank>();
+    entries.put("SPECIES", Rank.SPECIES);
+    byte[] name = RANK_DICTIONARY.getBytes(Charsets.UTF_8);
+    byte[] data = write(entries, RANK_DICTIONARY);
+    assertEquals(entries, read(data).getEntries());
+
+    // the dictionary file was edited, its recorded hash follows its name
+    byte[] changed = data.clone();
+    changed[Bytes.indexOf(changed, name) + name.length] ^= 1;
+    assertNull(read(changed));
+
+    // the dictionary file is gone
+    byte[] missing = data.clone();
+    missing[Bytes.indexOf(missing, name) + name.length - 1] = 'x';
+    assertNull(read(missing));
+  }
+
+  private static DictionarySnapshot.Contents<Rank> read(byte[] data) {
+    return DictionarySnapshot.read(Rank.class, DictionarySnapshotTest.class, new ByteArrayInputStream(data));
+  }
+
+  private static byte[] write(EnumParser<Rank> parser) throws Exception {
+    return write(new DictionarySnapshot.Contents<Rank>(parser.entries(), parser.multiWordKeys()));
+  }
+
+  private static byte[] write(Map<String, Rank> entries, String... resources) throws Exception {
+    return write(new DictionarySnapshot.Contents<Rank>(entries, Collections.<String>emptySet()), resources);
+  }
+
+  private static byte[] write(DictionarySnapshot.Contents<Rank> contents, String... resources) throws Exception {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    DictionarySnapshot.write(Rank.class, DictionarySnapshotTest.class, Arrays.asList(resources), contents, out);
+    return out.toByteArray();
+  }
+}
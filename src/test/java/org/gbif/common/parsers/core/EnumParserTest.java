@@ -2,10 +2,17 @@ package org.gbif.common.parsers.core;
 
 import org.gbif.api.vocabulary.Rank;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import com.google.common.base.Charsets;
+
 import org.junit.Test;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 /**
  *
@@ -59,4 +66,87 @@ public class EnumParserTest {
     assertNull(parser.normalize("n.a."));
     assertNull(parser.normalize("n.k."));
   }
+
+  @Test
+  public void testParseOrdinals() throws Exception {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, true);
+    String[] values = {"Species", " genus ", "n/a", null, "", "nonsense", "KINGDOM"};
+    int[] ordinals = new int[values.length];
+    byte[] confidences = new byte[values.length];
+
+    assertEquals(3, parser.parseOrdinals(values, ordinals, confidences));
+    int m = EnumParser.NO_MATCH;
+    assertArrayEquals(new int[] {Rank.SPECIES.ordinal(), Rank.GENUS.ordinal(), m, m, m, m, Rank.KINGDOM.ordinal()},
+      ordinals);
+    byte d = (byte) ParseResult.CONFIDENCE.DEFINITE.ordinal();
+    byte n = (byte) m;
+    assertArrayEquals(new byte[] {d, d, n, n, n, n, d}, confidences);
+
+    // same results as parsing one by one
+    for (int i = 0; i < values.length; i++) {
+      ParseResult<Rank> result = parser.parse(values[i]);
+      assertEquals(result.isSuccessful() ? result.getPayload().ordinal() : m, ordinals[i]);
+    }
+
+    parser.setFuzzyMatching(true);
+    assertEquals(1, parser.parseOrdinals(Arrays.asList(new StringBuilder("Spceies")), ordinals, confidences));
+    assertEquals(Rank.SPECIES.ordinal(), ordinals[0]);
+    assertEquals(ParseResult.CONFIDENCE.PROBABLE.ordinal(), confidences[0]);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testParseOrdinalsShortArray() throws Exception {
+    new EnumParser<Rank>(Rank.class, true).parseOrdinals(new String[] {"Species", "Genus"}, new int[1], new byte[2]);
+  }
+
+  @Test
+  public void testParseUtf8() throws Exception {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, true);
+    byte[] line = "Spécies\tgenus\tn/a\t\tnonsense".getBytes(Charsets.UTF_8);
+    assertSame(Rank.SPECIES, parser.parseUtf8(line, 0, 8).getPayload());
+    assertSame(Rank.GENUS, parser.parseUtf8(line, 9, 5).getPayload());
+    assertEquals(ParseResult.STATUS.FAIL, parser.parseUtf8(line, 15, 3).getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, parser.parseUtf8(line, 19, 0).getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, parser.parseUtf8(line, 19, 8).getStatus());
+
+    ByteBuffer buffer = ByteBuffer.wrap(line, 9, 5);
+    assertSame(Rank.GENUS, parser.parseUtf8(buffer).getPayload());
+    assertEquals(9, buffer.position());
+    ByteBuffer direct = ByteBuffer.allocateDirect(line.length);
+    direct.put(line).flip();
+    direct.limit(8);
+    assertSame(Rank.SPECIES, parser.parseUtf8(direct).getPayload());
+  }
+
+  @Test
+  public void testParseRegion() throws Exception {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, true);
+    String line = "Spécies|genus|n/a||nonsense";
+    assertSame(Rank.SPECIES, parser.parse(line, 0, 7).getPayload());
+    assertSame(Rank.GENUS, parser.parse(new StringBuilder(line), 8, 13).getPayload());
+    assertEquals(ParseResult.STATUS.FAIL, parser.parse(line, 14, 17).getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, parser.parse(line, 18, 18).getStatus());
+    assertEquals(ParseResult.STATUS.FAIL, parser.parse(line, 19, 27).getStatus());
+    assertSame(Rank.GENUS, Parsables.parse(parser, line, 8, 13).getPayload());
+  }
+
+  /**
+   * A subclass not declaring an optimization is parsed through its normalize(String) on all paths.
+   */
+  @Test
+  public void testCustomNormalizeWithoutOptimization() throws Exception {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, true) {
+      @Override
+      protected String normalize(String value) {
+        String x = super.normalize(value);
+        return x != null && x.startsWith("X") ? x.substring(1) : x;
+      }
+    };
+    assertSame(Rank.GENUS, parser.parse("xGenus").getPayload());
+    assertSame(Rank.GENUS, parser.parse("|xgenus|", 1, 7).getPayload());
+    assertSame(Rank.GENUS, parser.parseUtf8("xgenus".getBytes(Charsets.UTF_8), 0, 6).getPayload());
+    int[] ordinals = new int[1];
+    parser.parseOrdinals(new String[] {"xgenus"}, ordinals, new byte[1]);
+    assertEquals(Rank.GENUS.ordinal(), ordinals[0]);
+  }
 }
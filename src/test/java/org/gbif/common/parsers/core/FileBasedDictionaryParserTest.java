@@ -2,10 +2,17 @@ package org.gbif.common.parsers.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 
+import java.io.File;
 import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.base.Charsets;
+import com.google.common.io.Files;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 public class FileBasedDictionaryParserTest {
 
@@ -43,6 +50,9 @@ public class FileBasedDictionaryParserTest {
     }
   }
 
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
   @Test
   public void testParse() {
     Parsable<String> dbp = new TestParser();
@@ -65,6 +75,54 @@ public class FileBasedDictionaryParserTest {
     assertParseFailure(dbp, COMMENT_MARKER + "carey");
   }
 
+  @Test
+  public void testReload() throws Exception {
+    TestParser dbp = new TestParser() {
+      @Override
+      protected String fromDictFile(String value) {
+        return "Typo".equals(value) ? null : value;
+      }
+    };
+    DictionaryVersion builtIn = dbp.getDictionaryVersion();
+    assertNull(builtIn.getOverrideFile());
+
+    File override = dbp.overrideFile(folder.getRoot());
+    Files.write("# fixes\nTim\t33\nLars\t40\nJose\t-\nMarkus\tTypo\n", override, Charsets.UTF_8);
+    DictionaryVersion v1 = dbp.reload(override);
+    assertParseSuccess(dbp, "33", "Tim");
+    assertParseSuccess(dbp, "40", "lars");
+    assertParseSuccess(dbp, "38", "Markus");
+    assertParseFailure(dbp, "Jose");
+    assertEquals(0, v1.getSizeDelta());
+    assertEquals(1, v1.getSkipped());
+    assertEquals(override, v1.getOverrideFile());
+
+    // removing the override restores the built in dictionary
+    override.delete();
+    DictionaryVersion v2 = dbp.reload(override);
+    assertParseSuccess(dbp, "32", "Tim");
+    assertParseSuccess(dbp, "28", "Jose");
+    assertEquals(builtIn.getHash(), v2.getHash());
+    assertEquals(builtIn.getSize(), v2.getSize());
+    assertEquals(0, v2.getSkipped());
+  }
+
+  @Test
+  public void testWatch() throws Exception {
+    TestParser dbp = new TestParser();
+    Files.write("Tim\t99\n", dbp.overrideFile(folder.getRoot()), Charsets.UTF_8);
+    dbp.watch(folder.getRoot(), 10, TimeUnit.MILLISECONDS);
+    try {
+      long timeout = System.currentTimeMillis() + 5000;
+      while (!"99".equals(dbp.parse("Tim").getPayload()) && System.currentTimeMillis() < timeout) {
+        Thread.sleep(10);
+      }
+      assertParseSuccess(dbp, "99", "Tim");
+    } finally {
+      dbp.stopWatching();
+    }
+  }
+
   protected static void assertParseSuccess(Parsable<String> dbp, String expected, String input) {
     ParseResult<String> parsed = dbp.parse(input);
     assertNotNull(parsed);
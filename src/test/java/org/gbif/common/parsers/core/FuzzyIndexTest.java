@@ -0,0 +1,80 @@
+package org.gbif.common.parsers.core;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+public class FuzzyIndexTest {
+
+  private static FuzzyIndex<String> index() {
+    Map<String, String> entries = new HashMap<String, String>();
+    entries.put("BRAZIL", "BR");
+    entries.put("BRASIL", "BR");
+    entries.put("GERMANY", "DE");
+    entries.put("PRESERVEDSPECIMEN", "PS");
+    entries.put("MALI", "ML");
+    entries.put("MALTA", "MT");
+    entries.put("MX", "MX");
+    entries.put("OMAN", "OM");
+    entries.put("ODAN", "XX");
+    return FuzzyIndex.of(CompactDictionary.of(entries));
+  }
+
+  @Test
+  public void testLookup() {
+    FuzzyIndex<String> index = index();
+    assertMatch(index, "BR", ParseResult.CONFIDENCE.PROBABLE, "BRAZLI");
+    assertMatch(index, "BR", ParseResult.CONFIDENCE.PROBABLE, "BRAZILL");
+    assertMatch(index, "DE", ParseResult.CONFIDENCE.PROBABLE, "GERMNY");
+    assertMatch(index, "PS", ParseResult.CONFIDENCE.PROBABLE, "PRESERVEDSPECIMAN");
+    assertMatch(index, "PS", ParseResult.CONFIDENCE.POSSIBLE, "PRESREVEDSPECIMN");
+    // edits early in long keys
+    assertMatch(index, "PS", ParseResult.CONFIDENCE.PROBABLE, "PERSERVEDSPECIMEN");
+    assertMatch(index, "ML", ParseResult.CONFIDENCE.PROBABLE, "MAL1");
+  }
+
+  @Test
+  public void testBudget() {
+    FuzzyIndex<String> index = index();
+    // too short
+    assertSame(ParseResult.fail(), index.lookup("MY"));
+    assertSame(ParseResult.fail(), index.lookup("MAL"));
+    // two edits need 8 characters
+    assertSame(ParseResult.fail(), index.lookup("GRMNY"));
+    assertSame(ParseResult.fail(), index.lookup("XYZZYQ"));
+    // one edit away from OMAN and ODAN which map to different values
+    assertFalse(index.lookup("OEAN").isSuccessful());
+  }
+
+  @Test
+  public void testDistance() {
+    assertEquals(0, FuzzyIndex.distance("ABC".toCharArray(), "ABC", 2));
+    assertEquals(1, FuzzyIndex.distance("ACB".toCharArray(), "ABC", 2));
+    assertEquals(1, FuzzyIndex.distance("ABCD".toCharArray(), "ABC", 2));
+    assertEquals(2, FuzzyIndex.distance("BADC".toCharArray(), "ABCD", 2));
+    assertEquals(3, FuzzyIndex.distance("XYZ".toCharArray(), "ABC", 2));
+  }
+
+  @Test
+  public void testParser() {
+    DictionaryBackedParser<String> parser = new DictionaryBackedParser<String>(false);
+    parser.add("Brazil", "BR");
+    assertEquals(ParseResult.STATUS.FAIL, parser.parse("Brazli").getStatus());
+    parser.setFuzzyMatching(true);
+    assertEquals(ParseResult.CONFIDENCE.PROBABLE, parser.parse("Brazli").getConfidence());
+    assertEquals(ParseResult.CONFIDENCE.DEFINITE, parser.parse("brazil").getConfidence());
+  }
+
+  private static void assertMatch(FuzzyIndex<String> index, String expected, ParseResult.CONFIDENCE confidence,
+    String query) {
+    ParseResult<String> result = index.lookup(query);
+    assertEquals(ParseResult.STATUS.SUCCESS, result.getStatus());
+    assertEquals(expected, result.getPayload());
+    assertEquals(confidence, result.getConfidence());
+  }
+}
@@ -0,0 +1,171 @@
+package org.gbif.common.parsers.core;
+
+import org.gbif.api.vocabulary.Rank;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Strings;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class HeavyHittersTest {
+
+  @Test
+  public void testTop() {
+    HeavyHitters hitters = new HeavyHitters(10);
+    for (int i = 0; i < 100000; i++) {
+      hitters.add("noise" + i);
+      if (i % 10 == 0) {
+        hitters.add("frequent");
+      }
+      if (i % 20 == 0) {
+        hitters.add("common");
+      }
+    }
+    assertEquals(115000, hitters.getTotal());
+
+    List<HeavyHitters.Entry> top = hitters.top(2);
+    assertEquals(2, top.size());
+    assertEquals("frequent", top.get(0).getValue());
+    assertEquals("common", top.get(1).getValue());
+    assertTrue(top.get(0).getCount() >= 10000);
+    assertTrue(top.get(0).getCount() - top.get(0).getError() <= 10000);
+    assertTrue(top.get(1).getCount() >= 5000);
+    assertTrue(top.get(1).getCount() - top.get(1).getError() <= 5000);
+
+    hitters.clear();
+    assertEquals(0, hitters.getTotal());
+    assertTrue(hitters.top(10).isEmpty());
+  }
+
+  @Test
+  public void testCapacity() {
+    // values turning frequent late still replace the one-off values filling the candidates early on
+    HeavyHitters hitters = new HeavyHitters(3);
+    for (int i = 0; i < 10000; i++) {
+      hitters.add("noise" + i);
+    }
+    for (int i = 0; i < 300; i++) {
+      hitters.add("a");
+      if (i % 3 == 0) {
+        hitters.add("c");
+      }
+      if (i % 3 != 0) {
+        hitters.add("b");
+      }
+      if (i % 6 == 0) {
+        hitters.add("noise" + i);
+      }
+    }
+
+    List<HeavyHitters.Entry> top = hitters.top(10);
+    assertEquals(3, top.size());
+    assertEquals("a", top.get(0).getValue());
+    assertEquals("b", top.get(1).getValue());
+    assertEquals("c", top.get(2).getValue());
+  }
+
+  @Test
+  public void testSnapshot() {
+    HeavyHitters hitters = new HeavyHitters(10);
+    for (int i = 0; i < 5; i++) {
+      hitters.add("old");
+      hitters.add("both");
+    }
+    HeavyHitters.Snapshot snapshot = hitters.snapshot();
+    assertEquals(0, hitters.top(5, snapshot).size());
+    hitters.add("both");
+    hitters.add("both");
+    hitters.add("new");
+
+    List<HeavyHitters.Entry> top = hitters.top(5, snapshot);
+    assertEquals(2, top.size());
+    assertEquals("both", top.get(0).getValue());
+    assertEquals(2, top.get(0).getCount());
+    assertEquals("new", top.get(1).getValue());
+    assertEquals(1, top.get(1).getCount());
+    // the total counts are untouched
+    assertEquals(7, hitters.top(5).get(0).getCount());
+
+    // snapshots of other instances are ignored
+    HeavyHitters other = new HeavyHitters(10);
+    other.add("old");
+    assertEquals(1, other.top(5, snapshot).get(0).getCount());
+  }
+
+  @Test
+  public void testTruncation() {
+    HeavyHitters hitters = new HeavyHitters(10);
+    String longValue = Strings.repeat("x", 1000);
+    hitters.add(longValue);
+    hitters.add(longValue + "y");
+    assertEquals(HeavyHitters.MAX_LENGTH, hitters.top(1).get(0).getValue().length());
+    assertEquals(2, hitters.top(1).get(0).getCount());
+  }
+
+  @Test
+  public void testConcurrentAdds() throws Exception {
+    final HeavyHitters hitters = new HeavyHitters(16);
+    final int threads = 4;
+    final CountDownLatch start = new CountDownLatch(1);
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    for (int t = 0; t < threads; t++) {
+      final int offset = t;
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          try {
+            start.await();
+          } catch (InterruptedException e) {
+            return;
+          }
+          for (int i = 0; i < 10000; i++) {
+            hitters.add(i % 4 == 0 ? "hot" : "cold" + offset + "-" + i);
+          }
+        }
+      });
+    }
+    start.countDown();
+    executor.shutdown();
+    assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+    assertEquals(40000, hitters.getTotal());
+    HeavyHitters.Entry hot = hitters.top(1).get(0);
+    assertEquals("hot", hot.getValue());
+    assertTrue(hot.getCount() >= 10000);
+  }
+
+  @Test
+  public void testParserFailures() {
+    EnumParser<Rank> parser = new EnumParser<Rank>(Rank.class, true);
+    assertTrue(parser.getTopFailures(10).isEmpty());
+
+    parser.setFailureTracking(5);
+    parser.parse("species");
+    parser.parse("speciez");
+    parser.parse("speciez");
+    parser.parse("gens");
+    parser.parse("xx speciez xx", 3, 10);
+    parser.parseUtf8("gens".getBytes(Charsets.UTF_8), 0, 4);
+    parser.parseUtf8("speciez".getBytes(Charsets.UTF_8), 0, 7);
+    parser.parse(null);
+
+    List<HeavyHitters.Entry> top = parser.getTopFailures(10);
+    assertEquals(2, top.size());
+    assertEquals("speciez", top.get(0).getValue());
+    assertEquals(4, top.get(0).getCount());
+    assertEquals("gens", top.get(1).getValue());
+    assertEquals(2, top.get(1).getCount());
+
+    parser.setFailureTracking(0);
+    assertEquals(0, parser.getFailureTracking());
+    assertTrue(parser.getTopFailures(10).isEmpty());
+  }
+}
@@ -0,0 +1,55 @@
+package org.gbif.common.parsers.core;
+
+import com.google.common.base.Charsets;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class KeyNormalizerTest {
+
+  @Test
+  public void testNormalize() {
+    assertNull(KeyNormalizer.LETTERS.normalize(null));
+    assertEquals("", KeyNormalizer.LETTERS.normalize(""));
+    assertEquals("HALLO", KeyNormalizer.LETTERS.normalize(" (Hällö!)"));
+    assertEquals("HELLOMR", KeyNormalizer.LETTERS.normalize("hello_mr6"));
+    assertEquals("HELLOMR6", KeyNormalizer.ALPHANUMERIC.normalize("hello_mr6"));
+    assertEquals("HELLO_MR6", KeyNormalizer.WORD.normalize("hello_mr6"));
+    // multi character foldings and fullwidth forms
+    assertEquals("AEFI", KeyNormalizer.LETTERS.normalize("æﬁ"));
+    assertEquals("AB", KeyNormalizer.LETTERS.normalize("ＡＢ"));
+    // unmapped characters are dropped
+    assertEquals("", KeyNormalizer.WORD.normalize("北京"));
+  }
+
+  @Test
+  public void testAppendTo() {
+    StringBuilder sb = new StringBuilder("X");
+    KeyNormalizer.ALPHANUMERIC.appendTo(new StringBuilder("Ça va 2"), sb);
+    assertEquals("XCAVA2", sb.toString());
+  }
+
+  @Test
+  public void testAppendUtf8() {
+    String[] values = {"", "Hällö Bértöçkø", "hello_mr6", "æﬁ ＡＢ", "北京 Beijing", "⑽ ⁇", "a\uD83D\uDE00b", "ǅungla"};
+    for (KeyNormalizer normalizer : new KeyNormalizer[] {KeyNormalizer.LETTERS, KeyNormalizer.WORD}) {
+      for (String value : values) {
+        byte[] utf8 = ("~" + value + "~").getBytes(Charsets.UTF_8);
+        AsciiKeyBuffer key = new AsciiKeyBuffer(1);
+        normalizer.appendUtf8(utf8, 1, utf8.length - 2, key);
+        assertEquals(normalizer.normalize(value), key.toString());
+      }
+    }
+  }
+
+  @Test
+  public void testAppendMalformedUtf8() {
+    AsciiKeyBuffer key = new AsciiKeyBuffer(16);
+    // stray continuation byte, truncated sequence and an overlong encoding of the slash
+    byte[] utf8 = {'a', (byte) 0x80, 'b', (byte) 0xC3, 'c', (byte) 0xC0, (byte) 0xAF, (byte) 0xE2, (byte) 0x82};
+    KeyNormalizer.LETTERS.appendUtf8(utf8, 0, utf8.length, key);
+    assertEquals("ABC", key.toString());
+    assertEquals(new String(utf8, Charsets.UTF_8).replaceAll("[^a-z]", "").toUpperCase(), key.toString());
+  }
+}
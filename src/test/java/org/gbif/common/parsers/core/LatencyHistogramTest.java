@@ -0,0 +1,40 @@
+package org.gbif.common.parsers.core;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LatencyHistogramTest {
+
+  @Test
+  public void testBuckets() {
+    for (long v = 0; v < 100000; v++) {
+      int bucket = LatencyHistogram.bucket(v);
+      assertTrue(LatencyHistogram.lowerBound(bucket) <= v);
+      assertTrue(LatencyHistogram.lowerBound(bucket + 1) > v);
+    }
+    long max = Long.MAX_VALUE;
+    assertTrue(LatencyHistogram.lowerBound(LatencyHistogram.bucket(max)) <= max);
+  }
+
+  @Test
+  public void testPercentiles() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getValueAtPercentile(50));
+    for (int i = 1; i <= 1000; i++) {
+      histogram.record(i * 1000);
+    }
+    histogram.record(-1);
+    assertEquals(1000, histogram.getCount());
+    assertEquals(500500, histogram.getMean(), 0.1);
+    assertWithin(500000, histogram.getValueAtPercentile(50));
+    assertWithin(990000, histogram.getValueAtPercentile(99));
+    assertWithin(1000000, histogram.getValueAtPercentile(100));
+    assertWithin(1000, histogram.getValueAtPercentile(0));
+  }
+
+  private static void assertWithin(long expected, long actual) {
+    assertTrue("Expected about " + expected + " but was " + actual, Math.abs(expected - actual) <= expected / 16);
+  }
+}
@@ -0,0 +1,158 @@
+package org.gbif.common.parsers.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.google.common.base.Strings;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class MetricsTest {
+
+  @After
+  public void disable() {
+    Metrics.setSink(null);
+    Metrics.setListener(null, 0, TimeUnit.NANOSECONDS);
+    Metrics.setSampleRate(Metrics.DEFAULT_SAMPLE_RATE);
+  }
+
+  private static DictionaryBackedParser<Integer> parser() {
+    List<KeyValue<String, Integer>> source = new ArrayList<KeyValue<String, Integer>>();
+    source.add(new KeyValue<String, Integer>("Tim", 32));
+    DictionaryBackedParser<Integer> parser = new DictionaryBackedParser<Integer>(false);
+    parser.init(source.iterator());
+    return parser;
+  }
+
+  @Test
+  public void testDisabled() {
+    assertNull(Metrics.getSink());
+    ParseResult<Integer> result = ParseResult.fail();
+    assertSame(result, Metrics.record("test", result, Metrics.start()));
+  }
+
+  @Test
+  public void testCollect() {
+    CollectingMetricsSink sink = new CollectingMetricsSink();
+    Metrics.setSink(sink);
+    Metrics.setSampleRate(1);
+    DictionaryBackedParser<Integer> parser = parser();
+    parser.parse("Tim");
+    parser.parse("tim");
+    parser.parse("Tom");
+
+    ParserStats stats = sink.getStats("DictionaryBackedParser");
+    assertNotNull(stats);
+    assertEquals(3, stats.getCalls());
+    assertEquals(2, stats.getSuccesses());
+    assertEquals(2, stats.getSuccesses(ParseResult.CONFIDENCE.DEFINITE));
+    assertEquals(0, stats.getSuccesses(ParseResult.CONFIDENCE.PROBABLE));
+    assertEquals(1, stats.getFailures());
+    assertEquals(0, stats.getErrors());
+    assertEquals(3, stats.getLatency().getCount());
+    assertTrue(sink.getAllStats().containsKey("DictionaryBackedParser"));
+
+    sink.reset();
+    assertEquals(0, stats.getCalls());
+    assertEquals(0, stats.getLatency().getCount());
+  }
+
+  @Test
+  public void testSampling() {
+    CollectingMetricsSink sink = new CollectingMetricsSink();
+    Metrics.setSink(sink);
+    Metrics.setSampleRate(100);
+    assertEquals(64, Metrics.getSampleRate());
+    DictionaryBackedParser<Integer> parser = parser();
+    for (int i = 0; i < 640; i++) {
+      parser.parse("Tim");
+    }
+    ParserStats stats = sink.getStats("DictionaryBackedParser");
+    assertEquals(640, stats.getCalls());
+    assertEquals(10, stats.getLatency().getCount());
+
+    Metrics.setSampleRate(0);
+    parser.parse("Tim");
+    assertEquals(641, stats.getCalls());
+    assertEquals(10, stats.getLatency().getCount());
+  }
+
+  @Test
+  public void testSamplingPerThread() throws InterruptedException {
+    CollectingMetricsSink sink = new CollectingMetricsSink();
+    Metrics.setSink(sink);
+    final DictionaryBackedParser<Integer> parser = parser();
+    Thread[] threads = new Thread[4];
+    for (int t = 0; t < threads.length; t++) {
+      threads[t] = new Thread() {
+        @Override
+        public void run() {
+          for (int i = 0; i < Metrics.DEFAULT_SAMPLE_RATE; i++) {
+            parser.parse("Tim");
+          }
+        }
+      };
+      threads[t].start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    // each thread counts its own calls, so no call is lost and every thread times exactly one
+    ParserStats stats = sink.getStats("DictionaryBackedParser");
+    assertEquals(4 * Metrics.DEFAULT_SAMPLE_RATE, stats.getCalls());
+    assertEquals(4, stats.getLatency().getCount());
+  }
+
+  @Test
+  public void testListener() {
+    final List<ParseEvent> events = new ArrayList<ParseEvent>();
+    ParseEventListener listener = new ParseEventListener() {
+      @Override
+      public void onEvent(ParseEvent event) {
+        events.add(event);
+      }
+    };
+    DictionaryBackedParser<Integer> parser = parser();
+
+    Metrics.setListener(listener, 1, TimeUnit.HOURS);
+    assertTrue(Metrics.isListening());
+    parser.parse("Tim");
+    assertTrue(events.isEmpty());
+    Metrics.record("test", "bad input", ParseResult.error(new IllegalStateException()), Metrics.start());
+    assertEquals(1, events.size());
+    assertEquals("test", events.get(0).getParser());
+    assertEquals(ParseResult.STATUS.ERROR, events.get(0).getStatus());
+    assertTrue(events.get(0).getError() instanceof IllegalStateException);
+
+    events.clear();
+    Metrics.setListener(listener, 0, TimeUnit.NANOSECONDS);
+    String longInput = Strings.repeat("x", 500);
+    parser.parse(longInput);
+    assertEquals(1, events.size());
+    ParseEvent event = events.get(0);
+    assertEquals("DictionaryBackedParser", event.getParser());
+    assertEquals(500, event.getInputLength());
+    assertEquals(ParseEvent.MAX_SAMPLE_LENGTH, event.getSample().length());
+    assertEquals(ParseResult.STATUS.FAIL, event.getStatus());
+    assertTrue(event.getNanos() >= 0);
+
+    events.clear();
+    Metrics.record("test", "some tim here", 5, 8, ParseResult.fail(), Metrics.start());
+    assertEquals("tim", events.get(0).getSample());
+    assertEquals(3, events.get(0).getInputLength());
+
+    events.clear();
+    Metrics.setListener(null, 0, TimeUnit.NANOSECONDS);
+    assertFalse(Metrics.isListening());
+    parser.parse("Tim");
+    assertTrue(events.isEmpty());
+  }
+}
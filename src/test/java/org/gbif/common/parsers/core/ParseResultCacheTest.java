@@ -0,0 +1,123 @@
+package org.gbif.common.parsers.core;
+
+import com.google.common.base.Strings;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ParseResultCacheTest {
+
+  @Test
+  public void testAdmission() {
+    ParseResultCache<Integer> cache = new ParseResultCache<Integer>(2);
+    ParseResult<Integer> a = ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, 1);
+    ParseResult<Integer> b = ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, 2);
+    ParseResult<Integer> c = ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, 3);
+
+    // admitted while there is room
+    assertNull(cache.get("a"));
+    cache.put("a", a);
+    assertNull(cache.get("b"));
+    cache.put("b", b);
+    assertSame(a, cache.get("a"));
+
+    // a is referenced and gets a second chance, a one-off value seen as often as b does not replace b
+    assertNull(cache.get("c"));
+    cache.put("c", c);
+    assertNull(cache.get("c"));
+    // c has been seen more often than b by now
+    cache.put("c", c);
+    assertSame(c, cache.get("c"));
+    assertSame(a, cache.get("a"));
+    assertNull(cache.get("b"));
+
+    String tooLong = Strings.repeat("x", ParseResultCache.MAX_KEY_LENGTH + 1);
+    for (int i = 0; i < 3; i++) {
+      assertNull(cache.get(tooLong));
+      cache.put(tooLong, a);
+    }
+
+    assertEquals(3, cache.stats().hitCount());
+    assertEquals(8, cache.stats().missCount());
+    assertEquals(1, cache.stats().evictionCount());
+  }
+
+  @Test
+  public void testFill() {
+    ParseResultCache<Integer> cache = new ParseResultCache<Integer>(1000);
+    ParseResult<Integer> result = ParseResult.success(ParseResult.CONFIDENCE.DEFINITE, 1);
+    for (int i = 0; i < 1000; i++) {
+      cache.get("v" + i);
+      cache.put("v" + i, result);
+    }
+    // the hot value is referenced, one-off values seen as often as the others rarely get in
+    for (int i = 0; i < 10; i++) {
+      assertSame(result, cache.get("v0"));
+    }
+    for (int i = 1000; i < 2000; i++) {
+      cache.get("v" + i);
+      cache.put("v" + i, result);
+    }
+    assertSame(result, cache.get("v0"));
+    int hits = 0;
+    for (int i = 0; i < 1000; i++) {
+      if (cache.get("v" + i) != null) {
+        hits++;
+      }
+    }
+    // only collisions in the sketch let one-off values in
+    assertTrue(hits > 900);
+    assertEquals(1000 - hits, cache.stats().evictionCount());
+  }
+
+  @Test
+  public void testParserCache() {
+    DictionaryBackedParser<Integer> parser = new DictionaryBackedParser<Integer>(false);
+    parser.add("Tim", 32);
+    assertEquals(0, parser.getCacheSize());
+
+    parser.setCacheSize(10);
+    assertEquals(10, parser.getCacheSize());
+    for (int i = 0; i < 5; i++) {
+      assertEquals(Integer.valueOf(32), parser.parse("Tim").getPayload());
+      assertEquals(ParseResult.STATUS.FAIL, parser.parse("Tom").getStatus());
+    }
+    // the cache has room, so each input is cached on its first miss
+    assertEquals(2, parser.getCacheStats().missCount());
+    assertEquals(8, parser.getCacheStats().hitCount());
+
+    parser.setCacheSize(0);
+    assertEquals(0, parser.getCacheStats().requestCount());
+  }
+
+  @Test
+  public void testSketch() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    assertEquals(0, sketch.frequency("a"));
+    for (int i = 0; i < 20; i++) {
+      sketch.increment("a");
+    }
+    assertEquals(15, sketch.frequency("a"));
+
+    // reaching the sample size halves all counters
+    for (int i = 0; i < 200; i++) {
+      sketch.increment("k" + i);
+    }
+    assertTrue(sketch.frequency("a") < 15);
+  }
+
+  @Test
+  public void testSketchCollisions() {
+    FrequencySketch sketch = new FrequencySketch(16);
+    // same String hash code, but independent row hashes
+    assertEquals("Aa".hashCode(), "BB".hashCode());
+    for (int i = 0; i < 10; i++) {
+      sketch.increment("Aa");
+    }
+    assertEquals(10, sketch.frequency("Aa"));
+    assertEquals(0, sketch.frequency("BB"));
+  }
+}
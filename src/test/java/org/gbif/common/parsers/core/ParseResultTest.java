@@ -9,6 +9,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 
 public class ParseResultTest {
 
@@ -44,6 +45,7 @@ public class ParseResultTest {
     assertNull(ParseResult.fail().getConfidence());
     assertNull(ParseResult.fail().getError());
     assertNull(ParseResult.fail().getPayload());
+    assertSame(ParseResult.fail(), ParseResult.<Date>fail());
   }
 
   @Test
@@ -0,0 +1,148 @@
+package org.gbif.common.parsers.core;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import javax.management.JMX;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.junit.After;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ParserMonitorTest {
+
+  private static class AgeParser extends DictionaryBackedParser<Integer> {
+    AgeParser() {
+      super(false);
+      List<KeyValue<String, Integer>> source = new ArrayList<KeyValue<String, Integer>>();
+      source.add(new KeyValue<String, Integer>("Tim", 32));
+      source.add(new KeyValue<String, Integer>("Tom", 23));
+      init(source.iterator());
+    }
+  }
+
+  @After
+  public void disable() {
+    ParserMonitor.unregister("AgeParser");
+    Metrics.setSink(null);
+  }
+
+  @Test
+  public void testRegister() throws Exception {
+    AgeParser parser = new AgeParser();
+    parser.setCacheSize(10);
+    parser.setFailureTracking(10);
+
+    assertTrue(ParserMonitor.register(parser));
+    assertFalse(ParserMonitor.register(parser));
+    assertNull(Metrics.getSink());
+
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName name = ParserMonitor.objectName("AgeParser");
+    assertEquals("org.gbif.common.parsers:type=Parser,name=AgeParser", name.toString());
+    ParserMXBean bean = JMX.newMXBeanProxy(server, name, ParserMXBean.class);
+    assertFalse(bean.isParseCountAvailable());
+    assertEquals(-1, bean.getParseCount());
+    assertTrue(Double.isNaN(bean.getFailureRate()));
+
+    assertTrue(ParserMonitor.collectMetrics());
+    assertTrue(bean.isParseCountAvailable());
+    CollectingMetricsSink sink = (CollectingMetricsSink) Metrics.getSink();
+    parser.parse("Tim");
+    parser.parse("tim");
+    parser.parse("Tim");
+    parser.parse("Bob");
+    assertEquals("AgeParser", bean.getName());
+    assertEquals(2, bean.getEntryCount());
+    assertTrue(bean.getEstimatedHeapBytes() > 0);
+    assertNotNull(bean.getDictionaryHash());
+    assertEquals(4, bean.getParseCount());
+    assertEquals(1, bean.getFailureCount());
+    assertEquals(0.25, bean.getFailureRate(), 0.0001);
+    assertEquals(10, bean.getCacheSize());
+    assertEquals(4, bean.getCacheHitCount() + bean.getCacheMissCount());
+
+    String[] failures = bean.dumpTopFailures(5);
+    assertEquals(1, failures.length);
+    assertEquals("Bob\t1\t1", failures[0]);
+
+    bean.resetCounters();
+    assertEquals(0, bean.getParseCount());
+    assertEquals(0, bean.getFailureRate(), 0);
+    assertEquals(0, bean.getCacheHitCount() + bean.getCacheMissCount());
+    assertEquals(0, bean.dumpTopFailures(5).length);
+    // the shared sink keeps its stats
+    assertEquals(4, sink.getStats("AgeParser").getCalls());
+    parser.parse("Bob");
+    assertEquals(1, bean.getParseCount());
+    assertEquals(1, bean.getFailureCount());
+    assertEquals(1, bean.getCacheHitCount());
+    failures = bean.dumpTopFailures(5);
+    assertEquals(1, failures.length);
+    assertEquals("Bob\t1\t1", failures[0]);
+    // the parser keeps tracking its failures for other consumers
+    assertEquals(2, parser.getTopFailures(5).get(0).getCount());
+
+    ParserMonitor.unregister("AgeParser");
+    assertFalse(server.isRegistered(name));
+  }
+
+  @Test
+  public void testCacheReplaced() {
+    AgeParser parser = new AgeParser();
+    parser.setCacheSize(10);
+    ParserMonitor monitor = new ParserMonitor("AgeParser", parser);
+    parser.parse("Tim");
+    parser.parse("Tim");
+    monitor.resetCounters();
+    parser.parse("Tim");
+    assertEquals(1, monitor.getCacheHitCount());
+
+    // a new empty cache, the counts of the previous one are kept
+    parser.setFuzzyMatching(true);
+    parser.parse("Tim");
+    parser.parse("Tim");
+    assertEquals(2, monitor.getCacheHitCount());
+    assertEquals(1, monitor.getCacheMissCount());
+    parser.parse("Tim");
+    parser.setCacheSize(0);
+    parser.parse("Tim");
+    assertEquals(3, monitor.getCacheHitCount());
+    assertEquals(1, monitor.getCacheMissCount());
+
+    monitor.resetCounters();
+    assertEquals(0, monitor.getCacheHitCount() + monitor.getCacheMissCount());
+  }
+
+  @Test
+  public void testOtherSink() {
+    Metrics.setSink(new MetricsSink() {
+      @Override
+      public void record(String parser, ParseResult<?> result, long nanos) {
+      }
+    });
+    assertFalse(ParserMonitor.collectMetrics());
+    ParserMonitor monitor = new ParserMonitor("AgeParser", new AgeParser());
+    assertFalse(monitor.isParseCountAvailable());
+    assertEquals(-1, monitor.getFailureCount());
+    assertTrue(Double.isNaN(monitor.getMeanLatencyNanos()));
+  }
+
+  @Test
+  public void testDictionaryHash() {
+    ParserMonitor first = new ParserMonitor("AgeParser", new AgeParser());
+    ParserMonitor second = new ParserMonitor("AgeParser", new AgeParser());
+    assertEquals(first.getDictionaryHash(), second.getDictionaryHash());
+
+    ParserMonitor other = new ParserMonitor("ASCIIParser", ASCIIParser.getInstance());
+    assertEquals(0, other.getEntryCount());
+    assertEquals(0, other.dumpTopFailures(5).length);
+  }
+}
@@ -0,0 +1,63 @@
+package org.gbif.common.parsers.date;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link DateFormatHintInference}.
+ */
+public class DateFormatHintInferenceTest {
+
+  private static DateFormatHintInference.Result infer(String... values) {
+    DateFormatHintInference inference = new DateFormatHintInference();
+    for (String value : values) {
+      inference.add(value);
+    }
+    return inference.getResult();
+  }
+
+  @Test
+  public void testDayMonthYear() {
+    DateFormatHintInference.Result result = infer("03/04/2005", "25/04/2005", "01.02.2003", "", null, "2005-04-03");
+    assertEquals(DateFormatHint.DMY, result.getHint());
+    assertEquals(1d, result.getConfidence(), 0.0001);
+    assertEquals(4, result.getSampleSize());
+    assertEquals(3, result.getParsableCount());
+    assertEquals(2, result.getAmbiguousCount());
+  }
+
+  @Test
+  public void testMonthDayYear() {
+    DateFormatHintInference.Result result = infer("04/03/2005", "04/25/2005", "12/31/1999", "31/12/1999");
+    assertEquals(DateFormatHint.MDY, result.getHint());
+    assertEquals(0.75, result.getConfidence(), 0.0001);
+  }
+
+  @Test
+  public void testUndecided() {
+    assertEquals(DateFormatHint.NONE, infer("03/04/2005", "01/02/2003").getHint());
+    assertEquals(DateFormatHint.NONE, infer("25/04/2005", "04/25/2005").getHint());
+    assertEquals(DateFormatHint.NONE, infer().getHint());
+    assertEquals(0d, infer("2005-04-03").getConfidence(), 0.0001);
+  }
+
+  @Test
+  public void testSampleSize() {
+    DateFormatHintInference inference = new DateFormatHintInference(DateParsers.defaultNumericalDateParser(), 2,
+      DateFormatHint.DMY, DateFormatHint.MDY);
+    assertTrue(inference.add("03/04/2005"));
+    assertTrue(inference.add(" "));
+    assertFalse(inference.add("25/04/2005"));
+    assertTrue(inference.isComplete());
+    assertFalse(inference.add("04/25/2005"));
+    assertEquals(DateFormatHint.DMY, inference.getResult().getHint());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSingleCandidate() {
+    new DateFormatHintInference(DateParsers.defaultNumericalDateParser(), 10, DateFormatHint.DMY);
+  }
+}
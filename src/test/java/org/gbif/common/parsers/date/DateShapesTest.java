@@ -0,0 +1,99 @@
+package org.gbif.common.parsers.date;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link DateShapes}.
+ */
+public class DateShapesTest {
+
+  private static boolean matches(Pattern pattern, String input) {
+    return pattern.matcher(DateShapes.shapeOf(input)).matches();
+  }
+
+  @Test
+  public void testShapeOf() {
+    assertEquals("00/00/0000", DateShapes.shapeOf("21/12/1978"));
+    assertEquals("0000-00-00T00:00Z", DateShapes.shapeOf("1978-12-21T02:12Z"));
+    assertEquals("0000年00月00日", DateShapes.shapeOf("1978年12月21日"));
+    assertEquals("", DateShapes.shapeOf(""));
+  }
+
+  @Test
+  public void testSignature() {
+    char[] alphabet = DateShapes.alphabet(Arrays.asList(DateShapes.compile("d.M.uuuu", null, null),
+      DateShapes.compile("d/M/uuuu", null, null)));
+    assertEquals("00.00.0000", DateShapes.shapeOf("21.12.1978", alphabet));
+    assertEquals("00" + DateShapes.OTHER + "00" + DateShapes.OTHER + "0000", DateShapes.shapeOf("21_12 1978", alphabet));
+
+    // digit runs of the same length and characters of the same class share a signature
+    long signature = DateShapes.signature("21.12.1978", alphabet);
+    assertEquals(signature, DateShapes.signature("01.01.2000", alphabet));
+    assertFalse(signature == DateShapes.signature("21/12/1978", alphabet));
+    assertFalse(signature == DateShapes.signature("1.12.1978", alphabet));
+    assertEquals(DateShapes.signature("21_12 1978", alphabet), DateShapes.signature("21 12a1978", alphabet));
+
+    String shape = DateShapes.shapeOf("21_12 1978", alphabet);
+    assertTrue(DateShapes.hasShape("01 01a2000", shape, alphabet));
+    assertFalse(DateShapes.hasShape("01.01a2000", shape, alphabet));
+    assertFalse(DateShapes.hasShape("01 01a200", shape, alphabet));
+  }
+
+  @Test
+  public void testCompile() {
+    Pattern dmy = DateShapes.compile("d.M.uuuu", null, null);
+    assertTrue(matches(dmy, "21.12.1978"));
+    assertTrue(matches(dmy, "1.2.1978"));
+    assertTrue(matches(dmy, "1.2.-1978"));
+    assertFalse(matches(dmy, "21/12/1978"));
+    assertFalse(matches(dmy, "21.12.78"));
+
+    Pattern compact = DateShapes.compile("uuuuMMdd", null, null);
+    assertTrue(matches(compact, "19781221"));
+    assertFalse(matches(compact, "1978122"));
+
+    Pattern optional = DateShapes.compile("uuuu-M-d'T'HH[:mm[:ss]]", null, null);
+    assertTrue(matches(optional, "1978-12-21T02"));
+    assertTrue(matches(optional, "1978-12-21T02:12"));
+    assertTrue(matches(optional, "1978-12-21T02:12:43"));
+    assertFalse(matches(optional, "1978-12-21T02:12:"));
+
+    Pattern offset = DateShapes.compile("uuuu-M-d'T'HH:mm:ssxxx", null, null);
+    assertTrue(matches(offset, "1978-12-21T02:12:43+01:00"));
+    assertTrue(matches(offset, "1978-12-21T02:12:43Z"));
+    assertFalse(matches(offset, "1978-12-21T02:12:43"));
+
+    Pattern twoDigits = DateShapes.compile("ddMMuu", null, null);
+    assertTrue(matches(twoDigits, "211278"));
+    assertFalse(matches(twoDigits, "21121978"));
+
+    assertNull(DateShapes.compile("dd MMM uuuu", null, null));
+    assertNull(DateShapes.compile("uuuu-MM-dd VV", null, null));
+  }
+
+  @Test
+  public void testCompileWithSeparators() {
+    Pattern slash = DateShapes.compile("d/M/uuuu", "/", "-−");
+    assertTrue(matches(slash, "21/12/1978"));
+    assertTrue(matches(slash, "21-12-1978"));
+    assertTrue(matches(slash, "21−12−1978"));
+    assertFalse(matches(slash, "21.12.1978"));
+
+    Pattern hyphen = DateShapes.compile("uuuu-M-d[ HH:mm:ss]", "-", "−.");
+    assertTrue(matches(hyphen, "1978.12.21"));
+    assertTrue(matches(hyphen, "−1978-12-21"));
+    assertTrue(matches(hyphen, "1978-12-21 02:12:43"));
+
+    // the alternative of a literal separator never reaches the formatter
+    Pattern dot = DateShapes.compile("uuuu.M", "-", ".");
+    assertFalse(matches(dot, "1978.12"));
+  }
+}
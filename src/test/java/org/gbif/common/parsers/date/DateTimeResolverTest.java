@@ -0,0 +1,79 @@
+package org.gbif.common.parsers.date;
+
+import org.junit.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+import org.threeten.bp.format.DateTimeFormatter;
+import org.threeten.bp.format.ResolverStyle;
+import org.threeten.bp.temporal.TemporalQuery;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link DateTimeResolver}.
+ */
+public class DateTimeResolverTest {
+
+  private static final TemporalQuery<?>[] BEST_TYPES = new TemporalQuery<?>[]{ZonedDateTime.FROM,
+    LocalDateTime.FROM, LocalDate.FROM, YearMonth.FROM, Year.FROM};
+
+  private static DateTimeFormatter strict(String pattern) {
+    return DateTimeFormatter.ofPattern(pattern).withResolverStyle(ResolverStyle.STRICT);
+  }
+
+  @Test
+  public void testSupports() {
+    TemporalQuery<?>[] date = new TemporalQuery<?>[]{LocalDate.FROM};
+    assertTrue(DateTimeResolver.supports("uuuu-M-d", ResolverStyle.STRICT, date));
+    assertTrue(DateTimeResolver.supports("d.M.uu", ResolverStyle.SMART, date));
+    assertTrue(DateTimeResolver.supports("uuuu-M-d'T'HH:mm:ssxxx", ResolverStyle.STRICT, date));
+    assertFalse(DateTimeResolver.supports("uuuu-M-d'T'HH:mm", ResolverStyle.SMART, date));
+    assertFalse(DateTimeResolver.supports("yyyy-M-d", ResolverStyle.STRICT, date));
+    assertFalse(DateTimeResolver.supports("uuuu-MMM-d", ResolverStyle.STRICT, date));
+    assertFalse(DateTimeResolver.supports("uuuu-M-d", ResolverStyle.LENIENT, date));
+    assertFalse(DateTimeResolver.supports("uuuu-M-d", ResolverStyle.STRICT, new TemporalQuery<?>[]{LocalDate.FROM,
+      org.threeten.bp.OffsetDateTime.FROM}));
+  }
+
+  @Test
+  public void testParse() {
+    DateTimeFormatter formatter = strict("uuuu-M-d[ HH:mm:ss]");
+    assertEquals(LocalDate.of(1978, 12, 21), DateTimeResolver.parse(formatter, "1978-12-21", BEST_TYPES));
+    assertEquals(LocalDateTime.of(1978, 12, 21, 2, 12, 43),
+      DateTimeResolver.parse(formatter, "1978-12-21 02:12:43", BEST_TYPES));
+    assertNull(DateTimeResolver.parse(formatter, "1978-12-21 02:12", BEST_TYPES));
+    assertNull(DateTimeResolver.parse(formatter, "1978-02-30", BEST_TYPES));
+    assertNull(DateTimeResolver.parse(formatter, "1978-12-21 24:00:00", BEST_TYPES));
+    assertNull(DateTimeResolver.parse(formatter, "21/12/1978", BEST_TYPES));
+
+    assertEquals(ZonedDateTime.of(1978, 12, 21, 2, 12, 43, 0, ZoneOffset.ofHours(1)),
+      DateTimeResolver.parse(strict("uuuu-M-d'T'HH:mm:ssxxx"), "1978-12-21T02:12:43+01:00", BEST_TYPES));
+    assertEquals(ZonedDateTime.of(1978, 12, 21, 2, 12, 0, 0, ZoneOffset.UTC),
+      DateTimeResolver.parse(strict("uuuu-M-d'T'HH:mm[:ss]'Z'").withZone(ZoneOffset.UTC), "1978-12-21T02:12Z",
+        BEST_TYPES));
+    assertEquals(LocalDateTime.of(1978, 12, 21, 2, 0),
+      DateTimeResolver.parse(strict("uuuu-M-d'T'HH[:mm[:ss]]"), "1978-12-21T02", BEST_TYPES));
+
+    DateTimeFormatter yearMonth = strict("uuuu[-M]");
+    assertEquals(YearMonth.of(1978, 12), DateTimeResolver.parse(yearMonth, "1978-12", BEST_TYPES));
+    // like parseBest, an invalid month without a day still gives the year
+    assertEquals(Year.of(1978), DateTimeResolver.parse(yearMonth, "1978-13", BEST_TYPES));
+  }
+
+  @Test
+  public void testDayOfMonth() {
+    assertEquals(29, DateTimeResolver.dayOfMonth(2000, 2, 29, ResolverStyle.STRICT));
+    assertEquals(-1, DateTimeResolver.dayOfMonth(1900, 2, 29, ResolverStyle.STRICT));
+    assertEquals(28, DateTimeResolver.dayOfMonth(1900, 2, 29, ResolverStyle.SMART));
+    assertEquals(-1, DateTimeResolver.dayOfMonth(1978, 4, 32, ResolverStyle.SMART));
+    assertEquals(-1, DateTimeResolver.dayOfMonth(1978, 13, 1, ResolverStyle.STRICT));
+    assertEquals(-1, DateTimeResolver.dayOfMonth(1978, 0, 1, ResolverStyle.STRICT));
+  }
+}
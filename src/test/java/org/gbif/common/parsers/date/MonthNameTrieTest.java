@@ -0,0 +1,41 @@
+package org.gbif.common.parsers.date;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit test for {@link MonthNameTrie}.
+ */
+public class MonthNameTrieTest {
+
+  private static final MonthNameTrie MONTH_NAMES = MonthNameTrie.getInstance();
+
+  private static int get(String name) {
+    return MONTH_NAMES.get(name, 0, name.length());
+  }
+
+  @Test
+  public void testGet() {
+    assertEquals(1, get("January"));
+    assertEquals(1, get("JAN"));
+    assertEquals(1, get("jan."));
+    assertEquals(9, get("Sept"));
+    assertEquals(9, get("s."));
+    assertEquals(11, get("Novermber"));
+    assertEquals(5, get("May"));
+
+    assertEquals(0, get(""));
+    assertEquals(0, get("."));
+    assertEquals(0, get("jan.."));
+    assertEquals(0, get("janu"));
+    assertEquals(0, get(" jan"));
+  }
+
+  @Test
+  public void testGetRegion() {
+    String date = "2nd jan. 1999";
+    assertEquals(1, MONTH_NAMES.get(date, 4, 8));
+    assertEquals(0, MONTH_NAMES.get(date, 3, 8));
+  }
+}
@@ -0,0 +1,78 @@
+package org.gbif.common.parsers.date;
+
+import org.gbif.common.parsers.core.ParseResult;
+
+import org.junit.Test;
+import org.threeten.bp.LocalDate;
+import org.threeten.bp.LocalDateTime;
+import org.threeten.bp.Year;
+import org.threeten.bp.YearMonth;
+import org.threeten.bp.ZoneOffset;
+import org.threeten.bp.ZonedDateTime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit test for {@link PackedDate} and the {@link PackedDateParser} implementations.
+ */
+public class PackedDateTest {
+
+  @Test
+  public void testPack() {
+    long packedDate = PackedDate.pack(1978, 12, 31, 23, 59, 58, PackedDate.RESOLUTION_SECOND,
+      ParseResult.CONFIDENCE.PROBABLE);
+    assertTrue(PackedDate.isSuccessful(packedDate));
+    assertEquals(1978, PackedDate.getYear(packedDate));
+    assertEquals(12, PackedDate.getMonth(packedDate));
+    assertEquals(31, PackedDate.getDay(packedDate));
+    assertEquals(23, PackedDate.getHour(packedDate));
+    assertEquals(59, PackedDate.getMinute(packedDate));
+    assertEquals(58, PackedDate.getSecond(packedDate));
+    assertEquals(PackedDate.RESOLUTION_SECOND, PackedDate.getResolution(packedDate));
+    assertEquals(ParseResult.CONFIDENCE.PROBABLE, PackedDate.getConfidence(packedDate));
+    assertEquals("1978-12-31T23:59:58 PROBABLE", PackedDate.toString(packedDate));
+
+    packedDate = PackedDate.pack(-44, 3, 0, 0, 0, 0, PackedDate.RESOLUTION_MONTH, null);
+    assertEquals(-44, PackedDate.getYear(packedDate));
+    assertEquals(3, PackedDate.getMonth(packedDate));
+    assertNull(PackedDate.getConfidence(packedDate));
+    assertEquals(ParseResult.CONFIDENCE.DEFINITE,
+      PackedDate.getConfidence(PackedDate.withConfidence(packedDate, ParseResult.CONFIDENCE.DEFINITE)));
+    assertEquals(YearMonth.of(-44, 3), PackedDate.toTemporalAccessor(packedDate));
+
+    assertFalse(PackedDate.isSuccessful(PackedDate.FAIL));
+    assertEquals(PackedDate.FAIL, PackedDate.withConfidence(PackedDate.FAIL, ParseResult.CONFIDENCE.DEFINITE));
+    assertNull(PackedDate.toTemporalAccessor(PackedDate.FAIL));
+    assertEquals("FAIL", PackedDate.toString(PackedDate.FAIL));
+  }
+
+  @Test
+  public void testPackTemporalAccessor() {
+    assertEquals(Year.of(1978), PackedDate.toTemporalAccessor(PackedDate.pack(Year.of(1978))));
+    assertEquals(LocalDate.of(1978, 12, 21), PackedDate.toTemporalAccessor(PackedDate.pack(LocalDate.of(1978, 12, 21))));
+    assertEquals(LocalDateTime.of(1978, 12, 21, 2, 12, 43), PackedDate.toTemporalAccessor(
+      PackedDate.pack(ZonedDateTime.of(1978, 12, 21, 2, 12, 43, 0, ZoneOffset.ofHours(1)))));
+  }
+
+  @Test
+  public void testParsePacked() {
+    PackedDateParser parser = DateParsers.defaultPackedDateParser();
+    assertEquals("1978-12-21 DEFINITE", PackedDate.toString(parser.parsePacked("1978-12-21")));
+    assertEquals("1978-12 DEFINITE", PackedDate.toString(parser.parsePacked("1978-12")));
+    assertEquals("1978-12-21T02 DEFINITE", PackedDate.toString(parser.parsePacked("1978-12-21T02")));
+    assertEquals("1978-12-21T02:12:43 DEFINITE", PackedDate.toString(parser.parsePacked("1978-12-21T02:12:43+01:00")));
+    assertEquals("1978-12-21 DEFINITE", PackedDate.toString(parser.parsePacked("21/12/1978")));
+    assertEquals("1978-04-03 PROBABLE", PackedDate.toString(parser.parsePacked("03.04.1978")));
+    assertEquals("1978-03-04 DEFINITE", PackedDate.toString(parser.parsePacked("03/04/1978", DateFormatHint.MDY)));
+    assertEquals("1999-01-02 DEFINITE", PackedDate.toString(parser.parsePacked("2nd jan. 1999")));
+
+    assertEquals(PackedDate.FAIL, parser.parsePacked("03/04/1978"));
+    assertEquals(PackedDate.FAIL, parser.parsePacked("1978-02-30"));
+    assertEquals(PackedDate.FAIL, parser.parsePacked("30 feb 1978"));
+    assertEquals(PackedDate.FAIL, parser.parsePacked(" "));
+    assertEquals(PackedDate.FAIL, parser.parsePacked(null));
+  }
+}
@@ -1,5 +1,7 @@
 package org.gbif.common.parsers.date;
 
+import org.gbif.common.parsers.core.CollectingMetricsSink;
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.ParseResult;
 
 import org.junit.Test;
@@ -83,4 +85,28 @@ public class TextDateParserTest {
     parseResult = TEXTDATE_PARSER.parse("1879", "a", "1");
     assertFalse(parseResult.isSuccessful());
   }
+
+  @Test
+  public void testRegionParsing(){
+    String line = "x|2nd jan. 2018|1978-1-1T00:00|  ";
+    assertEquals(LocalDate.of(2018, Month.JANUARY, 2), LocalDate.from(TEXTDATE_PARSER.parse(line, 2, 15).getPayload()));
+    assertEquals(LocalDate.of(1978, Month.JANUARY, 1), LocalDate.from(TEXTDATE_PARSER.parse(line, 16, 30).getPayload()));
+    assertFalse(TEXTDATE_PARSER.parse(line, 31, 33).isSuccessful());
+  }
+
+  @Test
+  public void testMetrics() {
+    CollectingMetricsSink sink = new CollectingMetricsSink();
+    Metrics.setSink(sink);
+    try {
+      TEXTDATE_PARSER.parse("2018-01-02");
+      TEXTDATE_PARSER.parse("2nd jan. 2018");
+      TEXTDATE_PARSER.parsePacked("2018-01-02");
+      // numerical dates are recorded once, not again by the numerical parser delegated to
+      assertEquals(3, sink.getStats("TextDateParser").getSuccesses());
+      assertEquals(1, sink.getAllStats().size());
+    } finally {
+      Metrics.setSink(null);
+    }
+  }
 }
@@ -13,6 +13,7 @@ import com.google.common.base.Function;
 import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -99,4 +100,26 @@ public class TextualMonthDateTokenizerTest {
             dateTokens.getToken(TextualMonthDateTokenizer.TokenType.INT_4));
     assertTrue(dateTokens.containsDiscardedTokens());
   }
+
+  /**
+   * Day suffixes are dropped from the tokens, the values are resolved while scanning.
+   */
+  @Test
+  public void testDateTokenizerValues(){
+    TextualMonthDateTokenizer.DateTokens dateTokens = DATE_TOKENIZER.tokenize("2nd jan. 1999");
+    assertEquals(3, dateTokens.size());
+    assertEquals("2", dateTokens.getToken(TextualMonthDateTokenizer.TokenType.INT_2).getToken());
+    assertEquals(2, dateTokens.getToken(TextualMonthDateTokenizer.TokenType.INT_2).getValue());
+    assertEquals("jan.", dateTokens.getToken(TextualMonthDateTokenizer.TokenType.TEXT).getToken());
+    assertEquals(1, dateTokens.getToken(TextualMonthDateTokenizer.TokenType.TEXT).getValue());
+    assertEquals(1999, dateTokens.getToken(TextualMonthDateTokenizer.TokenType.INT_4).getValue());
+
+    dateTokens = DATE_TOKENIZER.tokenize("1st2 Foo, 21.12.1978");
+    assertEquals(new TextualMonthDateTokenizer.DateToken("12", TextualMonthDateTokenizer.TokenType.INT_2),
+            dateTokens.getToken(TextualMonthDateTokenizer.TokenType.INT_2));
+    assertEquals(0, dateTokens.getToken(TextualMonthDateTokenizer.TokenType.TEXT).getValue());
+    // 21121978 is neither an INT_2 nor an INT_4
+    assertEquals(2, dateTokens.size());
+    assertFalse(dateTokens.containsDiscardedTokens());
+  }
 }
@@ -143,4 +143,13 @@ public class CoordinateParseUtilsTest {
       assertTrue(pr.getIssues().contains(iss));
     }
   }
+
+  @Test
+  public void testParseLatLngRegion() {
+    String line = "x\t-46,33\t51,8717\t10.3\t99.99\t02° 49' 52\" N\t131° 47' 03\" E";
+    assertExpected(CoordinateParseUtils.parseLatLng(line, 2, 8, 9, 16), new LatLng(-46.33, 51.8717), ParseResult.CONFIDENCE.DEFINITE);
+    assertExpected(CoordinateParseUtils.parseLatLng(line, 17, 21, 22, 27), new LatLng(10.3, 99.99), ParseResult.CONFIDENCE.DEFINITE);
+    assertExpected(CoordinateParseUtils.parseLatLng(line, 28, 41, 42, line.length()), new LatLng(2.83111d, 131.78417d), ParseResult.CONFIDENCE.DEFINITE);
+    assertEquals(ParseResult.STATUS.FAIL, CoordinateParseUtils.parseLatLng(line, 2, 2, 9, 16).getStatus());
+  }
 }
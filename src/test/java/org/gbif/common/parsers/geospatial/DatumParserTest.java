@@ -1,6 +1,8 @@
 package org.gbif.common.parsers.geospatial;
 
 import org.gbif.common.parsers.ParserTestBase;
+import org.gbif.common.parsers.core.CollectingMetricsSink;
+import org.gbif.common.parsers.core.Metrics;
 import org.gbif.common.parsers.core.ParseResult;
 
 import java.io.BufferedReader;
@@ -12,6 +14,7 @@ import com.google.common.base.Charsets;
 import com.google.common.collect.Sets;
 import org.junit.Test;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -50,6 +53,19 @@ public class DatumParserTest extends ParserTestBase<Integer> {
     assertParseSuccess(6760, "World Geodetic System 1966");
   }
 
+  @Test
+  public void testMetrics() {
+    CollectingMetricsSink sink = new CollectingMetricsSink();
+    Metrics.setSink(sink);
+    try {
+      assertParseSuccess(4269, "EPSG:4269");
+      assertParseSuccess(6269, "NAD83");
+      assertEquals(2, sink.getStats("DatumParser").getSuccesses());
+    } finally {
+      Metrics.setSink(null);
+    }
+  }
+
   /**
    * Parse all unique datum values found and make sure parsing doesn't get worse.
    * If the test file is updated, values here need to be adjusted!